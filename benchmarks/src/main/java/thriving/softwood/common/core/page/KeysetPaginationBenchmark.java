@@ -0,0 +1,125 @@
+package thriving.softwood.common.core.page;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 📏 嵌入式 H2 上的分页：OFFSET 对比 keyset (seek)，翻到第 page 页时单页的耗时
+ * <p>
+ * t_order 共 {@value #ROWS} 行，(create_time, id) 上建联合索引，排序为 create_time DESC, id DESC。 keyset 的游标取自上一页的最后一行，
+ * 由 {@link KeysetSeek#cursorOf(List)} 构造，谓词与参数来自 {@link KeysetSeek#predicate()} / {@link KeysetSeek#bindValues(KeysetCursor)}。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class KeysetPaginationBenchmark {
+
+    private static final int ROWS = 500_000;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final KeysetSeek SEEK =
+        KeysetSeek.of(KeysetSeek.Column.desc("create_time"), KeysetSeek.Column.desc("id"));
+
+    /** 页码 (从 0 开始) */
+    @Param({"0", "100", "5000", "20000"})
+    public int page;
+
+    private Connection connection;
+
+    private PreparedStatement offsetQuery;
+
+    private PreparedStatement keysetQuery;
+
+    /** 第 page 页之前最后一行的排序键，第 0 页时为 null */
+    private List<Object> bindValues;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:keyset-" + page + ";DB_CLOSE_DELAY=-1");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("create table t_order (id bigint primary key, user_id bigint, amount bigint, create_time bigint)");
+            // 约 10 行共享同一个 create_time，验证末列 id 的去重作用
+            ddl.execute("insert into t_order select x, mod(x, 1000), mod(x * 7, 10000), x / 10 from system_range(1, "
+                + ROWS + ")");
+            ddl.execute("create index idx_order_time_id on t_order (create_time, id)");
+            ddl.execute("analyze");
+        }
+        String select = "select id, user_id, amount, create_time from t_order ";
+        offsetQuery = connection.prepareStatement(select + "order by " + SEEK.orderBy() + " limit ? offset ?");
+        keysetQuery = connection.prepareStatement(
+            select + (page > 0 ? "where " + SEEK.predicate() + " " : "") + "order by " + SEEK.orderBy() + " limit ?");
+
+        if (page > 0) {
+            offsetQuery.setInt(1, 1);
+            offsetQuery.setInt(2, page * PAGE_SIZE - 1);
+            try (ResultSet last = offsetQuery.executeQuery()) {
+                last.next();
+                KeysetCursor cursor = SEEK.cursorOf(List.of(last.getLong("create_time"), last.getLong("id")));
+                // 与真实请求一致：游标经令牌往返
+                bindValues = SEEK.bindValues(KeysetCursor.decode(cursor.encode(), SEEK));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement drop = connection.createStatement()) {
+            drop.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void offset(Blackhole blackhole) throws SQLException {
+        offsetQuery.setInt(1, PAGE_SIZE + 1);
+        offsetQuery.setInt(2, page * PAGE_SIZE);
+        consume(offsetQuery, blackhole);
+    }
+
+    @Benchmark
+    public void keyset(Blackhole blackhole) throws SQLException {
+        int index = 1;
+        if (bindValues != null) {
+            for (Object value : bindValues) {
+                keysetQuery.setObject(index++, value);
+            }
+        }
+        keysetQuery.setInt(index, PAGE_SIZE + 1);
+        consume(keysetQuery, blackhole);
+    }
+
+    private static void consume(PreparedStatement query, Blackhole blackhole) throws SQLException {
+        try (ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                blackhole.consume(rows.getLong(1));
+            }
+        }
+    }
+}
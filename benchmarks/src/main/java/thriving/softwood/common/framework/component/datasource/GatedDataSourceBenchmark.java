@@ -0,0 +1,144 @@
+package thriving.softwood.common.framework.component.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 📏 数千个虚拟线程争抢一个 H2 连接池：直接向 Hikari 取连接 对比 经 {@link GatedDataSource} 排队后再取
+ * <p>
+ * Setup 启动 callers 个虚拟线程持续循环「取连接 → select 1 → 归还」，池与闸门均为 {@value #POOL_SIZE} 个连接/许可。
+ * 被测方法以同样的操作作为其中一个调用方：
+ * <ul>
+ * <li>SampleTime：单次取连接到归还的耗时分布，p99 / p99.9 即争抢下的尾部等待</li>
+ * <li>Throughput：测量线程自身的吞吐，辅助计数 completed 为全部虚拟线程调用方的总吞吐</li>
+ * </ul>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class GatedDataSourceBenchmark {
+
+    private static final int POOL_SIZE = 16;
+
+    /** 是否经过闸门 */
+    @Param({"false", "true"})
+    public boolean gated;
+
+    /** 并发的虚拟线程调用方数量 */
+    @Param({"1000", "5000"})
+    public int callers;
+
+    private final LongAdder completed = new LongAdder();
+
+    private HikariDataSource pool;
+
+    private DataSource dataSource;
+
+    private ExecutorService load;
+
+    private volatile boolean running;
+
+    @Setup
+    public void setup() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:gate;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        config.setConnectionTimeout(Duration.ofSeconds(30).toMillis());
+        pool = new HikariDataSource(config);
+        dataSource = gated
+            ? new GatedDataSource(pool, "benchmark", POOL_SIZE, Duration.ofSeconds(30), new SimpleMeterRegistry())
+            : pool;
+
+        running = true;
+        load = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < callers; i++) {
+            load.execute(() -> {
+                while (running) {
+                    try {
+                        query(dataSource);
+                        completed.increment();
+                    } catch (SQLException e) {
+                        // 超时等瞬时失败不计入吞吐，继续下一轮
+                    }
+                }
+            });
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        running = false;
+        load.shutdown();
+        load.awaitTermination(1, TimeUnit.MINUTES);
+        pool.close();
+    }
+
+    @Benchmark
+    public int acquire(Callers counters) throws SQLException {
+        int result = query(dataSource);
+        counters.completed = completed.sum() - counters.baseline;
+        return result;
+    }
+
+    private static int query(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("select 1")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    /**
+     * 虚拟线程调用方在本轮迭代中完成的次数，JMH 按迭代时长折算为吞吐
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Callers {
+
+        public long completed;
+
+        private long baseline;
+
+        @Setup(Level.Iteration)
+        public void reset(GatedDataSourceBenchmark benchmark) {
+            baseline = benchmark.completed.sum();
+            completed = 0;
+        }
+    }
+}
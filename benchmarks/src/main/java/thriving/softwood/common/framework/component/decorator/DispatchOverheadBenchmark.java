@@ -0,0 +1,93 @@
+package thriving.softwood.common.framework.component.decorator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+/**
+ * 📏 未采样快速路径：采样率 0% / 10% / 100% 下单次派发 (decorate + 执行) 的开销
+ * <p>
+ * 预先按采样率创建一组根 Span，每次调用轮流把其中一个放入作用域后派发，未采样链路的比例与采样率一致。
+ * fastPath=false 为原行为 (每次派发都创建子 Span)；衔接日志取默认的 SAMPLED，未配置 Log4j2 时 INFO 不输出，只剩级别判断。
+ * 任务在当前线程内直接执行，不含线程切换；不挂 Exporter。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class DispatchOverheadBenchmark {
+
+    private static final int PARENTS = 1024;
+
+    @Param({"0.0", "0.1", "1.0"})
+    public double samplingRate;
+
+    @Param({"true", "false"})
+    public boolean fastPath;
+
+    private SdkTracerProvider tracerProvider;
+
+    private Tracer tracer;
+
+    private MicrometerTracingDecorator decorator;
+
+    private Span[] parents;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        tracerProvider = SdkTracerProvider.builder()
+            .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(samplingRate))).build();
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        tracer = new OtelTracer(tracerProvider.get("benchmark"), currentTraceContext, event -> {},
+            new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+        decorator = new MicrometerTracingDecorator(tracer, MicrometerTracingDecorator.DispatchLog.SAMPLED, fastPath);
+        parents = new Span[PARENTS];
+        for (int i = 0; i < PARENTS; i++) {
+            parents[i] = tracer.nextSpan().name("parent").start();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (Span parent : parents) {
+            parent.end();
+        }
+        tracerProvider.close();
+    }
+
+    @Benchmark
+    public void dispatch(Blackhole blackhole) {
+        Span parent = parents[next++ & (PARENTS - 1)];
+        try (Tracer.SpanInScope ws = tracer.withSpan(parent)) {
+            decorator.decorate(() -> blackhole.consume(tracer.currentSpan())).run();
+        }
+    }
+}
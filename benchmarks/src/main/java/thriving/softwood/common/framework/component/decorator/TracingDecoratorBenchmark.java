@@ -0,0 +1,124 @@
+package thriving.softwood.common.framework.component.decorator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.EventListener;
+import io.micrometer.tracing.otel.bridge.EventPublishingContextWrapper;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.micrometer.tracing.otel.bridge.Slf4JBaggageEventListener;
+import io.micrometer.tracing.otel.bridge.Slf4JEventListener;
+import io.opentelemetry.context.ContextStorage;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import thriving.softwood.common.framework.component.context.ScopedTraceContext;
+import thriving.softwood.common.framework.component.context.ScopedTraceContextDataProvider;
+import thriving.softwood.common.observability.component.tracing.TraceFlagsMdcEventListener;
+
+/**
+ * 📏 一次派发 (decorate + 在子任务中执行) 的开销：THREAD_LOCAL 对比 SCOPED_VALUE
+ * <p>
+ * 任务在当前线程内直接执行，只测上下文的捕获与恢复，不含线程切换。sampled 控制父链路是否被采样 (未采样时走快速路径)；
+ * 不挂 Exporter，已采样的 Span 结束后直接丢弃。
+ * <p>
+ * 与 Spring Boot 的装配一致，作用域事件经 EventPublishingContextWrapper 发给真实的 Slf4JEventListener、
+ * Slf4JBaggageEventListener 与 TraceFlagsMdcEventListener，THREAD_LOCAL 模式的 MDC 写入计入开销。
+ * dispatchAndLog 在任务内再取一次日志事件的上下文数据 (ContextDataProvider + MDC 快照)，SCOPED_VALUE 模式的按需桥接成本计入其中。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class TracingDecoratorBenchmark {
+
+    private static final List<EventListener> LISTENERS = List.of(new Slf4JEventListener(),
+        new Slf4JBaggageEventListener(List.of()), new TraceFlagsMdcEventListener());
+
+    private static final OtelTracer.EventPublisher PUBLISHER = event -> {
+        for (EventListener listener : LISTENERS) {
+            listener.onEvent(event);
+        }
+    };
+
+    static {
+        // 必须先于第一次访问 OTel Context 注册 (Spring Boot 在创建 OtelCurrentTraceContext 时同样如此)
+        ContextStorage.addWrapper(new EventPublishingContextWrapper(PUBLISHER));
+    }
+
+    private final ScopedTraceContextDataProvider contextDataProvider = new ScopedTraceContextDataProvider();
+
+    @Param({"THREAD_LOCAL", "SCOPED_VALUE"})
+    public MicrometerTracingDecorator.Propagation propagation;
+
+    @Param({"true", "false"})
+    public boolean sampled;
+
+    private SdkTracerProvider tracerProvider;
+
+    private Tracer tracer;
+
+    private MicrometerTracingDecorator decorator;
+
+    private Span parent;
+
+    private Tracer.SpanInScope parentScope;
+
+    @Setup
+    public void setup() {
+        tracerProvider = SdkTracerProvider.builder()
+            .setSampler(Sampler.parentBased(sampled ? Sampler.alwaysOn() : Sampler.alwaysOff()))
+            .build();
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        tracer = new OtelTracer(tracerProvider.get("benchmark"), currentTraceContext, PUBLISHER,
+            new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+        decorator = new MicrometerTracingDecorator(tracer, MicrometerTracingDecorator.DispatchLog.OFF, true,
+            propagation);
+        // Scope.Thread 的 Setup 由测量线程执行，父 Span 的作用域对每次调用都可见
+        parent = tracer.nextSpan().name("parent").start();
+        parentScope = tracer.withSpan(parent);
+    }
+
+    @TearDown
+    public void tearDown() {
+        parentScope.close();
+        parent.end();
+        tracerProvider.close();
+    }
+
+    @Benchmark
+    public void dispatch(Blackhole blackhole) {
+        decorator.decorate(() -> blackhole.consume(ScopedTraceContext.currentSpan(tracer))).run();
+    }
+
+    @Benchmark
+    public void dispatchAndLog(Blackhole blackhole) {
+        decorator.decorate(() -> {
+            blackhole.consume(contextDataProvider.supplyContextData());
+            blackhole.consume(ThreadContext.getImmutableContext());
+        }).run();
+    }
+}
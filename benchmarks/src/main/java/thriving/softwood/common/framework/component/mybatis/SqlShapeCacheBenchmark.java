@@ -0,0 +1,93 @@
+package thriving.softwood.common.framework.component.mybatis;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 📏 动态 SQL 的 getBoundSql：原始 DynamicSqlSource (OGNL 求值 + #{} 解析) 对比 {@link ShapeCachingSqlSource} 命中
+ * <p>
+ * 语句为常见的多条件查询 (6 个 {@code <if>})，shape 参数控制传入多少个非空条件。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class SqlShapeCacheBenchmark {
+
+    private static final String SCRIPT = """
+        <script>
+        select id, user_id, status, amount, created_at from t_order
+        <where>
+          <if test="userId != null">and user_id = #{userId}</if>
+          <if test="status != null and status != ''">and status = #{status}</if>
+          <if test="channel != null and channel != ''">and channel = #{channel}</if>
+          <if test="minAmount != null">and amount &gt;= #{minAmount}</if>
+          <if test="maxAmount != null">and amount &lt;= #{maxAmount}</if>
+          <if test="createdAfter != null">and created_at &gt;= #{createdAfter}</if>
+        </where>
+        order by id desc
+        </script>
+        """;
+
+    /** 非空条件个数 */
+    @Param({"1", "3", "6"})
+    public int shape;
+
+    private SqlSource dynamic;
+
+    private SqlSource cached;
+
+    private Map<String, Object> parameter;
+
+    @Setup
+    public void setup() {
+        Configuration configuration = new Configuration();
+        dynamic = new XMLLanguageDriver().createSqlSource(configuration, SCRIPT, Map.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cached = ShapeCachingSqlSource.wrap(dynamic, configuration, 64, registry.counter("hit"),
+            registry.counter("miss"), registry.counter("bypass"));
+
+        parameter = new HashMap<>();
+        Object[] values = {42L, "PAID", "APP", 100L, 10_000L, "2026-01-01"};
+        String[] names = {"userId", "status", "channel", "minAmount", "maxAmount", "createdAfter"};
+        for (int i = 0; i < names.length; i++) {
+            parameter.put(names[i], i < shape ? values[i] : null);
+        }
+        // 预热形态缓存
+        cached.getBoundSql(parameter);
+    }
+
+    @Benchmark
+    public BoundSql dynamicSqlSource() {
+        return dynamic.getBoundSql(parameter);
+    }
+
+    @Benchmark
+    public BoundSql shapeCachingSqlSource() {
+        return cached.getBoundSql(parameter);
+    }
+}
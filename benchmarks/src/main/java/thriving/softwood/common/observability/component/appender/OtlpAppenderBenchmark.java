@@ -0,0 +1,184 @@
+package thriving.softwood.common.observability.component.appender;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AsyncAppender;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.DefaultConfiguration;
+import org.apache.logging.log4j.core.impl.ContextDataFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.util.StringMap;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.instrumentation.log4j.appender.v2_17.OpenTelemetryAppender;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor;
+import io.opentelemetry.sdk.logs.export.LogRecordExporter;
+
+/**
+ * 📏 OTLP 日志上报：{@link DisruptorOtlpAppender} (OTEL_DISRUPTOR) 对比 {@code <Async>} + {@code <OpenTelemetry>} (OTEL_ASYNC)
+ * <p>
+ * 两种 Appender 按 log4j2-prod.xml 的参数以编程方式构建 (环 8192 / 队列 4096，均不阻塞调用方)，下游共用同一个
+ * BatchLogRecordProcessor 与计数导出器，差异只在交接方式。多个业务线程并发 append：
+ * <ul>
+ * <li>append 行是调用方吞吐。队列满时两者都直接丢弃，丢得越多 append 返回越快，这一行不能单独作为结论</li>
+ * <li>辅助计数 delivered 是实际送达导出器的条数按迭代时长折算的吞吐，两种方案以这一行对比</li>
+ * </ul>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class OtlpAppenderBenchmark {
+
+    @Param({"OTEL_ASYNC", "OTEL_DISRUPTOR"})
+    public String appender;
+
+    private final LongAdder exported = new LongAdder();
+
+    private final AtomicBoolean reporterClaimed = new AtomicBoolean();
+
+    private OpenTelemetrySdk openTelemetry;
+
+    private DefaultConfiguration configuration;
+
+    private Appender target;
+
+    private LogEvent event;
+
+    @Setup
+    public void setup() {
+        openTelemetry = OpenTelemetrySdk.builder()
+            .setLoggerProvider(SdkLoggerProvider.builder()
+                .addLogRecordProcessor(BatchLogRecordProcessor.builder(new CountingExporter(exported)).build())
+                .build())
+            .build();
+
+        configuration = new DefaultConfiguration();
+        if ("OTEL_ASYNC".equals(appender)) {
+            OpenTelemetryAppender core =
+                OpenTelemetryAppender.builder().setName("OTEL_CORE").setOpenTelemetry(openTelemetry).build();
+            core.start();
+            configuration.addAppender(core);
+            target = AsyncAppender.newBuilder()
+                .setName("OTEL_ASYNC")
+                .setBlocking(false)
+                .setBufferSize(4096)
+                .setAppenderRefs(new AppenderRef[] {AppenderRef.createAppenderRef("OTEL_CORE", null, null)})
+                .setConfiguration(configuration)
+                .build();
+        } else {
+            DisruptorOtlpAppender.install(openTelemetry, new SimpleMeterRegistry());
+            target = DisruptorOtlpAppender.newBuilder().setName("OTEL_DISRUPTOR").build();
+        }
+        target.start();
+
+        // 与业务线程上 Micrometer + ScopedTraceContextDataProvider 写入的上下文数据一致
+        StringMap contextData = ContextDataFactory.createContextData();
+        contextData.putValue("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+        contextData.putValue("spanId", "00f067aa0ba902b7");
+        contextData.putValue("traceFlags", "01");
+        contextData.freeze();
+        event = Log4jLogEvent.newBuilder()
+            .setLoggerName("thriving.softwood.sample.OrderService")
+            .setLevel(Level.INFO)
+            .setMessage(new SimpleMessage("order 42 paid, amount=100, channel=APP"))
+            .setThreadName("http-nio-8080-exec-1")
+            .setContextData(contextData)
+            .setTimeMillis(System.currentTimeMillis())
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        target.stop(5, TimeUnit.SECONDS);
+        configuration.getAppenders().values().forEach(each -> each.stop(5, TimeUnit.SECONDS));
+        openTelemetry.getSdkLoggerProvider().shutdown().join(5, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void append(Delivered delivered) {
+        target.append(event);
+        if (delivered.reporter) {
+            delivered.delivered = exported.sum() - delivered.baseline;
+        }
+    }
+
+    /**
+     * 本轮迭代中送达导出器的条数，JMH 按迭代时长折算为吞吐。各线程的计数会被求和，因此只由一个线程上报全局值
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Delivered {
+
+        public long delivered;
+
+        private boolean reporter;
+
+        private long baseline;
+
+        @Setup
+        public void claim(OtlpAppenderBenchmark benchmark) {
+            reporter = benchmark.reporterClaimed.compareAndSet(false, true);
+        }
+
+        @Setup(Level.Iteration)
+        public void reset(OtlpAppenderBenchmark benchmark) {
+            baseline = benchmark.exported.sum();
+            delivered = 0;
+        }
+    }
+
+    /**
+     * 只计数的导出器，排除网络与序列化开销
+     */
+    private record CountingExporter(LongAdder exported) implements LogRecordExporter {
+
+        @Override
+        public CompletableResultCode export(Collection<LogRecordData> logs) {
+            exported.add(logs.size());
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package thriving.softwood.common.cache.component.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import io.lettuce.core.RedisURI;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import thriving.softwood.common.cache.component.near.NearCacheManager;
+import thriving.softwood.common.cache.component.store.InMemoryRemoteCacheStore;
+import thriving.softwood.common.cache.component.store.LettuceRemoteCacheStore;
+import thriving.softwood.common.cache.component.store.RemoteCacheStore;
+import thriving.softwood.common.framework.component.decorator.MicrometerTracingDecorator;
+
+/**
+ * 🗄️ 两级缓存配置 (thriving.cache.near.*)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(NearCacheProperties.class)
+public class NearCacheConfig {
+
+    /**
+     * L2 存储：默认使用进程内替身，thriving.cache.near.redis.enabled=true 时连接 Redis
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public RemoteCacheStore remoteCacheStore(NearCacheProperties nearCacheProperties) {
+        NearCacheProperties.Redis redis = nearCacheProperties.getRedis();
+        if (!redis.isEnabled()) {
+            return new InMemoryRemoteCacheStore();
+        }
+        RedisURI redisUri = RedisURI.create(redis.getUri());
+        redisUri.setTimeout(redis.getTimeout());
+        return new LettuceRemoteCacheStore(redisUri);
+    }
+
+    /**
+     * 两级缓存管理器：L1 加载与 L2 回调后的处理在带链路装饰的虚拟线程上执行
+     */
+    @Bean(destroyMethod = "close")
+    public NearCacheManager nearCacheManager(RemoteCacheStore remoteCacheStore, NearCacheProperties nearCacheProperties,
+        MicrometerTracingDecorator asyncTracingDecorator, ObjectProvider<MeterRegistry> meterRegistry) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("near-cache-vt-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(asyncTracingDecorator);
+        return new NearCacheManager(remoteCacheStore, nearCacheProperties,
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), executor);
+    }
+}
@@ -0,0 +1,49 @@
+package thriving.softwood.common.cache.component.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 两级缓存配置项 (前缀: thriving.cache.near)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.cache.near")
+public class NearCacheProperties {
+
+    /** 每个 L1 缓存的最大条目数 */
+    private long l1MaximumSize = 10_000;
+
+    /** L1 写入后过期时长，作为失效消息丢失时的兜底，应明显短于 l2Ttl */
+    private Duration l1ExpireAfterWrite = Duration.ofSeconds(30);
+
+    /** L2 (Redis) 中缓存值的 TTL */
+    private Duration l2Ttl = Duration.ofMinutes(10);
+
+    /** L2 键前缀，完整键为 keyPrefix + cacheName + ":" + key */
+    private String keyPrefix = "thriving:cache:";
+
+    /** 跨节点失效广播频道 */
+    private String channel = "thriving:cache:invalidation";
+
+    /** Redis 连接配置 */
+    private Redis redis = new Redis();
+
+    @Data
+    public static class Redis {
+
+        /** 是否连接 Redis；默认关闭，使用进程内存储 (InMemoryRemoteCacheStore)，引入本模块不会在启动时连接 Redis */
+        private boolean enabled = false;
+
+        /** 连接地址，密码可写在 URI 中：redis://:password@localhost:6379/0 */
+        private String uri = "redis://localhost:6379";
+
+        /** 命令超时 */
+        private Duration timeout = Duration.ofSeconds(2);
+    }
+}
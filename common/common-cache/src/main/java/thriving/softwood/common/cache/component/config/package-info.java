@@ -0,0 +1,5 @@
+/**
+ * 两级缓存配置
+ */
+
+package thriving.softwood.common.cache.component.config;
@@ -0,0 +1,33 @@
+package thriving.softwood.common.cache.component.near;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * L2 缓存值编解码器
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public interface CacheCodec<V> {
+
+    byte[] encode(V value);
+
+    V decode(byte[] bytes);
+
+    /**
+     * UTF-8 字符串编解码器
+     */
+    static CacheCodec<String> string() {
+        return new CacheCodec<>() {
+            @Override
+            public byte[] encode(String value) {
+                return value.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String decode(byte[] bytes) {
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package thriving.softwood.common.cache.component.near;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import thriving.softwood.common.cache.component.store.RemoteCacheStore;
+
+/**
+ * 🗄️ 两级缓存：L1 Caffeine 近端缓存 + L2 远端存储 (Redis)
+ * <p>
+ * 读取顺序 L1 -> L2 -> loader，同一节点上同一个键的并发未命中由 L1 合并为一次加载。 写入与删除会通过 {@link NearCacheManager}
+ * 广播失效消息，其余节点收到后清除各自的 L1。 L1 的 TTL 应明显短于 L2，作为失效消息丢失或与加载竞态时的兜底。
+ * loader 的结果仅在 L2 中不存在该键时回填 (SET NX)，慢加载不会覆盖期间 put 写入的新值。
+ * <p>
+ * L2 的回调运行在 Lettuce 的 I/O 线程上，后续的解码与 loader 均切换到虚拟线程执行，避免阻塞事件循环。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class NearCache<V> {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCache.class);
+
+    @Getter
+    private final String name;
+
+    private final AsyncCache<String, V> l1;
+
+    private final RemoteCacheStore l2;
+
+    private final CacheCodec<V> codec;
+
+    private final Duration l2Ttl;
+
+    private final String keyPrefix;
+
+    private final Executor executor;
+
+    private final NearCacheManager manager;
+
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+    private final Counter l2Error;
+
+    NearCache(String name, AsyncCache<String, V> l1, RemoteCacheStore l2, CacheCodec<V> codec, Duration l2Ttl,
+        String keyPrefix, Executor executor, NearCacheManager manager, MeterRegistry registry) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.codec = codec;
+        this.l2Ttl = l2Ttl;
+        this.keyPrefix = keyPrefix + name + ":";
+        this.executor = executor;
+        this.manager = manager;
+        this.l2Hit = l2Counter(registry, "hit");
+        this.l2Miss = l2Counter(registry, "miss");
+        this.l2Error = l2Counter(registry, "error");
+    }
+
+    /**
+     * 读取缓存，两级均未命中时调用 loader 并回填
+     *
+     * @param loader 返回 null 表示不存在，不会被缓存
+     */
+    public CompletableFuture<V> get(String key, Function<String, CompletableFuture<V>> loader) {
+        return l1.get(key, (k, l1Executor) -> loadThroughL2(k, loader));
+    }
+
+    /**
+     * 写入两级缓存并通知其他节点失效
+     */
+    public CompletableFuture<Void> put(String key, V value) {
+        l1.put(key, CompletableFuture.completedFuture(value));
+        return l2.put(remoteKey(key), codec.encode(value), l2Ttl)
+            .thenCompose(ignored -> manager.publishInvalidation(name, key));
+    }
+
+    /**
+     * 删除两级缓存并通知其他节点失效
+     */
+    public CompletableFuture<Void> evict(String key) {
+        l1.synchronous().invalidate(key);
+        return l2.evict(remoteKey(key)).thenCompose(ignored -> manager.publishInvalidation(name, key));
+    }
+
+    /**
+     * 仅清除本节点的 L1，由失效消息触发
+     */
+    void invalidateLocal(String key) {
+        l1.synchronous().invalidate(key);
+    }
+
+    private CompletableFuture<V> loadThroughL2(String key, Function<String, CompletableFuture<V>> loader) {
+        String remoteKey = remoteKey(key);
+        return l2.get(remoteKey).handleAsync((bytes, error) -> {
+            if (error != null) {
+                // L2 不可用时降级为直接加载，缓存层故障不应放大为业务故障
+                l2Error.increment();
+                logger.warn("⚠️ Near cache '{}' L2 read failed, falling back to loader: {}", name, error.getMessage());
+                return loader.apply(key);
+            }
+            if (bytes != null) {
+                l2Hit.increment();
+                return CompletableFuture.completedFuture(codec.decode(bytes));
+            }
+            l2Miss.increment();
+            return loader.apply(key)
+                .thenCompose(value -> value == null ? CompletableFuture.completedFuture(null) : fill(remoteKey, value));
+        }, executor).thenCompose(Function.identity());
+    }
+
+    /**
+     * 以 SET NX 回填加载结果。加载期间若 {@link #put} 已写入更新的值 (或其他节点先完成了回填)，放弃回填并以 L2 中的值为准，
+     * 避免慢加载用旧值覆盖新值；只有显式 put 才无条件覆盖 L2
+     */
+    private CompletableFuture<V> fill(String remoteKey, V value) {
+        return l2.putIfAbsent(remoteKey, codec.encode(value), l2Ttl)
+            .thenCompose(stored -> stored ? CompletableFuture.completedFuture(value)
+                : l2.get(remoteKey).thenApplyAsync(bytes -> bytes == null ? value : codec.decode(bytes), executor))
+            .handle((result, fillError) -> {
+                if (fillError != null) {
+                    l2Error.increment();
+                    return value;
+                }
+                return result;
+            });
+    }
+
+    private String remoteKey(String key) {
+        return keyPrefix + key;
+    }
+
+    private Counter l2Counter(MeterRegistry registry, String result) {
+        return Counter.builder("cache.near.l2").description("两级缓存 L1 未命中后访问 L2 的结果").tag("cache", name)
+            .tag("result", result).register(registry);
+    }
+}
@@ -0,0 +1,114 @@
+package thriving.softwood.common.cache.component.near;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import thriving.softwood.common.cache.component.config.NearCacheProperties;
+import thriving.softwood.common.cache.component.store.RemoteCacheStore;
+
+/**
+ * 🗄️ 两级缓存管理器：按名称创建 {@link NearCache}，并负责跨节点的 L1 失效广播
+ * <p>
+ * 失效消息格式为 {@code cacheName|nodeId|key}，节点忽略自己发出的消息。
+ *
+ * <pre>
+ * NearCache&lt;String&gt; configs = nearCacheManager.cache("remote-config", CacheCodec.string());
+ * String value = configs.get(configKey, key -&gt; remoteClient.fetch(key)).join();
+ * </pre>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class NearCacheManager implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCacheManager.class);
+
+    private static final String SEPARATOR = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RemoteCacheStore store;
+
+    private final NearCacheProperties properties;
+
+    private final MeterRegistry registry;
+
+    private final Executor executor;
+
+    private final Map<String, NearCache<?>> caches = new ConcurrentHashMap<>();
+
+    private final AutoCloseable subscription;
+
+    private final Counter invalidationSent;
+
+    private final Counter invalidationReceived;
+
+    public NearCacheManager(RemoteCacheStore store, NearCacheProperties properties, MeterRegistry registry,
+        Executor executor) {
+        this.store = store;
+        this.properties = properties;
+        this.registry = registry;
+        this.executor = executor;
+        this.invalidationSent = Counter.builder("cache.near.invalidations").description("两级缓存失效消息数")
+            .tag("direction", "sent").register(registry);
+        this.invalidationReceived = Counter.builder("cache.near.invalidations").description("两级缓存失效消息数")
+            .tag("direction", "received").register(registry);
+        this.subscription = store.subscribe(properties.getChannel(), this::onInvalidation);
+    }
+
+    /**
+     * 获取 (必要时创建) 指定名称的两级缓存
+     */
+    @SuppressWarnings("unchecked")
+    public <V> NearCache<V> cache(String name, CacheCodec<V> codec) {
+        if (name.contains(SEPARATOR)) {
+            throw new IllegalArgumentException("Near cache name must not contain '" + SEPARATOR + "': " + name);
+        }
+        return (NearCache<V>)caches.computeIfAbsent(name, n -> create(n, codec));
+    }
+
+    CompletableFuture<Void> publishInvalidation(String name, String key) {
+        invalidationSent.increment();
+        return store.publish(properties.getChannel(), name + SEPARATOR + nodeId + SEPARATOR + key);
+    }
+
+    @Override
+    public void close() throws Exception {
+        subscription.close();
+    }
+
+    private <V> NearCache<V> create(String name, CacheCodec<V> codec) {
+        AsyncCache<String, V> l1 = Caffeine.newBuilder().maximumSize(properties.getL1MaximumSize())
+            .expireAfterWrite(properties.getL1ExpireAfterWrite()).executor(executor).recordStats().buildAsync();
+        CaffeineCacheMetrics.monitor(registry, l1, "near." + name, Tags.empty());
+        return new NearCache<>(name, l1, store, codec, properties.getL2Ttl(), properties.getKeyPrefix(), executor, this,
+            registry);
+    }
+
+    private void onInvalidation(String message) {
+        // 键本身可能包含分隔符，因此最多切分为 3 段
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[1])) {
+            return;
+        }
+        NearCache<?> cache = caches.get(parts[0]);
+        if (cache != null) {
+            invalidationReceived.increment();
+            cache.invalidateLocal(parts[2]);
+            logger.debug("🧹 Near cache '{}' invalidated key {} from node {}", parts[0], parts[2], parts[1]);
+        }
+    }
+}
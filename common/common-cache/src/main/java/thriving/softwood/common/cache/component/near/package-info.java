@@ -0,0 +1,5 @@
+/**
+ * L1 近端缓存与跨节点失效
+ */
+
+package thriving.softwood.common.cache.component.near;
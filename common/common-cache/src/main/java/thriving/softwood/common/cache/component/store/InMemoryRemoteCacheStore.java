@@ -0,0 +1,106 @@
+package thriving.softwood.common.cache.component.store;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 进程内 L2 存储：Redis 的替身，用于本地开发与单元测试
+ * <p>
+ * 语义与 {@link LettuceRemoteCacheStore} 保持一致 (TTL、批量读取、Pub/Sub 广播含自身)，多个 NearCacheManager 共享同一实例即可模拟多节点。
+ * 过期键在读取时惰性清理。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class InMemoryRemoteCacheStore implements RemoteCacheStore {
+
+    private record Entry(byte[] value, long expireAtNanos) {
+
+        boolean expired(long now) {
+            return now - expireAtNanos >= 0;
+        }
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public CompletableFuture<byte[]> get(String key) {
+        return CompletableFuture.completedFuture(read(key, System.nanoTime()));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, byte[]>> getAll(Collection<String> keys) {
+        long now = System.nanoTime();
+        Map<String, byte[]> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            byte[] value = read(key, now);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return CompletableFuture.completedFuture(result);
+    }
+
+    @Override
+    public CompletableFuture<Void> put(String key, byte[] value, Duration ttl) {
+        entries.put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> putIfAbsent(String key, byte[] value, Duration ttl) {
+        long now = System.nanoTime();
+        Entry entry = new Entry(value, now + ttl.toNanos());
+        // 已过期的旧值视为不存在，与 Redis 的过期语义一致
+        Entry current =
+            entries.compute(key, (k, existing) -> existing == null || existing.expired(now) ? entry : existing);
+        return CompletableFuture.completedFuture(current == entry);
+    }
+
+    @Override
+    public CompletableFuture<Void> evict(String key) {
+        entries.remove(key);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(String channel, String message) {
+        listeners.getOrDefault(channel, List.of()).forEach(listener -> listener.accept(message));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public AutoCloseable subscribe(String channel, Consumer<String> listener) {
+        List<Consumer<String>> channelListeners =
+            listeners.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>());
+        channelListeners.add(listener);
+        return () -> channelListeners.remove(listener);
+    }
+
+    @Override
+    public void close() {
+        entries.clear();
+        listeners.clear();
+    }
+
+    private byte[] read(String key, long now) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expired(now)) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+}
@@ -0,0 +1,144 @@
+package thriving.softwood.common.cache.component.store;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+
+/**
+ * 基于 Lettuce 的 L2 存储
+ * <p>
+ * 全部命令共享一条线程安全的多路复用连接：成千上万个 {@code @VtAsync} 调用方并发发出的命令会在同一条 TCP 连接上自然流水线化
+ * (pipelining)，不存在连接池按线程数膨胀的问题；批量读取使用 MGET 一次往返完成。 跨节点失效消息使用独立的 Pub/Sub 连接。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class LettuceRemoteCacheStore implements RemoteCacheStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(LettuceRemoteCacheStore.class);
+
+    private final RedisClient client;
+
+    private final StatefulRedisConnection<String, byte[]> connection;
+
+    private final RedisAsyncCommands<String, byte[]> commands;
+
+    private final StatefulRedisPubSubConnection<String, String> pubSubConnection;
+
+    private final Map<String, CopyOnWriteArrayList<Consumer<String>>> listeners = new LinkedHashMap<>();
+
+    public LettuceRemoteCacheStore(RedisURI redisUri) {
+        this.client = RedisClient.create(redisUri);
+        this.connection = client.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+        this.commands = connection.async();
+        this.pubSubConnection = client.connectPubSub();
+        this.pubSubConnection.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String channel, String message) {
+                dispatch(channel, message);
+            }
+        });
+        logger.info("🔌 Redis L2 store connected: {}:{}", redisUri.getHost(), redisUri.getPort());
+    }
+
+    @Override
+    public CompletableFuture<byte[]> get(String key) {
+        return commands.get(key).toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<Map<String, byte[]>> getAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        return commands.mget(keys.toArray(String[]::new)).toCompletableFuture().thenApply(values -> {
+            Map<String, byte[]> result = new LinkedHashMap<>();
+            values.forEach(kv -> {
+                if (kv.hasValue()) {
+                    result.put(kv.getKey(), kv.getValue());
+                }
+            });
+            return result;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> put(String key, byte[] value, Duration ttl) {
+        return commands.psetex(key, ttl.toMillis(), value).toCompletableFuture().thenAccept(ok -> {});
+    }
+
+    @Override
+    public CompletableFuture<Boolean> putIfAbsent(String key, byte[] value, Duration ttl) {
+        // 键已存在时 SET NX 返回 null
+        return commands.set(key, value, SetArgs.Builder.nx().px(ttl.toMillis())).toCompletableFuture()
+            .thenApply("OK"::equals);
+    }
+
+    @Override
+    public CompletableFuture<Void> evict(String key) {
+        return commands.del(key).toCompletableFuture().thenAccept(count -> {});
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(String channel, String message) {
+        // 消息通过数据连接发布，订阅连接只负责接收
+        return commands.publish(channel, message.getBytes(StandardCharsets.UTF_8)).toCompletableFuture()
+            .thenAccept(receivers -> {});
+    }
+
+    @Override
+    public synchronized AutoCloseable subscribe(String channel, Consumer<String> listener) {
+        CopyOnWriteArrayList<Consumer<String>> channelListeners = listeners.get(channel);
+        if (channelListeners == null) {
+            channelListeners = new CopyOnWriteArrayList<>();
+            listeners.put(channel, channelListeners);
+            pubSubConnection.sync().subscribe(channel);
+        }
+        channelListeners.add(listener);
+        CopyOnWriteArrayList<Consumer<String>> registered = channelListeners;
+        return () -> registered.remove(listener);
+    }
+
+    @Override
+    public void close() {
+        pubSubConnection.close();
+        connection.close();
+        client.shutdown();
+    }
+
+    private void dispatch(String channel, String message) {
+        CopyOnWriteArrayList<Consumer<String>> channelListeners;
+        synchronized (this) {
+            channelListeners = listeners.get(channel);
+        }
+        if (channelListeners == null) {
+            return;
+        }
+        for (Consumer<String> listener : channelListeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                logger.warn("⚠️ Cache invalidation listener failed on channel {}", channel, e);
+            }
+        }
+    }
+}
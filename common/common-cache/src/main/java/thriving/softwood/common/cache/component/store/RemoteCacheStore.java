@@ -0,0 +1,55 @@
+package thriving.softwood.common.cache.component.store;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * L2 远端缓存存储抽象
+ * <p>
+ * 所有读写均为异步接口：调用方 (通常是虚拟线程) 在 {@link CompletableFuture#join()} 上挂起时不会占用载体线程，
+ * 也无需为每个调用方线程准备一条连接。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public interface RemoteCacheStore extends AutoCloseable {
+
+    /**
+     * @return 缓存值，不存在时为 null
+     */
+    CompletableFuture<byte[]> get(String key);
+
+    /**
+     * 批量读取，一次往返完成
+     *
+     * @return 仅包含存在的键
+     */
+    CompletableFuture<Map<String, byte[]>> getAll(Collection<String> keys);
+
+    CompletableFuture<Void> put(String key, byte[] value, Duration ttl);
+
+    /**
+     * 仅在键不存在时写入 (Redis: SET key value NX PX)，供加载回填使用，不会覆盖并发写入的新值
+     *
+     * @return 是否写入成功；键已存在时为 false
+     */
+    CompletableFuture<Boolean> putIfAbsent(String key, byte[] value, Duration ttl);
+
+    CompletableFuture<Void> evict(String key);
+
+    /**
+     * 向所有节点广播消息 (包括自身)
+     */
+    CompletableFuture<Void> publish(String channel, String message);
+
+    /**
+     * 订阅频道，关闭返回值即取消订阅
+     */
+    AutoCloseable subscribe(String channel, Consumer<String> listener);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,5 @@
+/**
+ * L2 远端缓存存储
+ */
+
+package thriving.softwood.common.cache.component.store;
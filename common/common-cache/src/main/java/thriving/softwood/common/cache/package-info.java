@@ -0,0 +1,4 @@
+/**
+ * 两级缓存 (L1 近端缓存 + L2 Redis)
+ */
+package thriving.softwood.common.cache;
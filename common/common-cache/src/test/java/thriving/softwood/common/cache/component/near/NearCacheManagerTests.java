@@ -0,0 +1,108 @@
+package thriving.softwood.common.cache.component.near;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import thriving.softwood.common.cache.component.config.NearCacheProperties;
+import thriving.softwood.common.cache.component.store.InMemoryRemoteCacheStore;
+
+class NearCacheManagerTests {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    /** 两个节点共享同一个进程内 L2 */
+    private final InMemoryRemoteCacheStore store = new InMemoryRemoteCacheStore();
+
+    private final NearCacheProperties properties = new NearCacheProperties();
+
+    private final SimpleMeterRegistry registryA = new SimpleMeterRegistry();
+
+    private final SimpleMeterRegistry registryB = new SimpleMeterRegistry();
+
+    private final NearCacheManager nodeA = new NearCacheManager(store, properties, registryA, DIRECT);
+
+    private final NearCacheManager nodeB = new NearCacheManager(store, properties, registryB, DIRECT);
+
+    @AfterEach
+    void close() throws Exception {
+        nodeA.close();
+        nodeB.close();
+        store.close();
+    }
+
+    @Test
+    void putOnOneNodeInvalidatesTheOtherNodesL1() {
+        NearCache<String> cacheA = nodeA.cache("config", CacheCodec.string());
+        NearCache<String> cacheB = nodeB.cache("config", CacheCodec.string());
+
+        assertThat(cacheB.get("timeout", key -> CompletableFuture.completedFuture("3s")).join()).isEqualTo("3s");
+
+        cacheA.put("timeout", "5s").join();
+
+        // B 的 L1 已被清除，重新从 L2 读到新值，loader 不会被调用
+        assertThat(cacheB.get("timeout", NearCacheManagerTests::unexpectedLoad).join()).isEqualTo("5s");
+        assertThat(cacheA.get("timeout", NearCacheManagerTests::unexpectedLoad).join()).isEqualTo("5s");
+        assertThat(invalidations(registryB, "received")).isEqualTo(1);
+        // 自己发出的消息被忽略
+        assertThat(invalidations(registryA, "received")).isZero();
+    }
+
+    @Test
+    void evictOnOneNodeForcesReloadOnTheOther() {
+        NearCache<String> cacheA = nodeA.cache("config", CacheCodec.string());
+        NearCache<String> cacheB = nodeB.cache("config", CacheCodec.string());
+        cacheA.put("timeout", "3s").join();
+        assertThat(cacheB.get("timeout", NearCacheManagerTests::unexpectedLoad).join()).isEqualTo("3s");
+
+        cacheA.evict("timeout").join();
+
+        assertThat(cacheB.get("timeout", key -> CompletableFuture.completedFuture("reloaded")).join())
+            .isEqualTo("reloaded");
+    }
+
+    @Test
+    void invalidationOnlyAffectsTheNamedCache() {
+        NearCache<String> configA = nodeA.cache("config", CacheCodec.string());
+        NearCache<String> configB = nodeB.cache("config", CacheCodec.string());
+        NearCache<String> dictB = nodeB.cache("dict", CacheCodec.string());
+        configB.get("k", key -> CompletableFuture.completedFuture("config")).join();
+        dictB.get("k", key -> CompletableFuture.completedFuture("dict")).join();
+
+        configA.put("k", "config-2").join();
+
+        assertThat(configB.get("k", NearCacheManagerTests::unexpectedLoad).join()).isEqualTo("config-2");
+        assertThat(dictB.get("k", NearCacheManagerTests::unexpectedLoad).join()).isEqualTo("dict");
+    }
+
+    @Test
+    void slowLoaderDoesNotOverwriteNewerPut() throws Exception {
+        NearCache<String> cacheA = nodeA.cache("config", CacheCodec.string());
+        NearCache<String> cacheB = nodeB.cache("config", CacheCodec.string());
+        CompletableFuture<String> slowLoad = new CompletableFuture<>();
+
+        CompletableFuture<String> read = cacheB.get("timeout", key -> slowLoad);
+        cacheA.put("timeout", "5s").join();
+        slowLoad.complete("3s");
+
+        // 回填使用 SET NX，L2 中 put 写入的新值保留，B 的调用方也拿到新值
+        assertThat(read.join()).isEqualTo("5s");
+        try (NearCacheManager nodeC = new NearCacheManager(store, properties, new SimpleMeterRegistry(), DIRECT)) {
+            NearCache<String> cacheC = nodeC.cache("config", CacheCodec.string());
+            assertThat(cacheC.get("timeout", NearCacheManagerTests::unexpectedLoad).join()).isEqualTo("5s");
+        }
+    }
+
+    private static CompletableFuture<String> unexpectedLoad(String key) {
+        return CompletableFuture.failedFuture(new AssertionError("loader should not be called for " + key));
+    }
+
+    private static double invalidations(SimpleMeterRegistry registry, String direction) {
+        return registry.get("cache.near.invalidations").tag("direction", direction).counter().count();
+    }
+}
@@ -5,6 +5,10 @@ public final class WebKeyConstant {
         public static final String CONTENT_TYPE = "Content-Type";
         public static final String ACCEPT = "Accept";
         public static final String X_TRACE_ID = "X-Trace-Id";
+        /** 请求截止时间，绝对时间戳 (epoch millis) */
+        public static final String X_REQUEST_DEADLINE = "X-Request-Deadline";
+        /** 请求超时时间，相对时长 (millis) */
+        public static final String X_REQUEST_TIMEOUT = "X-Request-Timeout";
     }
 
 }
@@ -0,0 +1,97 @@
+package thriving.softwood.common.core.page;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 🔖 Keyset 分页游标：记录上一页最后一行的排序键
+ * <p>
+ * 对客户端是不透明的令牌 (Base64URL 编码的 JSON)，同时携带排序签名 ({@link KeysetSeek#signature()})， 防止把 A 排序下发出的游标用在 B 排序上。
+ * 排序列必须非空 (NULL 无法参与 seek 比较)；排序键经 JSON 往返后只保留 JSON 类型 (数字 / 字符串 / 布尔)，时间类字段建议以毫秒时间戳或 ISO-8601 字符串作为排序键。
+ * <p>
+ * Mapper XML 中通过 {@code #{cursor.values[0]}} 取值。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Getter
+public final class KeysetCursor {
+
+    private static final JsonMapper JSON = new JsonMapper();
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    /** 排序签名 */
+    private final String sort;
+
+    /** 上一页最后一行的排序键，与排序列一一对应 */
+    private final List<Object> values;
+
+    /**
+     * @throws IllegalArgumentException 排序键中存在 null；需要列名时请通过 {@link KeysetSeek#cursorOf(List)} 构造
+     */
+    public KeysetCursor(String sort, List<Object> values) {
+        // 不可变 List (List.of / List.copyOf) 的 indexOf(null) 会直接抛 NPE，逐个检查
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i) == null) {
+                throw new IllegalArgumentException("Sort key #" + i + " of [" + sort + "] is null");
+            }
+        }
+        this.sort = sort;
+        this.values = List.copyOf(values);
+    }
+
+    /**
+     * @return 不透明的游标令牌
+     */
+    public String encode() {
+        byte[] json = JSON.writeValueAsBytes(Map.of("s", sort, "k", values));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    }
+
+    /**
+     * 解析客户端传回的游标令牌
+     *
+     * @param token 令牌，为空表示第一页
+     * @param seek 当前查询的排序定义，用于校验签名与键个数
+     * @return 游标，第一页返回 null
+     * @throws IllegalArgumentException 令牌被篡改或与当前排序不匹配
+     */
+    public static KeysetCursor decode(String token, KeysetSeek seek) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        Map<String, Object> payload;
+        try {
+            payload = JSON.readValue(Base64.getUrlDecoder().decode(token), PAYLOAD_TYPE);
+        } catch (IllegalArgumentException | JacksonException e) {
+            throw new IllegalArgumentException("Malformed page cursor", e);
+        }
+        if (!(payload.get("k") instanceof List<?> keys) || !seek.signature().equals(payload.get("s"))
+            || keys.size() != seek.getColumns().size() || keys.contains(null)) {
+            throw new IllegalArgumentException("Page cursor does not match sort [" + seek.signature() + "]");
+        }
+        return new KeysetCursor(seek.signature(), List.copyOf(keys));
+    }
+
+    public Long getLong(int index) {
+        Object value = values.get(index);
+        return value == null ? null : ((Number)value).longValue();
+    }
+
+    public String getString(int index) {
+        Object value = values.get(index);
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public String toString() {
+        return JSON.writeValueAsString(values);
+    }
+}
@@ -0,0 +1,156 @@
+package thriving.softwood.common.core.page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import lombok.Getter;
+
+/**
+ * 🔍 Keyset (seek) 分页的排序定义与 SQL 片段生成
+ * <p>
+ * OFFSET 分页需要数据库先扫描并丢弃前 N 行，越往后翻越慢；keyset 分页改为「从上一页最后一行之后继续取」， 配合排序列上的联合索引，任意深度的单页代价恒定：
+ *
+ * <pre>
+ * KeysetSeek seek = KeysetSeek.of(Column.desc("create_time"), Column.desc("id"));
+ * // WHERE (create_time &lt; ?) OR (create_time = ? AND id &lt; ?)  ORDER BY create_time DESC, id DESC  LIMIT size + 1
+ * </pre>
+ *
+ * 最后一列必须唯一 (通常为主键)，否则排序键相同的行可能在翻页时被跳过。 谓词使用展开的 OR 形式而非行值比较 {@code (a, b) < (?, ?)}，以便支持升降序混排。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Getter
+public final class KeysetSeek {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_.]*");
+
+    /**
+     * 排序列
+     *
+     * @param name 列名 (可带表别名)，只允许字母、数字、下划线与点
+     * @param descending 是否降序
+     */
+    public record Column(String name, boolean descending) {
+
+        public Column {
+            if (name == null || !IDENTIFIER.matcher(name).matches()) {
+                throw new IllegalArgumentException("Illegal sort column: " + name);
+            }
+        }
+
+        public static Column asc(String name) {
+            return new Column(name, false);
+        }
+
+        public static Column desc(String name) {
+            return new Column(name, true);
+        }
+
+        private String seekOperator() {
+            return descending ? "<" : ">";
+        }
+    }
+
+    private final List<Column> columns;
+
+    private KeysetSeek(List<Column> columns) {
+        this.columns = columns;
+    }
+
+    public static KeysetSeek of(Column... columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("At least one sort column is required");
+        }
+        return new KeysetSeek(List.of(columns));
+    }
+
+    /**
+     * @return 排序签名，例如 {@code create_time:desc,id:desc}
+     */
+    public String signature() {
+        StringJoiner joiner = new StringJoiner(",");
+        for (Column column : columns) {
+            joiner.add(column.name() + (column.descending() ? ":desc" : ":asc"));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * @return ORDER BY 子句 (不含 ORDER BY 关键字)，例如 {@code create_time DESC, id DESC}
+     */
+    public String orderBy() {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Column column : columns) {
+            joiner.add(column.name() + (column.descending() ? " DESC" : " ASC"));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * JDBC 版本的 seek 谓词，参数按 {@link #bindValues(KeysetCursor)} 的顺序绑定
+     *
+     * @return 例如 {@code ((create_time < ?) OR (create_time = ? AND id < ?))}
+     */
+    public String predicate() {
+        return predicate(i -> "?");
+    }
+
+    /**
+     * MyBatis 版本的 seek 谓词，供 {@code @SelectProvider} 等动态 SQL 使用
+     *
+     * @param cursorParam 游标参数名
+     * @return 例如 {@code ((create_time < #{cursor.values[0]}) OR (create_time = #{cursor.values[0]} AND id < #{cursor.values[1]}))}
+     */
+    public String predicate(String cursorParam) {
+        return predicate(i -> "#{" + cursorParam + ".values[" + i + "]}");
+    }
+
+    /**
+     * @return 与 {@link #predicate()} 中占位符一一对应的参数值
+     */
+    public List<Object> bindValues(KeysetCursor cursor) {
+        List<Object> bindings = new ArrayList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            for (int j = 0; j <= i; j++) {
+                bindings.add(cursor.getValues().get(j));
+            }
+        }
+        return bindings;
+    }
+
+    /**
+     * 以一行数据的排序键构造游标
+     *
+     * @throws IllegalArgumentException 排序键个数与排序列不一致，或某一列的值为 null
+     */
+    public KeysetCursor cursorOf(List<Object> sortKey) {
+        if (sortKey.size() != columns.size()) {
+            throw new IllegalArgumentException(
+                "Sort key has " + sortKey.size() + " values, expected " + columns.size() + " for [" + signature() + "]");
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            if (sortKey.get(i) == null) {
+                throw new IllegalArgumentException("Sort key for column '" + columns.get(i).name() + "' is null");
+            }
+        }
+        return new KeysetCursor(signature(), sortKey);
+    }
+
+    private String predicate(Function<Integer, String> placeholder) {
+        StringJoiner disjunction = new StringJoiner(" OR ", "(", ")");
+        for (int i = 0; i < columns.size(); i++) {
+            StringJoiner conjunction = new StringJoiner(" AND ", "(", ")");
+            for (int j = 0; j < i; j++) {
+                conjunction.add(columns.get(j).name() + " = " + placeholder.apply(j));
+            }
+            Column column = columns.get(i);
+            conjunction.add(column.name() + " " + column.seekOperator() + " " + placeholder.apply(i));
+            disjunction.add(conjunction.toString());
+        }
+        return disjunction.toString();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * 分页工具：Keyset (seek) 游标分页
+ */
+package thriving.softwood.common.core.page;
@@ -0,0 +1,66 @@
+package thriving.softwood.common.core.result;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.Data;
+import thriving.softwood.common.core.page.KeysetSeek;
+
+/**
+ * 游标分页结果，作为 {@link Result} 的数据载荷：{@code Result<CursorPage<UserVO>>}
+ * <p>
+ * 客户端把 nextCursor 原样带回即可获取下一页；hasMore 为 false 时 nextCursor 为空。
+ *
+ * @author ThrivingSoftwood
+ * @param <T> 行类型
+ * @since 2026-10-18
+ */
+@Data
+public class CursorPage<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** 本页数据 */
+    private List<T> items;
+
+    /** 下一页游标 */
+    private String nextCursor;
+
+    /** 是否还有下一页 */
+    private boolean hasMore;
+
+    private CursorPage() {}
+
+    /**
+     * 由「多查一行」的结果构造分页：查询时 LIMIT size + 1，多出的一行只用来判断 hasMore，不返回给客户端
+     *
+     * @param rows 查询结果，最多 size + 1 行
+     * @param size 页大小
+     * @param seek 排序定义
+     * @param sortKey 从一行数据中提取排序键，顺序与 seek 的排序列一致
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, KeysetSeek seek,
+        Function<? super T, List<Object>> sortKey) {
+        CursorPage<T> page = new CursorPage<>();
+        page.hasMore = rows.size() > size;
+        page.items = page.hasMore ? List.copyOf(rows.subList(0, size)) : List.copyOf(rows);
+        if (page.hasMore) {
+            page.nextCursor = seek.cursorOf(sortKey.apply(page.items.getLast())).encode();
+        }
+        return page;
+    }
+
+    /**
+     * 逐行转换 (实体 -> VO)，游标保持不变
+     */
+    public <V> CursorPage<V> map(Function<? super T, ? extends V> mapper) {
+        CursorPage<V> page = new CursorPage<>();
+        page.items = items.stream().<V>map(mapper).toList();
+        page.nextCursor = nextCursor;
+        page.hasMore = hasMore;
+        return page;
+    }
+}
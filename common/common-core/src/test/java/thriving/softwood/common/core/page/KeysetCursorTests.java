@@ -0,0 +1,53 @@
+package thriving.softwood.common.core.page;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import thriving.softwood.common.core.page.KeysetSeek.Column;
+
+class KeysetCursorTests {
+
+    private static final KeysetSeek SEEK = KeysetSeek.of(Column.desc("create_time"), Column.desc("id"));
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        KeysetCursor cursor = SEEK.cursorOf(List.of(1_760_000_000_000L, 42L));
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode(), SEEK);
+
+        assertThat(decoded.getSort()).isEqualTo(SEEK.signature());
+        assertThat(decoded.getLong(0)).isEqualTo(1_760_000_000_000L);
+        assertThat(decoded.getLong(1)).isEqualTo(42L);
+        assertThat(SEEK.bindValues(decoded)).hasSize(3);
+    }
+
+    @Test
+    void blankTokenMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null, SEEK)).isNull();
+        assertThat(KeysetCursor.decode(" ", SEEK)).isNull();
+    }
+
+    @Test
+    void tokenFromAnotherSortIsRejected() {
+        KeysetSeek other = KeysetSeek.of(Column.asc("amount"), Column.asc("id"));
+        String token = other.cursorOf(List.of(100L, 42L)).encode();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode(token, SEEK));
+        assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode("not-a-token", SEEK))
+            .withMessage("Malformed page cursor");
+    }
+
+    @Test
+    void nullSortKeyNamesTheColumn() {
+        assertThatIllegalArgumentException().isThrownBy(() -> SEEK.cursorOf(Arrays.asList(null, 42L)))
+            .withMessageContaining("'create_time'");
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new KeysetCursor(SEEK.signature(), Arrays.asList(1L, null)))
+            .withMessageContaining("#1");
+    }
+}
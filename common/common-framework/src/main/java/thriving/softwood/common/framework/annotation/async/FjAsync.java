@@ -0,0 +1,19 @@
+package thriving.softwood.common.framework.annotation.async;
+
+import java.lang.annotation.*;
+
+import org.springframework.scheduling.annotation.Async;
+
+/**
+ * 🍴 Fork/Join 异步执行注解 适用于：可递归拆分的 CPU 密集型任务 (大数组计算、批量转换、分段聚合) 映射至：AsyncConfig 中的 fjExecutor
+ * <p>
+ * 方法体内配合 {@code ForkJoinComputer#invoke(SplittableTask)} 使用，子任务会在同一个 ForkJoinPool 内通过工作窃取分摊到所有核心。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Async("fjExecutor") // 指向具体的 Bean 名称
+public @interface FjAsync {}
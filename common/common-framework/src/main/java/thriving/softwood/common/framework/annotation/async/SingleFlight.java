@@ -0,0 +1,30 @@
+package thriving.softwood.common.framework.annotation.async;
+
+import java.lang.annotation.*;
+
+/**
+ * 🛬 单飞 (Single-Flight) 请求合并注解 适用于：返回 CompletableFuture 的查询类方法 (远程配置、热点数据)
+ * <p>
+ * 同一时刻参数相同 (equals) 的并发调用只会真正执行一次，其余调用共享同一个执行中的结果。 结果完成后立即移除，不做缓存。
+ * 可与 {@link VtAsync} 组合使用：合并发生在虚拟线程内部，被合并的调用只会挂起自身的虚拟线程等待结果。
+ * 已标注 {@code @AsyncCacheable} 的方法无需再叠加：缓存未命中时的加载本身已按键合并。
+ *
+ * <pre>
+ * &#64;VtAsync
+ * &#64;SingleFlight
+ * public CompletableFuture&lt;Integer&gt; fetchStockLevel(String sku)
+ * </pre>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+
+    /**
+     * 合并组名称，同名且参数相同的调用会被合并；为空时取 SimpleClassName#method
+     */
+    String value() default "";
+}
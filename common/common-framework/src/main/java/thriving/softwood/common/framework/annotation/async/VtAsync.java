@@ -6,6 +6,14 @@ import org.springframework.scheduling.annotation.Async;
 
 /**
  * 🚀 虚拟线程异步执行注解 适用于：高并发、IO 密集型任务 映射至：AsyncConfig 中的 vtExecutor
+ * <p>
+ * 虚拟线程本身几乎没有创建成本，真正需要保护的是其背后的数据库/远程服务。 通过 {@link #bulkhead()} 为同一下游资源的调用指定一个具名舱壁，
+ * 舱壁内的并发数受信号量限制，超过 {@link #acquireTimeoutMs()} 仍未拿到许可的任务会以 BulkheadFullException 失败。
+ *
+ * <pre>
+ * &#64;VtAsync(bulkhead = "remote-config", maxConcurrent = 50, acquireTimeoutMs = 500)
+ * public CompletableFuture&lt;String&gt; fetchRemoteConfig(String configKey)
+ * </pre>
  *
  * @author ThrivingSoftwood
  * @since version 2026-01-23
@@ -14,4 +22,20 @@ import org.springframework.scheduling.annotation.Async;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 @Async("vtExecutor") // 指向具体的 Bean 名称
-public @interface VtAsync {}
\ No newline at end of file
+public @interface VtAsync {
+
+    /**
+     * 舱壁名称，同名方法共享同一组许可；为空表示不限流
+     */
+    String bulkhead() default "";
+
+    /**
+     * 舱壁许可数，&lt;= 0 时使用 thriving.async.vt.default-bulkhead.max-concurrent。 同名舱壁以首次创建时的参数为准
+     */
+    int maxConcurrent() default -1;
+
+    /**
+     * 获取许可的最长等待时间 (ms)，&lt; 0 时使用 thriving.async.vt.default-bulkhead.acquire-timeout
+     */
+    long acquireTimeoutMs() default -1;
+}
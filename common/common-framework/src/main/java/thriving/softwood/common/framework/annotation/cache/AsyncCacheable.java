@@ -0,0 +1,48 @@
+package thriving.softwood.common.framework.annotation.cache;
+
+import java.lang.annotation.*;
+
+/**
+ * 🗃️ 异步进程内缓存注解 适用于：返回 CompletableFuture、读多写少且允许短暂陈旧的查询 (远程配置、字典数据)
+ * <p>
+ * 基于 Caffeine (W-TinyLFU) 的有界缓存，以方法参数 (equals) 作为缓存键：
+ * <ul>
+ * <li>refreshAfterWrite：超过该时长后的首次访问立即返回旧值，同时在虚拟线程上异步刷新 (stale-while-revalidate)，热点键因此始终保持新鲜</li>
+ * <li>expireAfterWrite：硬过期上限，长期无人访问的键过期后才需要同步加载</li>
+ * </ul>
+ * 未声明 (-1) 的参数取 thriving.cache.default-spec，thriving.cache.specs.&lt;name&gt; 中的配置优先级最高。
+ *
+ * <pre>
+ * &#64;VtAsync
+ * &#64;AsyncCacheable(value = "remote-config", refreshAfterWriteMs = 30_000, expireAfterWriteMs = 300_000)
+ * public CompletableFuture&lt;String&gt; fetchRemoteConfig(String configKey)
+ * </pre>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AsyncCacheable {
+
+    /**
+     * 缓存名称，同时作为指标的 cache 标签；同一名称只能用于一个方法
+     */
+    String value();
+
+    /**
+     * 最大条目数，-1 表示使用配置
+     */
+    long maximumSize() default -1;
+
+    /**
+     * 写入后的硬过期时长 (毫秒)，-1 表示使用配置
+     */
+    long expireAfterWriteMs() default -1;
+
+    /**
+     * 写入后触发异步刷新的时长 (毫秒)，-1 表示使用配置，0 表示不刷新
+     */
+    long refreshAfterWriteMs() default -1;
+}
@@ -0,0 +1,31 @@
+package thriving.softwood.common.framework.annotation.cache;
+
+import java.lang.annotation.*;
+
+/**
+ * 🧠 请求级备忘录注解 适用于：同一请求链路内被不同线程重复调用的查询 (权限、字典、用户信息)
+ * <p>
+ * 以 (名称, 方法参数) 为键，在当前请求的 AsyncRequestContext 上记录结果，随链路传递到 {@code @PtAsync / @VtAsync} 任务中， 根请求结束即释放，不会跨请求共享。
+ * 返回 CompletableFuture 的方法记录的是执行中的 future，同一请求内的并发调用同样只执行一次；失败的结果不会被记录。
+ * <p>
+ * Spring 的 @Async 拦截器位于所有切面之外，与 {@code @PtAsync / @VtAsync} 标注在同一方法上时命中仍会派发一次任务 (仅省去方法体)，
+ * 因此不建议这样组合；需要省掉派发时，把本注解放在调用异步方法的同步方法上。
+ *
+ * <pre>
+ * &#64;RequestMemo
+ * public CompletableFuture&lt;UserVO&gt; loadUser(Long userId)
+ * </pre>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestMemo {
+
+    /**
+     * 备忘录名称，同时作为指标的 name 标签；为空时取 SimpleClassName#method
+     */
+    String value() default "";
+}
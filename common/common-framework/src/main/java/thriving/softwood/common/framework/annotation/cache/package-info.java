@@ -0,0 +1,5 @@
+/**
+ * 缓存相关注解
+ */
+
+package thriving.softwood.common.framework.annotation.cache;
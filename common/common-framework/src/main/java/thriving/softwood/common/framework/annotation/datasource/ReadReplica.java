@@ -0,0 +1,23 @@
+package thriving.softwood.common.framework.annotation.datasource;
+
+import java.lang.annotation.*;
+
+/**
+ * 📖 只读路由注解：方法内获取的数据库连接优先来自只读副本
+ * <p>
+ * 需配合 ReplicaRoutingDataSource 使用。副本不健康或复制延迟超过阈值时自动回退到主库。
+ * 只在事务之外生效：处于读写事务中 (包括本方法内调用的 {@code @Transactional} 写方法，以及 REQUIRES_NEW 开启的新事务) 时一律走主库；
+ * {@code @Transactional(readOnly = true)} 的方法同样会被路由到副本，无需重复标注。
+ *
+ * <pre>
+ * &#64;ReadReplica
+ * public List&lt;User&gt; listUsers(UserQuery query)
+ * </pre>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadReplica {}
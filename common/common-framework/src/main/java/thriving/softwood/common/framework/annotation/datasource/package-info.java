@@ -0,0 +1,5 @@
+/**
+ * 数据源相关注解
+ */
+
+package thriving.softwood.common.framework.annotation.datasource;
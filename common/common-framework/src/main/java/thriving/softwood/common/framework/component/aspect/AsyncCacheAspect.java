@@ -0,0 +1,127 @@
+package thriving.softwood.common.framework.component.aspect;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+import thriving.softwood.common.framework.annotation.async.VtAsync;
+import thriving.softwood.common.framework.annotation.cache.AsyncCacheable;
+import thriving.softwood.common.framework.component.cache.AsyncCacheRegistry;
+import thriving.softwood.common.framework.component.executor.Bulkhead;
+import thriving.softwood.common.framework.component.executor.BulkheadRegistry;
+
+/**
+ * 🗃️ {@link AsyncCacheable} 切面
+ * <p>
+ * 未命中时立即把一个 future 放入缓存，再在缓存执行器 (带链路装饰的虚拟线程) 上通过 {@code joinPoint.proceed()} 走完剩余的代理链
+ * (单飞、舱壁等)。方法体不在 Caffeine 的映射函数里同步执行，因此不会持有 ConcurrentHashMap 的桶锁：同一键 (及哈希冲突的键)
+ * 的并发调用方直接拿到同一个进行中的 future，而不是阻塞等待。
+ * <p>
+ * 后台刷新发生在调用链之外，直接反射调用目标对象的方法；方法声明了 {@code @VtAsync(bulkhead = ...)} 时，刷新同样先获取该舱壁的许可，
+ * 刷新流量与正常调用共用同一个并发上限。
+ * <p>
+ * 缓存中的 future 为所有调用方共享，每次返回其副本 (copy)，调用方对 future 的取消/完成不会污染缓存。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 120)
+public class AsyncCacheAspect {
+
+    private final AsyncCacheRegistry cacheRegistry;
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public AsyncCacheAspect(AsyncCacheRegistry cacheRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.cacheRegistry = cacheRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Around("@annotation(cacheable)")
+    public Object cacheAround(ProceedingJoinPoint joinPoint, AsyncCacheable cacheable) throws Throwable {
+        MethodSignature signature = (MethodSignature)joinPoint.getSignature();
+        if (!CompletableFuture.class.isAssignableFrom(signature.getReturnType())) {
+            return joinPoint.proceed();
+        }
+
+        Object target = joinPoint.getTarget();
+        // 经接口或实现类调用时统一到实现类上的方法，同一方法只对应一个缓存
+        Method method = AopUtils.getMostSpecificMethod(signature.getMethod(), AopUtils.getTargetClass(target));
+        List<Object> key = Arrays.asList(joinPoint.getArgs());
+        return cacheRegistry.cache(cacheable, method, () -> refreshLoader(target, method))
+            .get(key, (k, executor) -> CompletableFuture.supplyAsync(() -> proceed(joinPoint), executor)
+                .thenCompose(Function.identity()))
+            .copy();
+    }
+
+    private static CompletableFuture<Object> proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return toFuture(joinPoint.proceed());
+        } catch (Throwable e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 刷新加载器：在 Caffeine 的执行器 (虚拟线程) 上反射调用目标方法，经过方法声明的舱壁
+     */
+    private AsyncCacheLoader<List<Object>, Object> refreshLoader(Object target, Method method) {
+        ReflectionUtils.makeAccessible(method);
+        Bulkhead bulkhead = bulkheadOf(target, method);
+        return (key, executor) -> CompletableFuture.supplyAsync(() -> {
+            try {
+                if (bulkhead == null) {
+                    return method.invoke(target, key.toArray());
+                }
+                bulkhead.acquire();
+                try {
+                    return method.invoke(target, key.toArray());
+                } finally {
+                    bulkhead.release();
+                }
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Cache refresh failed: " + method.getName(), e.getTargetException());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Cache refresh interrupted: " + method.getName(), e);
+            }
+        }, executor).thenCompose(AsyncCacheAspect::toFuture);
+    }
+
+    /**
+     * 与 {@link VtBulkheadAspect} 相同的解析顺序：方法上的注解优先，其次是类上的注解
+     */
+    private Bulkhead bulkheadOf(Object target, Method method) {
+        VtAsync vtAsync = AnnotatedElementUtils.findMergedAnnotation(method, VtAsync.class);
+        if (vtAsync == null) {
+            vtAsync = AnnotatedElementUtils.findMergedAnnotation(target.getClass(), VtAsync.class);
+        }
+        return vtAsync != null && !vtAsync.bulkhead().isEmpty() ? bulkheadRegistry.bulkhead(vtAsync) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Object> toFuture(Object result) {
+        return result instanceof CompletableFuture<?> future ? (CompletableFuture<Object>)future
+            : CompletableFuture.completedFuture(result);
+    }
+}
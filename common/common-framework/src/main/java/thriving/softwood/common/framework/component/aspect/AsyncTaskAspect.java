@@ -0,0 +1,102 @@
+package thriving.softwood.common.framework.component.aspect;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import thriving.softwood.common.framework.component.context.AsyncRequestContext;
+import thriving.softwood.common.framework.component.context.ScopedTraceContext;
+import thriving.softwood.common.framework.component.exception.BulkheadFullException;
+import thriving.softwood.common.framework.component.exception.DeadlineExceededException;
+import thriving.softwood.common.framework.component.executor.AsyncTaskContext;
+import thriving.softwood.common.observability.component.monitor.VirtualThreadAttribution;
+
+/**
+ * 🏷️ 异步任务登记切面
+ * <p>
+ * 与 {@link VtBulkheadAspect} 一样运行在已派发的线程中，负责以下几件事：
+ * <ul>
+ * <li>请求截止时间 ({@link AsyncRequestContext}) 已过时跳过任务，抛出 {@link DeadlineExceededException}</li>
+ * <li>把目标方法名与执行结果写入 {@link AsyncTaskContext}，供执行器装饰器按方法记录排队/执行耗时</li>
+ * <li>执行期间把「当前虚拟线程 -> 方法 + TraceID」登记到 {@link VirtualThreadAttribution}，使 JFR 钉住事件能够归属到具体的业务方法与链路</li>
+ * </ul>
+ * 位于舱壁切面外层，等待许可期间发生的钉住与舱壁拒绝同样可被记录。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class AsyncTaskAspect {
+
+    private final Tracer tracer;
+
+    private final ObjectProvider<VirtualThreadAttribution> attributionProvider;
+
+    public AsyncTaskAspect(Tracer tracer, ObjectProvider<VirtualThreadAttribution> attributionProvider) {
+        this.tracer = tracer;
+        this.attributionProvider = attributionProvider;
+    }
+
+    @Around("@annotation(thriving.softwood.common.framework.annotation.async.VtAsync) || "
+        + "@within(thriving.softwood.common.framework.annotation.async.VtAsync) || "
+        + "@annotation(thriving.softwood.common.framework.annotation.async.PtAsync) || "
+        + "@within(thriving.softwood.common.framework.annotation.async.PtAsync) || "
+        + "@annotation(thriving.softwood.common.framework.annotation.async.FjAsync) || "
+        + "@within(thriving.softwood.common.framework.annotation.async.FjAsync)")
+    public Object taskAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = methodName(joinPoint);
+        AsyncTaskContext context = AsyncTaskContext.current();
+        if (context != null) {
+            context.method(method);
+        }
+
+        Thread thread = Thread.currentThread();
+        VirtualThreadAttribution attribution = thread.isVirtual() ? attributionProvider.getIfAvailable() : null;
+        if (attribution != null) {
+            Span span = ScopedTraceContext.currentSpan(tracer);
+            attribution.bind(thread, method, span != null ? span.context().traceId() : "N/A");
+        }
+        try {
+            // 调用方已放弃等待的任务直接跳过，不再占用 CPU/IO
+            AsyncRequestContext.checkDeadline();
+            Object result = joinPoint.proceed();
+            if (context != null && result instanceof CompletableFuture<?> future && future.isCompletedExceptionally()) {
+                context.outcome(AsyncTaskContext.ERROR);
+            }
+            return result;
+        } catch (Throwable e) {
+            if (context != null) {
+                context.outcome(outcome(e));
+            }
+            throw e;
+        } finally {
+            if (attribution != null) {
+                attribution.release(thread);
+            }
+        }
+    }
+
+    private static String outcome(Throwable e) {
+        if (e instanceof BulkheadFullException) {
+            return AsyncTaskContext.REJECTED;
+        }
+        if (e instanceof DeadlineExceededException) {
+            return AsyncTaskContext.EXPIRED;
+        }
+        return AsyncTaskContext.ERROR;
+    }
+
+    private static String methodName(ProceedingJoinPoint joinPoint) {
+        return joinPoint.getSignature().getDeclaringType().getSimpleName() + "#" + joinPoint.getSignature().getName();
+    }
+}
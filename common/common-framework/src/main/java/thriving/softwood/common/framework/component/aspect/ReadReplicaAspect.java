@@ -0,0 +1,33 @@
+package thriving.softwood.common.framework.component.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import thriving.softwood.common.framework.annotation.datasource.ReadReplica;
+import thriving.softwood.common.framework.component.datasource.ReadRoute;
+
+/**
+ * 📖 {@link ReadReplica} 切面：在方法执行期间设置 {@link ReadRoute} 标记
+ * <p>
+ * 优先级高于 Spring 事务切面 (默认 LOWEST_PRECEDENCE)，保证事务开启、获取连接时标记已经生效。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 300)
+public class ReadReplicaAspect {
+
+    @Around("@annotation(thriving.softwood.common.framework.annotation.datasource.ReadReplica) "
+        + "|| @within(thriving.softwood.common.framework.annotation.datasource.ReadReplica)")
+    public Object readReplicaAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (ReadRoute.Scope ignored = ReadRoute.replica()) {
+            return joinPoint.proceed();
+        }
+    }
+}
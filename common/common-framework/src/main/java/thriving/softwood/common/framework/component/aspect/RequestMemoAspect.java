@@ -0,0 +1,148 @@
+package thriving.softwood.common.framework.component.aspect;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import thriving.softwood.common.framework.annotation.cache.RequestMemo;
+import thriving.softwood.common.framework.component.config.RequestMemoProperties;
+import thriving.softwood.common.framework.component.context.AsyncRequestContext;
+import thriving.softwood.common.framework.component.context.RequestMemoStore;
+
+/**
+ * 🧠 {@link RequestMemo} 切面
+ * <p>
+ * 不在请求链路中 (没有 {@link AsyncRequestContext}) 或备忘录已释放时直接执行。CompletableFuture 结果以副本 (copy) 交给每个调用方，
+ * 调用方对 future 的取消/完成不会影响其他调用方。
+ * <p>
+ * 指标：request.memo.calls{name, result=hit|miss}，hit 即节省的重复调用次数；request.memo.overflow{name} 为因容量已满未能记录的次数。
+ * <p>
+ * 位于 {@link AsyncTaskAspect} 外层，但与所有切面一样位于 Spring 的 @Async 拦截器内层：标注在 {@code @PtAsync / @VtAsync} 方法上时，
+ * 命中同样会派发一次任务，只是任务内复用已有的 future、不再执行方法体。想省掉派发本身，应标注在调用异步方法的同步方法上。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 90)
+public class RequestMemoAspect {
+
+    private static final String HIT = "hit";
+    private static final String MISS = "miss";
+
+    private final RequestMemoProperties properties;
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RequestMemoAspect(RequestMemoProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    @Around("@annotation(requestMemo)")
+    public Object memoAround(ProceedingJoinPoint joinPoint, RequestMemo requestMemo) throws Throwable {
+        AsyncRequestContext context = AsyncRequestContext.current();
+        if (context == null) {
+            return joinPoint.proceed();
+        }
+
+        MethodSignature signature = (MethodSignature)joinPoint.getSignature();
+        String name = requestMemo.value().isEmpty()
+            ? signature.getDeclaringType().getSimpleName() + "#" + signature.getName() : requestMemo.value();
+        RequestMemoStore memo = context.memo(properties.getMaxEntriesPerRequest());
+        RequestMemoStore.Key key = new RequestMemoStore.Key(name, Arrays.asList(joinPoint.getArgs()));
+
+        if (CompletableFuture.class.isAssignableFrom(signature.getReturnType())) {
+            return memoFuture(joinPoint, name, memo, key);
+        }
+
+        Object existing = memo.get(key);
+        if (existing != null) {
+            count(name, HIT);
+            return ((Optional<?>)existing).orElse(null);
+        }
+        count(name, MISS);
+        Object result = joinPoint.proceed();
+        // Optional 包装以便记录 null 结果
+        remember(name, memo, key, Optional.ofNullable(result));
+        return result;
+    }
+
+    private Object memoFuture(ProceedingJoinPoint joinPoint, String name, RequestMemoStore memo,
+        RequestMemoStore.Key key) throws Throwable {
+        Object existing = memo.get(key);
+        if (existing instanceof CompletableFuture<?> shared) {
+            count(name, HIT);
+            return shared.copy();
+        }
+
+        // 先占位再执行，使同一请求内并发到达的相同调用也只执行一次
+        CompletableFuture<Object> promise = new CompletableFuture<>();
+        Object raced = memo.putIfAbsent(key, promise);
+        if (raced instanceof CompletableFuture<?> shared) {
+            count(name, HIT);
+            return shared.copy();
+        }
+        if (memo.get(key) != promise && memo.isFull()) {
+            overflow(name);
+        }
+        count(name, MISS);
+
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof CompletableFuture<?> future) {
+                future.whenComplete((value, error) -> {
+                    if (error != null) {
+                        // 失败的结果不保留，后续调用重新执行
+                        memo.remove(key, promise);
+                        promise.completeExceptionally(error);
+                    } else {
+                        promise.complete(value);
+                    }
+                });
+            } else {
+                promise.complete(result);
+            }
+        } catch (Throwable e) {
+            memo.remove(key, promise);
+            promise.completeExceptionally(e);
+            throw e;
+        }
+        return promise.copy();
+    }
+
+    private void remember(String name, RequestMemoStore memo, RequestMemoStore.Key key, Object value) {
+        if (memo.putIfAbsent(key, value) == null && memo.get(key) != value && memo.isFull()) {
+            overflow(name);
+        }
+    }
+
+    private void count(String name, String result) {
+        counters.computeIfAbsent(name + "|" + result,
+            k -> Counter.builder("request.memo.calls").description("请求级备忘录调用次数，hit 为节省的重复调用")
+                .tag("name", name).tag("result", result).register(registry))
+            .increment();
+    }
+
+    private void overflow(String name) {
+        counters.computeIfAbsent(name + "|overflow", k -> Counter.builder("request.memo.overflow")
+            .description("因单请求容量已满未能记录的调用次数").tag("name", name).register(registry)).increment();
+    }
+}
@@ -0,0 +1,139 @@
+package thriving.softwood.common.framework.component.aspect;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import thriving.softwood.common.framework.annotation.async.SingleFlight;
+import thriving.softwood.common.framework.component.context.ScopedTraceContext;
+
+/**
+ * 🛬 {@link SingleFlight} 切面
+ * <p>
+ * 第一个调用者 (leader) 真正执行方法，执行期间到达的相同调用 (joined) 直接拿到 leader 结果的副本。 每个 joined 调用都会在自己的链路下创建一个
+ * single-flight-join 子 Span，并通过标签记录 leader 的 traceId/spanId，便于在 Jaeger/Kibana 中相互跳转。
+ * <p>
+ * 指标：async.singleflight.calls{name, role=leader|joined}，合并命中率 = joined / (leader + joined)；async.singleflight.inflight
+ * 为当前执行中的合并组数量。
+ * <p>
+ * 位于 {@link AsyncTaskAspect} 内层、{@link VtBulkheadAspect} 外层：被合并的调用不会占用舱壁许可。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 150)
+public class SingleFlightAspect {
+
+    private static final String LEADER = "leader";
+    private static final String JOINED = "joined";
+
+    private final Tracer tracer;
+
+    private final MeterRegistry registry;
+
+    private final Map<FlightKey, Flight> inflight = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public SingleFlightAspect(Tracer tracer, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.tracer = tracer;
+        this.registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        Gauge.builder("async.singleflight.inflight", inflight, Map::size).description("当前执行中的合并组数量")
+            .register(registry);
+    }
+
+    @Around("@annotation(singleFlight)")
+    public Object singleFlightAround(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        MethodSignature signature = (MethodSignature)joinPoint.getSignature();
+        if (!CompletableFuture.class.isAssignableFrom(signature.getReturnType())) {
+            // 只有 CompletableFuture 才能安全地在调用方之间共享
+            return joinPoint.proceed();
+        }
+
+        String name = singleFlight.value().isEmpty()
+            ? signature.getDeclaringType().getSimpleName() + "#" + signature.getName() : singleFlight.value();
+        FlightKey key = new FlightKey(name, Arrays.asList(joinPoint.getArgs()));
+
+        Span current = ScopedTraceContext.currentSpan(tracer);
+        Flight flight = new Flight(new CompletableFuture<>(), current);
+        Flight existing = inflight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return join(name, existing);
+        }
+
+        counter(name, LEADER).increment();
+        if (current != null) {
+            current.tag("single-flight.role", LEADER);
+        }
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof CompletableFuture<?> future) {
+                future.whenComplete((value, error) -> complete(key, flight, value, error));
+            } else {
+                complete(key, flight, result, null);
+            }
+            return result;
+        } catch (Throwable e) {
+            complete(key, flight, null, e);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Object> join(String name, Flight leader) {
+        counter(name, JOINED).increment();
+
+        Span parent = ScopedTraceContext.currentSpan(tracer);
+        Span joinSpan = (parent != null ? tracer.nextSpan(parent) : tracer.nextSpan()).name("single-flight-join").tag("single-flight.name", name);
+        if (leader.span() != null) {
+            joinSpan.tag("single-flight.leader.trace-id", leader.span().context().traceId())
+                .tag("single-flight.leader.span-id", leader.span().context().spanId());
+        }
+        joinSpan.start();
+
+        // 返回副本，避免调用方意外完成共享的 Future
+        return leader.promise().copy().whenComplete((value, error) -> {
+            if (error != null) {
+                joinSpan.error(error);
+            }
+            joinSpan.end();
+        });
+    }
+
+    private void complete(FlightKey key, Flight flight, Object value, Throwable error) {
+        // 先移除再完成，保证完成之后到达的调用会重新执行而不是拿到旧结果
+        inflight.remove(key, flight);
+        if (error != null) {
+            flight.promise().completeExceptionally(error);
+        } else {
+            flight.promise().complete(value);
+        }
+    }
+
+    private Counter counter(String name, String role) {
+        return counters.computeIfAbsent(name + '|' + role, k -> Counter.builder("async.singleflight.calls")
+            .description("单飞合并调用次数").tag("name", name).tag("role", role).register(registry));
+    }
+
+    private record FlightKey(String name, List<Object> args) {}
+
+    private record Flight(CompletableFuture<Object> promise, Span span) {}
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import io.micrometer.tracing.Span;
 import io.micrometer.tracing.Tracer;
+import thriving.softwood.common.framework.component.context.ScopedTraceContext;
 
 /**
  * 自动追踪切面 补充 Spring Boot 自动配置可能未覆盖的场景 (如 XXL-JOB, 自定义定时任务等)
@@ -29,8 +30,9 @@ public class TraceAspect {
     @Around("@annotation(org.springframework.scheduling.annotation.Scheduled) || "
         + "@annotation(com.xxl.job.core.handler.annotation.XxlJob)")
     public Object traceAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        // 创建一个新的 Span
-        Span newSpan = tracer.nextSpan().name(joinPoint.getSignature().getName());
+        // 创建一个新的 Span，父 Span 可能来自 ScopedValue 载体
+        Span parent = ScopedTraceContext.currentSpan(tracer);
+        Span newSpan = (parent != null ? tracer.nextSpan(parent) : tracer.nextSpan()).name(joinPoint.getSignature().getName());
 
         try (Tracer.SpanInScope ws = tracer.withSpan(newSpan.start())) {
             return joinPoint.proceed();
@@ -0,0 +1,61 @@
+package thriving.softwood.common.framework.component.aspect;
+
+import java.lang.reflect.Method;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import thriving.softwood.common.framework.annotation.async.VtAsync;
+import thriving.softwood.common.framework.component.executor.Bulkhead;
+import thriving.softwood.common.framework.component.executor.BulkheadRegistry;
+
+/**
+ * 🛡️ {@link VtAsync} 舱壁切面
+ * <p>
+ * {@code @Async} 的拦截器总是位于代理链最外层，因此本切面的逻辑运行在已经派发出去的虚拟线程中： 获取许可时的等待只会挂起虚拟线程，不会阻塞调用方。
+ * 注意：许可在方法返回时释放，若方法返回的是尚未完成的 Future，请勿依赖舱壁限制其后续的异步阶段。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 200)
+public class VtBulkheadAspect {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public VtBulkheadAspect(BulkheadRegistry bulkheadRegistry) {
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Around("@annotation(thriving.softwood.common.framework.annotation.async.VtAsync) || "
+        + "@within(thriving.softwood.common.framework.annotation.async.VtAsync)")
+    public Object bulkheadAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        VtAsync vtAsync = resolve(joinPoint);
+        if (vtAsync == null || vtAsync.bulkhead().isEmpty()) {
+            return joinPoint.proceed();
+        }
+
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(vtAsync);
+        bulkhead.acquire();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private static VtAsync resolve(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature)joinPoint.getSignature()).getMethod();
+        VtAsync vtAsync = AnnotatedElementUtils.findMergedAnnotation(method, VtAsync.class);
+        return vtAsync != null ? vtAsync
+            : AnnotatedElementUtils.findMergedAnnotation(joinPoint.getTarget().getClass(), VtAsync.class);
+    }
+}
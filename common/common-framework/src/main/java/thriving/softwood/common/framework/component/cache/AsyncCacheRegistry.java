@@ -0,0 +1,124 @@
+package thriving.softwood.common.framework.component.cache;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import thriving.softwood.common.framework.annotation.cache.AsyncCacheable;
+import thriving.softwood.common.framework.component.config.AsyncCacheProperties;
+
+/**
+ * 🗃️ {@link AsyncCacheable} 缓存注册表：按名称惰性创建 Caffeine 异步缓存
+ * <p>
+ * 加载与刷新都在 refreshExecutor (带链路装饰的虚拟线程) 上执行，不占用调用方线程。 命中、未命中、加载耗时、淘汰等指标通过
+ * {@link CaffeineCacheMetrics} 以 cache.* 前缀发布。
+ * <p>
+ * 缓存键只包含方法参数，刷新加载器也绑定在创建缓存的方法上，因此同一名称只能属于一个方法，其他方法再使用该名称时抛出 IllegalStateException。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class AsyncCacheRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncCacheRegistry.class);
+
+    private final AsyncCacheProperties properties;
+
+    private final MeterRegistry registry;
+
+    private final Executor refreshExecutor;
+
+    private final Map<String, Entry> caches = new ConcurrentHashMap<>();
+
+    public AsyncCacheRegistry(AsyncCacheProperties properties, MeterRegistry registry, Executor refreshExecutor) {
+        this.properties = properties;
+        this.registry = registry;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * 获取 (必要时创建) 指定注解对应的缓存
+     *
+     * @param method 缓存所属的方法
+     * @param loader 刷新时使用的加载器，仅在首次创建缓存时调用
+     * @throws IllegalStateException 该名称已属于其他方法
+     */
+    public AsyncLoadingCache<List<Object>, Object> cache(AsyncCacheable cacheable, Method method,
+        Supplier<AsyncCacheLoader<List<Object>, Object>> loader) {
+        Entry entry = caches.get(cacheable.value());
+        if (entry == null) {
+            entry = caches.computeIfAbsent(cacheable.value(),
+                name -> new Entry(method, create(name, cacheable, loader.get())));
+        }
+        if (!entry.method().equals(method)) {
+            throw new IllegalStateException("Cache '" + cacheable.value() + "' is already bound to "
+                + entry.method().toGenericString() + ", cannot be reused by " + method.toGenericString());
+        }
+        return entry.cache();
+    }
+
+    /**
+     * @return 已创建的缓存，不存在时为 null
+     */
+    public AsyncLoadingCache<List<Object>, Object> find(String name) {
+        Entry entry = caches.get(name);
+        return entry != null ? entry.cache() : null;
+    }
+
+    private AsyncLoadingCache<List<Object>, Object> create(String name, AsyncCacheable cacheable,
+        AsyncCacheLoader<List<Object>, Object> loader) {
+        AsyncCacheProperties.CacheSpec configured = properties.getSpecs().get(name);
+        AsyncCacheProperties.CacheSpec defaults = properties.getDefaultSpec();
+
+        // 优先级：配置 > 注解 > 默认值
+        long maximumSize = configured != null && configured.getMaximumSize() != null ? configured.getMaximumSize()
+            : cacheable.maximumSize() >= 0 ? cacheable.maximumSize() : defaults.getMaximumSize();
+        Duration expireAfterWrite =
+            configured != null && configured.getExpireAfterWrite() != null ? configured.getExpireAfterWrite()
+                : cacheable.expireAfterWriteMs() >= 0 ? Duration.ofMillis(cacheable.expireAfterWriteMs())
+                    : defaults.getExpireAfterWrite();
+        Duration refreshAfterWrite =
+            configured != null && configured.getRefreshAfterWrite() != null ? configured.getRefreshAfterWrite()
+                : cacheable.refreshAfterWriteMs() >= 0 ? Duration.ofMillis(cacheable.refreshAfterWriteMs())
+                    : defaults.getRefreshAfterWrite();
+
+        Caffeine<Object, Object> builder =
+            Caffeine.newBuilder().maximumSize(maximumSize).executor(refreshExecutor).recordStats();
+        if (expireAfterWrite != null && expireAfterWrite.isPositive()) {
+            builder.expireAfterWrite(expireAfterWrite);
+        }
+        if (refreshAfterWrite != null && refreshAfterWrite.isPositive()) {
+            if (expireAfterWrite != null && expireAfterWrite.isPositive()
+                && refreshAfterWrite.compareTo(expireAfterWrite) >= 0) {
+                logger.warn("⚠️ Cache '{}' refreshAfterWrite ({}) >= expireAfterWrite ({}), refresh-ahead will never fire",
+                    name, refreshAfterWrite, expireAfterWrite);
+            }
+            builder.refreshAfterWrite(refreshAfterWrite);
+        }
+
+        AsyncLoadingCache<List<Object>, Object> cache = builder.buildAsync(loader);
+        CaffeineCacheMetrics.monitor(registry, cache, name, Tags.empty());
+        logger.info("🗃️ Cache '{}' created: maximumSize={}, expireAfterWrite={}, refreshAfterWrite={}", name, maximumSize,
+            expireAfterWrite, refreshAfterWrite);
+        return cache;
+    }
+
+    /**
+     * @param method 缓存所属的方法
+     */
+    private record Entry(Method method, AsyncLoadingCache<List<Object>, Object> cache) {}
+}
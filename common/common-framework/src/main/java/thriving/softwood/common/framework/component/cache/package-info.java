@@ -0,0 +1,5 @@
+/**
+ * 进程内缓存
+ */
+
+package thriving.softwood.common.framework.component.cache;
@@ -0,0 +1,67 @@
+package thriving.softwood.common.framework.component.concurrent;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+
+import thriving.softwood.common.framework.component.decorator.MicrometerTracingDecorator;
+
+/**
+ * 🌿 一次结构化扇出/扇入 (Fan-out / Fan-in)
+ * <p>
+ * 对 {@link StructuredTaskScope} 的薄封装：任一子任务失败或整体超时都会立即取消 (中断) 其余子任务，且所有子任务都不会活得比作用域更久。 每个子任务都会像
+ * {@link MicrometerTracingDecorator} 一样获得一个挂在当前 Span 之下的 Child Span。
+ *
+ * <pre>
+ * try (FanOutScope scope = structuredFanOut.open(ThreadMode.VIRTUAL, Duration.ofSeconds(2))) {
+ *     Subtask&lt;String&gt; user = scope.fork("load-user", () -&gt; loadUser(id));
+ *     Subtask&lt;Integer&gt; score = scope.fork("load-score", () -&gt; loadScore(id));
+ *     scope.join();
+ *     return new UserVO(user.get(), score.get());
+ * }
+ * </pre>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public final class FanOutScope implements AutoCloseable {
+
+    private final StructuredTaskScope<Object, Void> scope;
+
+    private final MicrometerTracingDecorator tracingDecorator;
+
+    FanOutScope(StructuredTaskScope<Object, Void> scope, MicrometerTracingDecorator tracingDecorator) {
+        this.scope = scope;
+        this.tracingDecorator = tracingDecorator;
+    }
+
+    /**
+     * 派发一个子任务，只能由打开作用域的线程调用
+     *
+     * @param name 子任务名称，同时作为 Child Span 名称
+     * @param task 子任务
+     * @return 子任务句柄，{@link #join()} 成功返回后可通过 {@link Subtask#get()} 取得类型化结果
+     */
+    public <T> Subtask<T> fork(String name, Callable<? extends T> task) {
+        return scope.fork(tracingDecorator.<T>decorate(task, name));
+    }
+
+    /**
+     * 等待所有子任务完成
+     *
+     * @throws StructuredTaskScope.FailedException 任一子任务失败 (cause 为首个失败原因)，其余子任务已被取消
+     * @throws StructuredTaskScope.TimeoutException 超过截止时间，所有未完成子任务已被取消
+     * @throws InterruptedException 等待过程中当前线程被中断
+     */
+    public void join() throws InterruptedException {
+        scope.join();
+    }
+
+    /**
+     * 关闭作用域，取消并等待所有仍在运行的子任务
+     */
+    @Override
+    public void close() {
+        scope.close();
+    }
+}
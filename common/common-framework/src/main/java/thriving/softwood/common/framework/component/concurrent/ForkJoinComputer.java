@@ -0,0 +1,39 @@
+package thriving.softwood.common.framework.component.concurrent;
+
+import java.util.concurrent.ForkJoinPool;
+
+import io.micrometer.tracing.Tracer;
+import thriving.softwood.common.framework.component.context.ScopedTraceContext;
+
+/**
+ * 🍴 Fork/Join 计算入口：在专用 ForkJoinPool (fjExecutor) 中执行 {@link SplittableTask}
+ * <p>
+ * 使用专用池而不是 {@link ForkJoinPool#commonPool()}，避免与 parallel stream、CompletableFuture 默认执行器等争抢线程。
+ * 在 {@code @FjAsync} 方法内调用时，根任务直接在当前工作线程上执行，不会额外占用一个线程等待。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class ForkJoinComputer {
+
+    private final ForkJoinPool pool;
+
+    private final Tracer tracer;
+
+    public ForkJoinComputer(ForkJoinPool pool, Tracer tracer) {
+        this.pool = pool;
+        this.tracer = tracer;
+    }
+
+    /**
+     * 同步执行并返回结果，子任务继承调用方的链路上下文
+     */
+    public <V> V invoke(SplittableTask<V> task) {
+        task.bindContext(tracer, ScopedTraceContext.currentSpan(tracer));
+        return pool.invoke(task);
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+}
@@ -0,0 +1,83 @@
+package thriving.softwood.common.framework.component.concurrent;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * 🍴 可递归拆分的计算任务
+ * <p>
+ * 子类只需描述「何时足够小」「如何直接计算」「如何拆分」「如何合并」，拆分出的子任务会自动继承父任务的链路上下文，
+ * 在任意工作线程上执行时 MDC 中的 traceId 保持一致 (不会为每个子任务创建 Span，避免细粒度任务产生海量 Span)。
+ *
+ * <pre>
+ * class RangeSum extends SplittableTask&lt;Long&gt; {
+ *     protected boolean isSmallEnough() { return to - from &lt;= 1_000_000; }
+ *     protected Long computeDirectly() { ... }
+ *     protected List&lt;RangeSum&gt; split() { int mid = (from + to) &gt;&gt;&gt; 1; return List.of(new RangeSum(from, mid), new RangeSum(mid, to)); }
+ *     protected Long combine(List&lt;Long&gt; parts) { return parts.stream().mapToLong(Long::longValue).sum(); }
+ * }
+ * </pre>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public abstract class SplittableTask<V> extends RecursiveTask<V> {
+
+    private transient Tracer tracer;
+
+    private transient Span parentSpan;
+
+    /**
+     * @return 当前任务规模是否已足够小，应直接计算
+     */
+    protected abstract boolean isSmallEnough();
+
+    /**
+     * 顺序计算当前任务
+     */
+    protected abstract V computeDirectly();
+
+    /**
+     * 将当前任务拆分为若干子任务
+     */
+    protected abstract List<? extends SplittableTask<V>> split();
+
+    /**
+     * 合并子任务结果，顺序与 {@link #split()} 返回的顺序一致
+     */
+    protected abstract V combine(List<V> results);
+
+    @Override
+    protected final V compute() {
+        if (tracer == null || parentSpan == null) {
+            return computeInContext();
+        }
+        try (Tracer.SpanInScope ws = tracer.withSpan(parentSpan)) {
+            return computeInContext();
+        }
+    }
+
+    /**
+     * 由 {@link ForkJoinComputer} 在提交根任务时调用
+     */
+    void bindContext(Tracer tracer, Span parentSpan) {
+        this.tracer = tracer;
+        this.parentSpan = parentSpan;
+    }
+
+    private V computeInContext() {
+        if (isSmallEnough()) {
+            return computeDirectly();
+        }
+        List<? extends SplittableTask<V>> subtasks = split();
+        for (SplittableTask<V> subtask : subtasks) {
+            subtask.bindContext(tracer, parentSpan);
+        }
+        invokeAll(subtasks);
+        return combine(subtasks.stream().map(ForkJoinTask::join).toList());
+    }
+}
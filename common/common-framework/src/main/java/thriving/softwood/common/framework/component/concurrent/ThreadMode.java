@@ -0,0 +1,28 @@
+package thriving.softwood.common.framework.component.concurrent;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 结构化并发子任务所使用的线程类型
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public enum ThreadMode {
+
+    /** 🚀 虚拟线程：适用于 IO 密集型子任务 */
+    VIRTUAL(Thread.ofVirtual().name("sc-vt-", 0).factory()),
+
+    /** 🧱 平台线程：适用于粒度较粗的 CPU 密集型子任务 (每个子任务独占一个新建的平台线程) */
+    PLATFORM(Thread.ofPlatform().name("sc-pt-", 0).factory());
+
+    private final ThreadFactory threadFactory;
+
+    ThreadMode(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    public ThreadFactory threadFactory() {
+        return threadFactory;
+    }
+}
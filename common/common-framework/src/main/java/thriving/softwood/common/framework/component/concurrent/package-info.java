@@ -0,0 +1,5 @@
+/**
+ * 结构化并发
+ */
+
+package thriving.softwood.common.framework.component.concurrent;
\ No newline at end of file
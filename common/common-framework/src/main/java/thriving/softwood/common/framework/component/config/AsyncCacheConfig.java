@@ -0,0 +1,40 @@
+package thriving.softwood.common.framework.component.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import thriving.softwood.common.framework.component.aspect.AsyncCacheAspect;
+import thriving.softwood.common.framework.component.cache.AsyncCacheRegistry;
+import thriving.softwood.common.framework.component.decorator.MicrometerTracingDecorator;
+
+/**
+ * 🗃️ 进程内异步缓存配置 (thriving.cache.*)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableConfigurationProperties(AsyncCacheProperties.class)
+// 显式导入 @AsyncCacheable 切面
+@Import(AsyncCacheAspect.class)
+public class AsyncCacheConfig {
+
+    /**
+     * 缓存加载/刷新执行器：虚拟线程，并挂载链路装饰器，使刷新日志与触发刷新的请求处于同一条链路
+     */
+    @Bean
+    public AsyncCacheRegistry asyncCacheRegistry(AsyncCacheProperties asyncCacheProperties,
+        MicrometerTracingDecorator asyncTracingDecorator, ObjectProvider<MeterRegistry> meterRegistry) {
+        SimpleAsyncTaskExecutor refreshExecutor = new SimpleAsyncTaskExecutor("cache-vt-");
+        refreshExecutor.setVirtualThreads(true);
+        refreshExecutor.setTaskDecorator(asyncTracingDecorator);
+        return new AsyncCacheRegistry(asyncCacheProperties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+            refreshExecutor);
+    }
+}
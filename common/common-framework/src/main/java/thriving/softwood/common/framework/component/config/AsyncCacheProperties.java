@@ -0,0 +1,43 @@
+package thriving.softwood.common.framework.component.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 进程内缓存配置项 (前缀: thriving.cache)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.cache")
+public class AsyncCacheProperties {
+
+    /** 未在注解与 specs 中声明的参数所使用的默认值 */
+    private CacheSpec defaultSpec = new CacheSpec(10_000L, Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+    /** 按缓存名称配置的参数，优先级高于 {@code @AsyncCacheable} 注解中的声明 */
+    private Map<String, CacheSpec> specs = new LinkedHashMap<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CacheSpec {
+
+        /** 最大条目数，超过后按 W-TinyLFU 淘汰 */
+        private Long maximumSize;
+
+        /** 写入后的硬过期时长 */
+        private Duration expireAfterWrite;
+
+        /** 写入后触发异步刷新的时长，0 表示不刷新；应小于 expireAfterWrite */
+        private Duration refreshAfterWrite;
+    }
+}
@@ -1,20 +1,38 @@
 package thriving.softwood.common.framework.component.config;
 
 import java.util.concurrent.Executor;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import io.micrometer.tracing.Tracer;
+import thriving.softwood.common.framework.component.aspect.AsyncTaskAspect;
+import thriving.softwood.common.framework.component.aspect.SingleFlightAspect;
+import thriving.softwood.common.framework.component.aspect.VtBulkheadAspect;
+import thriving.softwood.common.framework.component.concurrent.ForkJoinComputer;
+import thriving.softwood.common.framework.component.concurrent.SplittableTask;
+import thriving.softwood.common.framework.component.concurrent.StructuredFanOut;
 import thriving.softwood.common.framework.component.decorator.MicrometerTracingDecorator;
+import thriving.softwood.common.framework.component.exception.DeadlineExceededException;
+import thriving.softwood.common.framework.component.executor.AdaptivePtExecutor;
+import thriving.softwood.common.framework.component.executor.AsyncTaskMetrics;
+import thriving.softwood.common.framework.component.executor.BulkheadRegistry;
 
 /**
  * 异步线程池配置 (Micrometer Native)
@@ -24,48 +42,134 @@ import thriving.softwood.common.framework.component.decorator.MicrometerTracingD
  */
 @Configuration
 @EnableAsync
+@EnableConfigurationProperties(AsyncProperties.class)
+// 显式导入异步任务登记切面、单飞合并切面与 @VtAsync 舱壁切面
+@Import({AsyncTaskAspect.class, SingleFlightAspect.class, VtBulkheadAspect.class})
 public class AsyncConfig implements AsyncConfigurer {
 
     private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
 
+    /**
+     * 🧵 跨线程链路传递装饰器，所有执行器共用 (thriving.async.trace.*)
+     */
+    @Bean
+    public MicrometerTracingDecorator asyncTracingDecorator(Tracer tracer, AsyncProperties asyncProperties) {
+        AsyncProperties.Trace trace = asyncProperties.getTrace();
+        return new MicrometerTracingDecorator(tracer, trace.getDispatchLog(), trace.isUnsampledFastPath());
+    }
+
     /**
      * 🧱 平台线程池：适用于 CPU 密集型任务
+     * <p>
+     * 线程数以 CPU 核数为起点，由 {@link AdaptivePtExecutor} 根据排队耗时与 CPU 利用率在配置区间内自动调节 (thriving.async.pt.*)
      */
     @Bean("ptExecutor")
-    public Executor ptExecutor(Tracer tracer) {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(20);
-        executor.setQueueCapacity(500);
+    public AdaptivePtExecutor ptExecutor(MicrometerTracingDecorator asyncTracingDecorator,
+        AsyncProperties asyncProperties, AsyncTaskMetrics asyncTaskMetrics) {
+        AdaptivePtExecutor executor = new AdaptivePtExecutor(asyncProperties.getPt());
         executor.setThreadNamePrefix("pt-exec-");
 
-        // 核心：挂载 Micrometer 装饰器
-        executor.setTaskDecorator(new MicrometerTracingDecorator(tracer));
+        // 核心：挂载 Micrometer 装饰器，外层套上排队/执行耗时采集
+        executor.setTaskDecorator(asyncTaskMetrics.instrument("ptExecutor", asyncTracingDecorator));
 
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 饱和时按 thriving.async.pt.overload-policy 拒绝或限时回退到调用方
+        executor.setRejectedExecutionHandler(asyncTaskMetrics.countRejections("ptExecutor", executor.overloadHandler()));
         executor.initialize();
         return executor;
     }
 
     /**
      * 🚀 虚拟线程池：适用于 IO 密集型任务 (JDK 21+)
+     * <p>
+     * thriving.async.trace.propagation = SCOPED_VALUE 时 Span、Baggage 与请求上下文只经 ScopedValue 载体传递，
+     * 省去每次派发的 Micrometer 作用域 (OTel ThreadLocal + MDC 写入) 与 AsyncRequestContext 的 ThreadLocal 读写
      */
     @Bean("vtExecutor")
-    public Executor vtExecutor(Tracer tracer) {
+    public Executor vtExecutor(MicrometerTracingDecorator asyncTracingDecorator, AsyncProperties asyncProperties,
+        AsyncTaskMetrics asyncTaskMetrics) {
         // 使用 SimpleAsyncTaskExecutor 并开启虚拟线程支持
         SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("vt-exec-");
         executor.setVirtualThreads(true);
 
         // 核心：同样挂载装饰器，确保虚拟线程也能传递 Trace
-        executor.setTaskDecorator(new MicrometerTracingDecorator(tracer));
+        MicrometerTracingDecorator decorator =
+            asyncTracingDecorator.withPropagation(asyncProperties.getTrace().getPropagation());
+        executor.setTaskDecorator(asyncTaskMetrics.instrument("vtExecutor", decorator));
 
         return executor;
     }
 
+    /**
+     * 🍴 Fork/Join 专用线程池：工作窃取，适用于可递归拆分的 CPU 密集型任务
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool fjPool(AsyncProperties asyncProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        AsyncProperties.Fj settings = asyncProperties.getFj();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, settings.getParallelism()), fjPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(fjPool);
+            thread.setName("fj-exec-" + thread.getPoolIndex());
+            return thread;
+        }, (thread, ex) -> logger.error("❌ Uncaught exception in {}", thread.getName(), ex), settings.isAsyncMode());
+
+        // 窃取次数、排队任务数、并行度等
+        new ExecutorServiceMetrics(pool, "fjExecutor", Tags.empty())
+            .bindTo(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        return pool;
+    }
+
+    /**
+     * 🍴 Fork/Join 执行器：{@code @FjAsync} 的入口，与其余执行器共用链路装饰器与指标
+     */
+    @Bean("fjExecutor")
+    public Executor fjExecutor(ForkJoinPool fjPool, MicrometerTracingDecorator asyncTracingDecorator,
+        AsyncTaskMetrics asyncTaskMetrics) {
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(fjPool);
+        executor.setTaskDecorator(asyncTaskMetrics.instrument("fjExecutor", asyncTracingDecorator));
+        return executor;
+    }
+
+    /**
+     * 🍴 {@link SplittableTask} 计算入口
+     */
+    @Bean
+    public ForkJoinComputer forkJoinComputer(ForkJoinPool fjPool, Tracer tracer) {
+        return new ForkJoinComputer(fjPool, tracer);
+    }
+
+    /**
+     * 📊 异步派发指标 (排队耗时 / 执行耗时 / 结果)
+     */
+    @Bean
+    public AsyncTaskMetrics asyncTaskMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new AsyncTaskMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * 🛡️ {@code @VtAsync(bulkhead = ...)} 舱壁注册表
+     */
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(AsyncProperties asyncProperties,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BulkheadRegistry(asyncProperties.getVt(), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * 🌿 结构化并发扇出入口
+     */
+    @Bean
+    public StructuredFanOut structuredFanOut(MicrometerTracingDecorator asyncTracingDecorator) {
+        return new StructuredFanOut(asyncTracingDecorator);
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return (ex, method, params) -> {
             // Micrometer 会自动将 TraceContext 注入到 MDC，这里的日志会自动带上 ID
+            if (ex instanceof DeadlineExceededException) {
+                // 调用方已放弃等待，属于预期内的跳过
+                logger.warn("⏱️ Async task skipped: {} ({})", method.getName(), ex.getMessage());
+                return;
+            }
             logger.error("❌ Async Exception in method: {}", method.getName(), ex);
         };
     }
@@ -0,0 +1,126 @@
+package thriving.softwood.common.framework.component.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import thriving.softwood.common.framework.component.decorator.MicrometerTracingDecorator;
+import thriving.softwood.common.framework.component.executor.OverloadPolicy;
+
+/**
+ * 异步线程池配置项 (前缀: thriving.async)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.async")
+public class AsyncProperties {
+
+    private static final int CPU_COUNT = Runtime.getRuntime().availableProcessors();
+
+    /** 🧱 平台线程池 (ptExecutor) 配置 */
+    private Pt pt = new Pt();
+
+    /** 🚀 虚拟线程池 (vtExecutor) 配置 */
+    private Vt vt = new Vt();
+
+    /** 🍴 Fork/Join 线程池 (fjExecutor) 配置 */
+    private Fj fj = new Fj();
+
+    /** 🧵 跨线程链路传递配置 */
+    private Trace trace = new Trace();
+
+    @Data
+    public static class Pt {
+
+        /** 核心线程数下限，默认等于 CPU 核数 */
+        private int minPoolSize = CPU_COUNT;
+
+        /** 核心线程数上限，默认为 CPU 核数的 2 倍 (为偶发的阻塞留出余量) */
+        private int maxPoolSize = CPU_COUNT * 2;
+
+        /** 等待队列容量 */
+        private int queueCapacity = 500;
+
+        /** 空闲线程存活时间 */
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        /** 是否开启自适应调节，关闭后线程池固定为 minPoolSize */
+        private boolean adaptive = true;
+
+        /** 调节周期 */
+        private Duration adjustInterval = Duration.ofSeconds(5);
+
+        /** 期望的平均排队耗时，超过该值且 CPU 仍有余量时扩容 */
+        private Duration targetQueueWait = Duration.ofMillis(50);
+
+        /** 期望的进程 CPU 利用率 (0~1)，超过该值时不再扩容 */
+        private double targetCpuUtilization = 0.75;
+
+        /** 饱和时的过载策略 */
+        private OverloadPolicy overloadPolicy = OverloadPolicy.REJECT;
+
+        /** CALLER_RUNS_WITHIN_BUDGET：任务平均耗时不超过该值时才允许回退到调用方线程执行 */
+        private Duration callerRunsBudget = Duration.ofMillis(20);
+
+        /** SHED_BY_PRIORITY：LOW 任务可使用的队列容量比例 */
+        private double lowPriorityQueueRatio = 0.5;
+
+        /** SHED_BY_PRIORITY：NORMAL 任务可使用的队列容量比例，剩余部分留给 HIGH 任务 */
+        private double normalPriorityQueueRatio = 0.8;
+
+        /** 被拒绝时建议客户端的重试间隔 (Retry-After) */
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+
+    @Data
+    public static class Vt {
+
+        /** 未在注解与 bulkheads 中声明的参数所使用的默认值 */
+        private BulkheadSpec defaultBulkhead = new BulkheadSpec(64, Duration.ofSeconds(1));
+
+        /** 按名称配置的舱壁参数，优先级高于 {@code @VtAsync} 注解中的声明，便于运维在不改代码的情况下调整 */
+        private Map<String, BulkheadSpec> bulkheads = new LinkedHashMap<>();
+    }
+
+    @Data
+    public static class Fj {
+
+        /** 并行度，默认等于 CPU 核数 */
+        private int parallelism = CPU_COUNT;
+
+        /** 是否使用 FIFO 调度；递归拆分场景保持默认的 LIFO 局部性更好 */
+        private boolean asyncMode = false;
+    }
+
+    @Data
+    public static class Trace {
+
+        /** 线程派发衔接日志输出模式，默认仅在链路被采样时以 INFO 输出 */
+        private MicrometerTracingDecorator.DispatchLog dispatchLog = MicrometerTracingDecorator.DispatchLog.SAMPLED;
+
+        /** 父 Span 未被采样时跳过子 Span 的创建，只传递上下文 */
+        private boolean unsampledFastPath = true;
+
+        /** vtExecutor 的上下文传递方式，SCOPED_VALUE 以 ScopedValue 载体传递 Span、Baggage 与请求上下文，不打开 Micrometer 作用域 */
+        private MicrometerTracingDecorator.Propagation propagation = MicrometerTracingDecorator.Propagation.THREAD_LOCAL;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkheadSpec {
+
+        /** 许可数，即同一舱壁内允许同时执行的任务数 */
+        private Integer maxConcurrent;
+
+        /** 获取许可的最长等待时间，超时后任务被拒绝 */
+        private Duration acquireTimeout;
+    }
+}
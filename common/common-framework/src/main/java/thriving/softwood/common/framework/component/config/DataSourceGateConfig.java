@@ -0,0 +1,29 @@
+package thriving.softwood.common.framework.component.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import thriving.softwood.common.framework.component.processor.GatedDataSourcePostProcessor;
+
+/**
+ * 🚪 连接获取闸门配置 (thriving.datasource.gate.*)，需显式开启
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceGateProperties.class)
+@ConditionalOnProperty(prefix = "thriving.datasource.gate", name = "enabled", havingValue = "true")
+public class DataSourceGateConfig {
+
+    @Bean
+    public static GatedDataSourcePostProcessor gatedDataSourcePostProcessor(
+        ObjectProvider<DataSourceGateProperties> dataSourceGateProperties,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        return new GatedDataSourcePostProcessor(dataSourceGateProperties, meterRegistry);
+    }
+}
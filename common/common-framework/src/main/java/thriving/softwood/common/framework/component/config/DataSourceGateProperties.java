@@ -0,0 +1,35 @@
+package thriving.softwood.common.framework.component.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 连接获取闸门配置项 (前缀: thriving.datasource.gate)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.datasource.gate")
+public class DataSourceGateProperties {
+
+    /** 是否为容器中的 DataSource 加上连接获取闸门，默认关闭 */
+    private boolean enabled = false;
+
+    /** 许可数，不应大于连接池最大连接数 (超过时按池上限截断)；0 表示取连接池的最大连接数 (Hikari/Druid/DBCP2/Tomcat JDBC) */
+    private int permits = 0;
+
+    /**
+     * 需要加闸门的 DataSource Bean 名称；为空时只包装连接池本身，跳过包装其他 DataSource 的 Bean (读写分离路由、LazyConnectionDataSourceProxy 等)，
+     * 避免一次取连接占用多道闸门的许可
+     */
+    private List<String> beanNames = new ArrayList<>();
+
+    /** 等待许可的最长时间，超时抛出 SQLTransientConnectionException */
+    private Duration acquireTimeout = Duration.ofSeconds(1);
+}
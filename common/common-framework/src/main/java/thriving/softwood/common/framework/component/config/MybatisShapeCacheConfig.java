@@ -0,0 +1,38 @@
+package thriving.softwood.common.framework.component.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import thriving.softwood.common.framework.component.interceptor.SqlShapeCacheInterceptor;
+import thriving.softwood.common.framework.component.mybatis.SqlShapeCache;
+
+/**
+ * 🧩 MyBatis 动态 SQL 形态缓存配置 (thriving.mybatis.shape-cache.*)，仅在业务模块引入 MyBatis 时生效
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnClass(name = "org.apache.ibatis.plugin.Interceptor")
+@EnableConfigurationProperties(MybatisShapeCacheProperties.class)
+@ConditionalOnProperty(prefix = "thriving.mybatis.shape-cache", name = "enabled", matchIfMissing = true)
+public class MybatisShapeCacheConfig {
+
+    @Bean
+    public SqlShapeCache sqlShapeCache(MybatisShapeCacheProperties properties,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SqlShapeCache(properties.getMaxShapesPerStatement(),
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Bean
+    public SqlShapeCacheInterceptor sqlShapeCacheInterceptor(SqlShapeCache sqlShapeCache) {
+        return new SqlShapeCacheInterceptor(sqlShapeCache);
+    }
+}
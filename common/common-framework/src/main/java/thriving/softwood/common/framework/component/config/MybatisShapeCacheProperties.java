@@ -0,0 +1,22 @@
+package thriving.softwood.common.framework.component.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * MyBatis 动态 SQL 形态缓存配置项 (前缀: thriving.mybatis.shape-cache)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.mybatis.shape-cache")
+public class MybatisShapeCacheProperties {
+
+    /** 是否开启形态缓存 (classpath 中存在 MyBatis 时生效) */
+    private boolean enabled = true;
+
+    /** 单条语句最多缓存的形态数，超出后新形态不再缓存 */
+    private int maxShapesPerStatement = 64;
+}
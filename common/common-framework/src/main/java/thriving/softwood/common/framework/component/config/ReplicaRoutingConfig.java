@@ -0,0 +1,31 @@
+package thriving.softwood.common.framework.component.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import thriving.softwood.common.framework.component.aspect.ReadReplicaAspect;
+
+/**
+ * 🔀 读写分离路由配置 (thriving.datasource.routing.*)
+ * <p>
+ * 只提供配置项与 {@code @ReadReplica} 切面，数据源本身由业务模块组装：
+ *
+ * <pre>
+ * &#64;Bean
+ * public DataSource dataSource(ReplicaRoutingProperties props, MeterRegistry registry) {
+ *     ReplicaRoutingDataSource routing =
+ *         new ReplicaRoutingDataSource(primaryPool, Map.of("replica-1", replicaPool), props, registry);
+ *     // 推迟获取连接，使 &#64;Transactional(readOnly = true) 在取连接时已生效
+ *     return new LazyConnectionDataSourceProxy(routing);
+ * }
+ * </pre>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+// 显式导入 @ReadReplica 切面
+@Import(ReadReplicaAspect.class)
+public class ReplicaRoutingConfig {}
@@ -0,0 +1,46 @@
+package thriving.softwood.common.framework.component.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 读写分离路由配置项 (前缀: thriving.datasource.routing)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    /**
+     * 副本选择策略
+     */
+    public enum Selection {
+        /** 轮询 */
+        ROUND_ROBIN,
+        /** 当前借出连接数最少者优先 */
+        LEAST_CONNECTIONS
+    }
+
+    /** 副本选择策略 */
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    /** 复制延迟阈值，超过后该副本不再承接读请求 */
+    private Duration maxReplicationLag = Duration.ofSeconds(5);
+
+    /** 健康检查周期 */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /** 健康检查时连接校验 (Connection.isValid) 的超时时间 */
+    private Duration validationTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 查询复制延迟的 SQL，结果取第一行：存在 Seconds_Behind_Source / Seconds_Behind_Master 列时取该列，否则取第一列 (单位：秒)；为空时只做连通性检查。
+     * MySQL：SHOW REPLICA STATUS；PostgreSQL：SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+     */
+    private String lagQuery;
+}
@@ -0,0 +1,21 @@
+package thriving.softwood.common.framework.component.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import thriving.softwood.common.framework.component.aspect.RequestMemoAspect;
+
+/**
+ * 🧠 请求级备忘录配置 (thriving.memo.*)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableConfigurationProperties(RequestMemoProperties.class)
+@ConditionalOnProperty(prefix = "thriving.memo", name = "enabled", matchIfMissing = true)
+// 显式导入 @RequestMemo 切面
+@Import(RequestMemoAspect.class)
+public class RequestMemoConfig {}
@@ -0,0 +1,22 @@
+package thriving.softwood.common.framework.component.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 请求级备忘录配置项 (前缀: thriving.memo)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.memo")
+public class RequestMemoProperties {
+
+    /** 是否开启 @RequestMemo */
+    private boolean enabled = true;
+
+    /** 单个请求最多记录的条目数，超出后新的调用直接执行不再记录 */
+    private int maxEntriesPerRequest = 256;
+}
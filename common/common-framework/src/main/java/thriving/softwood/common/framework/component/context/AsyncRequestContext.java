@@ -0,0 +1,157 @@
+package thriving.softwood.common.framework.component.context;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import thriving.softwood.common.framework.component.exception.DeadlineExceededException;
+
+/**
+ * ⏱️ 跨线程请求上下文：携带请求的截止时间 (可选) 与请求级备忘录 ({@link RequestMemoStore})
+ * <p>
+ * 由 Web 层在请求入口 {@link #attach(AsyncRequestContext)}，随后与 TraceContext 一起经 MicrometerTracingDecorator 传递到每一跳
+ * {@code @PtAsync / @VtAsync / @FjAsync} 以及结构化并发子任务中。 截止时间基于 {@link System#nanoTime()}，不受系统时钟回拨影响。
+ *
+ * <pre>
+ * AsyncRequestContext.checkDeadline(); // 长耗时步骤之间主动检查，超时即停止
+ * </pre>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public final class AsyncRequestContext {
+
+    private static final ThreadLocal<AsyncRequestContext> CURRENT = new ThreadLocal<>();
+
+    private static final Scope NOOP = () -> {};
+
+    private final long deadlineNanos;
+
+    private final boolean bounded;
+
+    private final AtomicReference<RequestMemoStore> memo = new AtomicReference<>();
+
+    private AsyncRequestContext(long deadlineNanos, boolean bounded) {
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+    }
+
+    /**
+     * @param timeout 距当前时刻的剩余时间
+     */
+    public static AsyncRequestContext withTimeout(Duration timeout) {
+        return new AsyncRequestContext(System.nanoTime() + timeout.toNanos(), true);
+    }
+
+    /**
+     * @return 不限时的请求上下文，仅用于传递请求级状态
+     */
+    public static AsyncRequestContext unbounded() {
+        return new AsyncRequestContext(0, false);
+    }
+
+    /**
+     * @return 当前线程的请求上下文 (ThreadLocal 优先，其次为 {@link ScopedTraceContext} 载体)，不在请求链路中时为 null
+     */
+    public static AsyncRequestContext current() {
+        AsyncRequestContext context = CURRENT.get();
+        if (context != null) {
+            return context;
+        }
+        ScopedTraceContext.Carrier carrier = ScopedTraceContext.current();
+        return carrier != null ? carrier.requestContext() : null;
+    }
+
+    /**
+     * 把上下文绑定到当前线程，关闭返回的 {@link Scope} 时恢复原值；context 为空时不做任何事
+     */
+    public static Scope attach(AsyncRequestContext context) {
+        if (context == null) {
+            return NOOP;
+        }
+        AsyncRequestContext previous = CURRENT.get();
+        CURRENT.set(context);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * 当前请求已超过截止时间时抛出 {@link DeadlineExceededException}
+     */
+    public static void checkDeadline() {
+        AsyncRequestContext context = current();
+        if (context != null && context.isExpired()) {
+            throw new DeadlineExceededException(context.overdue());
+        }
+    }
+
+    /**
+     * @return 是否设置了截止时间
+     */
+    public boolean hasDeadline() {
+        return bounded;
+    }
+
+    public boolean isExpired() {
+        return bounded && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    /**
+     * @return 剩余时间，已过期时为 {@link Duration#ZERO}，未设置截止时间时为 null
+     */
+    public Duration remaining() {
+        if (!bounded) {
+            return null;
+        }
+        long remaining = deadlineNanos - System.nanoTime();
+        return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+    }
+
+    /**
+     * @return 已超出截止时间多久，未过期时为 {@link Duration#ZERO}
+     */
+    public Duration overdue() {
+        if (!bounded) {
+            return Duration.ZERO;
+        }
+        long overdue = System.nanoTime() - deadlineNanos;
+        return overdue > 0 ? Duration.ofNanos(overdue) : Duration.ZERO;
+    }
+
+    /**
+     * @param maxEntries 首次创建时使用的容量上限
+     * @return 当前请求的备忘录，首次访问时创建
+     */
+    public RequestMemoStore memo(int maxEntries) {
+        RequestMemoStore current = memo.get();
+        if (current != null) {
+            return current;
+        }
+        memo.compareAndSet(null, new RequestMemoStore(maxEntries));
+        return memo.get();
+    }
+
+    /**
+     * 根请求结束时调用，释放请求级状态
+     */
+    public void release() {
+        RequestMemoStore current = memo.get();
+        if (current != null) {
+            current.release();
+        }
+    }
+
+    /**
+     * 上下文作用域，关闭时恢复线程原有的上下文
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,89 @@
+package thriving.softwood.common.framework.component.context;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🧠 请求级备忘录：同一请求链路内 (跨 @PtAsync / @VtAsync 线程) 共享的查询结果
+ * <p>
+ * 挂在 {@link AsyncRequestContext} 上随链路传递，容量有上限；根请求结束时 {@link #release()}，之后仍在运行的异步任务不再读写备忘录。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public final class RequestMemoStore {
+
+    private final int maxEntries;
+
+    private final Map<Key, Object> entries = new ConcurrentHashMap<>();
+
+    /** 近似计数，允许并发下略微超出上限 */
+    private final AtomicInteger size = new AtomicInteger();
+
+    private volatile boolean released;
+
+    RequestMemoStore(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return 已记录的值，未记录或已释放时为 null
+     */
+    public Object get(Key key) {
+        return released ? null : entries.get(key);
+    }
+
+    /**
+     * 记录一个值；已存在时返回已有值
+     *
+     * @return 已有值；写入成功、已释放或容量已满时返回 null
+     */
+    public Object putIfAbsent(Key key, Object value) {
+        if (released) {
+            return null;
+        }
+        Object existing = entries.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (size.get() >= maxEntries) {
+            return null;
+        }
+        existing = entries.putIfAbsent(key, value);
+        if (existing == null) {
+            size.incrementAndGet();
+        }
+        return existing;
+    }
+
+    /**
+     * 仅当当前值仍为 value 时移除 (例如异步结果失败时撤销记录)
+     */
+    public void remove(Key key, Object value) {
+        if (entries.remove(key, value)) {
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return 容量是否已满
+     */
+    public boolean isFull() {
+        return size.get() >= maxEntries;
+    }
+
+    /**
+     * 根请求结束：清空并拒绝后续读写
+     */
+    public void release() {
+        released = true;
+        entries.clear();
+    }
+
+    /**
+     * 备忘录键：名称 + 参数列表 (按 equals 比较)
+     */
+    public record Key(String name, List<Object> args) {}
+}
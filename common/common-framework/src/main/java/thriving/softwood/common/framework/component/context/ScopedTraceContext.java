@@ -0,0 +1,120 @@
+package thriving.softwood.common.framework.component.context;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/**
+ * 🔭 基于 {@link ScopedValue} 的跨线程上下文 (thriving.async.trace.propagation = SCOPED_VALUE)
+ * <p>
+ * 派发时在父线程把 Span、Baggage 与 {@link AsyncRequestContext} 收拢为一个不可变的 {@link Carrier}，子任务在
+ * {@code ScopedValue.where(...).run(...)} 中执行：不写 ThreadLocal、不复制 MDC，任务结束绑定自动失效，短命的虚拟线程没有清理成本。
+ * 日志中的 traceId/spanId 由 {@link ScopedTraceContextDataProvider} 在真正产生日志事件时才读取。
+ * <p>
+ * Span 只在载体中，不放入 Micrometer 作用域，任务内 {@code tracer.currentSpan()} 为空。框架内的入口经 {@link #currentSpan(Tracer)}、
+ * {@link AsyncRequestContext#current()} 读取载体；依赖 Micrometer 作用域的自动埋点 (HTTP 客户端透传 traceparent 等) 需在调用处用
+ * {@link #openScope(Tracer)} 临时打开作用域，否则会开启新的根链路。
+ * <p>
+ * Baggage 只在进入载体的第一跳 (请求线程上) 复制一次，载体内的嵌套派发直接复用同一份不可变快照。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public final class ScopedTraceContext {
+
+    private static final ScopedValue<Carrier> CARRIER = ScopedValue.newInstance();
+
+    private static final Tracer.SpanInScope NOOP_SCOPE = () -> {};
+
+    private ScopedTraceContext() {}
+
+    /**
+     * @return 当前绑定的载体，未绑定时为 null
+     */
+    public static Carrier current() {
+        return CARRIER.isBound() ? CARRIER.get() : null;
+    }
+
+    /**
+     * @return 当前 Span：优先取 Micrometer 作用域中的 Span，其次取载体中的 Span
+     */
+    public static Span currentSpan(Tracer tracer) {
+        Span span = tracer.currentSpan();
+        if (span != null) {
+            return span;
+        }
+        Carrier carrier = current();
+        return carrier != null ? carrier.span() : null;
+    }
+
+    /**
+     * @return 当前链路中的 Baggage 值，不存在时为 null
+     */
+    public static String baggage(String name) {
+        Carrier carrier = current();
+        return carrier != null ? carrier.baggage().get(name) : null;
+    }
+
+    /**
+     * 把载体中的 Span 放入 Micrometer 作用域，供任务内依赖 {@code tracer.currentSpan()} 的代码使用：
+     *
+     * <pre>
+     * try (Tracer.SpanInScope ws = ScopedTraceContext.openScope(tracer)) {
+     *     return restClient.get().uri(...).retrieve().body(String.class);
+     * }
+     * </pre>
+     *
+     * 未绑定载体、载体中没有 Span 或 Micrometer 作用域已打开时不做任何事。
+     */
+    public static Tracer.SpanInScope openScope(Tracer tracer) {
+        Carrier carrier = current();
+        if (carrier == null || carrier.span() == null || tracer.currentSpan() != null) {
+            return NOOP_SCOPE;
+        }
+        return tracer.withSpan(carrier.span());
+    }
+
+    /**
+     * 【父线程】收拢当前上下文
+     *
+     * @param span 子任务所属的 Span
+     * @param requestContext 请求上下文
+     */
+    public static Carrier capture(Tracer tracer, Span span, AsyncRequestContext requestContext) {
+        Carrier outer = current();
+        Map<String, String> baggage;
+        if (outer != null && tracer.currentSpan() == null) {
+            // 嵌套派发且父任务本身也运行在载体中 (未另行打开作用域)，直接复用不可变的 Baggage，不再复制
+            baggage = outer.baggage();
+        } else {
+            Map<String, String> all = tracer.getAllBaggage();
+            baggage = all.isEmpty() ? Map.of() : Map.copyOf(all);
+        }
+        return new Carrier(span, baggage, requestContext);
+    }
+
+    /**
+     * 【子线程】在载体作用域中执行任务
+     */
+    public static void run(Carrier carrier, Runnable task) {
+        ScopedValue.where(CARRIER, carrier).run(task);
+    }
+
+    /**
+     * 【子线程】在载体作用域中执行带返回值的任务
+     */
+    public static <T> T call(Carrier carrier, Callable<? extends T> task) throws Exception {
+        return ScopedValue.where(CARRIER, carrier).call(task::call);
+    }
+
+    /**
+     * 不可变的上下文载体
+     *
+     * @param span 所属 Span (可能为 null)
+     * @param baggage 派发时的 Baggage 快照
+     * @param requestContext 请求上下文 (可能为 null)
+     */
+    public record Carrier(Span span, Map<String, String> baggage, AsyncRequestContext requestContext) {}
+}
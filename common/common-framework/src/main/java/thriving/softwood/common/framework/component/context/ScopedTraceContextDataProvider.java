@@ -0,0 +1,51 @@
+package thriving.softwood.common.framework.component.context;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.util.ContextDataProvider;
+
+import io.micrometer.tracing.Span;
+
+/**
+ * 🔭 把 {@link ScopedTraceContext} 桥接到 Log4j2 上下文数据 (%X{traceId} / %X{spanId})
+ * <p>
+ * 通过 META-INF/services 注册，Log4j2 仅在创建日志事件时调用；异步 Logger 下同样在业务线程上取值，因此载体作用域内的日志自带链路 ID，
+ * 而派发本身无需复制 MDC。同时提供采样标记 traceFlags (两位十六进制，供 DisruptorOtlpAppender 还原 SpanContext)。
+ * <p>
+ * 没有载体 (THREAD_LOCAL 模式) 时只多一次 {@link ScopedValue#isBound()} 判断；MDC 中已有 traceId 时 (Micrometer 作用域已打开，
+ * traceFlags 由 common-observability 的 TraceFlagsMdcEventListener 写入) 以 MDC 为准，不做任何事。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class ScopedTraceContextDataProvider implements ContextDataProvider {
+
+    private static final String TRACE_ID = "traceId";
+    private static final String SPAN_ID = "spanId";
+    private static final String TRACE_FLAGS = "traceFlags";
+
+    private static final String SAMPLED = "01";
+    private static final String NOT_SAMPLED = "00";
+
+    @Override
+    public Map<String, String> supplyContextData() {
+        ScopedTraceContext.Carrier carrier = ScopedTraceContext.current();
+        if (carrier == null || ThreadContext.containsKey(TRACE_ID)) {
+            return Map.of();
+        }
+        Span span = carrier.span();
+        if (span == null && carrier.baggage().isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> data = new HashMap<>(carrier.baggage().size() + 3);
+        data.putAll(carrier.baggage());
+        if (span != null) {
+            data.put(TRACE_ID, span.context().traceId());
+            data.put(SPAN_ID, span.context().spanId());
+            data.put(TRACE_FLAGS, Boolean.TRUE.equals(span.context().sampled()) ? SAMPLED : NOT_SAMPLED);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * 跨线程请求上下文
+ */
+
+package thriving.softwood.common.framework.component.context;
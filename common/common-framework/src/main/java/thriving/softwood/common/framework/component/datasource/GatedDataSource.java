@@ -0,0 +1,182 @@
+package thriving.softwood.common.framework.component.datasource;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+
+/**
+ * 🚪 连接获取闸门：在连接池之前用公平信号量为虚拟线程排队
+ * <p>
+ * 成千上万个 @VtAsync 任务同时向一个只有几十个连接的池 (Druid/Hikari) 取连接时，池内部的等待队列与超时重试会反复抖动。 本包装在池之前加一道公平的
+ * {@link Semaphore}：
+ * <ul>
+ * <li>许可数 = 允许同时持有连接的调用方数量，通常与池的最大连接数相等，排队发生在信号量上而不是池里</li>
+ * <li>{@link Semaphore} 基于 AQS，虚拟线程等待时会卸载，不占用载体线程；公平模式保证先到先得，尾延迟可控</li>
+ * <li>连接 close() 时归还许可 (只归还一次)，取连接失败同样归还</li>
+ * <li>等待超过 acquireTimeout 抛出 {@link SQLTransientConnectionException}，调用方可按瞬时故障重试</li>
+ * </ul>
+ * 池容量建议：数据库端的并发上限才是真正的瓶颈，虚拟线程数量与它无关。OLTP 场景下连接池大小取 载体线程数 (CPU 核数) 的 2~4 倍即可，
+ * 即 {@code pool = carriers * (1 + 平均等待 DB 时间 / 平均占用 CPU 时间)} 的常见取值；多实例部署时 {@code 实例数 * pool} 不应超过数据库
+ * max_connections 的 80%。闸门许可数不应大于池的最大连接数，否则排队会重新落到池内部。
+ * <p>
+ * 容器关闭时 {@link #close()} 委托给被包装的连接池，保证池与其后台线程被正常关闭。
+ * <p>
+ * 指标 (tag name)：db.gate.wait (等待耗时)、db.gate.active (持有许可数)、db.gate.pending (排队数)、db.gate.timeouts (获取超时次数)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class GatedDataSource implements DataSource, AutoCloseable {
+
+    @Getter
+    private final DataSource target;
+
+    private final String name;
+
+    private final int permits;
+
+    private final Semaphore semaphore;
+
+    private final Duration acquireTimeout;
+
+    private final Timer waitTimer;
+
+    private final Counter timeouts;
+
+    /**
+     * @param target 被包装的数据源 (连接池)
+     * @param name 名称，用于指标 tag
+     * @param permits 许可数
+     * @param acquireTimeout 等待许可的最长时间
+     * @param registry 指标注册表
+     */
+    public GatedDataSource(DataSource target, String name, int permits, Duration acquireTimeout,
+        MeterRegistry registry) {
+        this.target = target;
+        this.name = name;
+        this.permits = permits;
+        this.semaphore = new Semaphore(permits, true);
+        this.acquireTimeout = acquireTimeout;
+
+        this.waitTimer = Timer.builder("db.gate.wait").description("等待连接获取许可的耗时").tag("name", name)
+            .publishPercentileHistogram().minimumExpectedValue(Duration.ofMillis(1)).maximumExpectedValue(acquireTimeout)
+            .register(registry);
+        this.timeouts = Counter.builder("db.gate.timeouts").description("等待连接获取许可超时的次数").tag("name", name)
+            .register(registry);
+        Gauge.builder("db.gate.active", this, g -> g.permits - g.semaphore.availablePermits())
+            .description("当前持有许可 (持有连接) 的调用方数量").tag("name", name).register(registry);
+        Gauge.builder("db.gate.pending", semaphore, Semaphore::getQueueLength).description("等待许可的调用方数量")
+            .tag("name", name).register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return gate(target.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return gate(target.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Spring 按包装后的实例推断销毁方法，需在此关闭被包装的连接池
+     */
+    @Override
+    public void close() throws Exception {
+        if (target instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for connection gate '" + name + "'",
+                e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            timeouts.increment();
+            throw new SQLTransientConnectionException("Connection gate '" + name + "' timed out after "
+                + acquireTimeout.toMillis() + "ms (permits=" + permits + ", pending=" + semaphore.getQueueLength() + ")");
+        }
+    }
+
+    /**
+     * 包装连接：close() 时归还许可
+     */
+    private Connection gate(Connection connection) {
+        return TrackedConnection.wrap(connection, "Gated", semaphore::release);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return target.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        target.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        target.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return target.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return target.getParentLogger();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T)this;
+        }
+        return target.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || target.isWrapperFor(iface);
+    }
+}
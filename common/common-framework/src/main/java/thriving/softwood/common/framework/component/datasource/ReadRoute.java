@@ -0,0 +1,46 @@
+package thriving.softwood.common.framework.component.datasource;
+
+/**
+ * 📖 当前线程的读路由标记，由 {@code @ReadReplica} 切面设置，{@link ReplicaRoutingDataSource} 读取
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public final class ReadRoute {
+
+    private static final ThreadLocal<Boolean> REPLICA = new ThreadLocal<>();
+
+    private ReadRoute() {}
+
+    /**
+     * 标记当前线程后续获取的连接走只读副本，关闭返回的 {@link Scope} 时恢复原值
+     */
+    public static Scope replica() {
+        Boolean previous = REPLICA.get();
+        REPLICA.set(Boolean.TRUE);
+        return () -> {
+            if (previous != null) {
+                REPLICA.set(previous);
+            } else {
+                REPLICA.remove();
+            }
+        };
+    }
+
+    /**
+     * @return 当前线程是否标记为只读副本路由
+     */
+    public static boolean isReplica() {
+        return Boolean.TRUE.equals(REPLICA.get());
+    }
+
+    /**
+     * 路由作用域，关闭时恢复线程原有的标记
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
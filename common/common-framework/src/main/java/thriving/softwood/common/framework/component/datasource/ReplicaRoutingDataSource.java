@@ -0,0 +1,314 @@
+package thriving.softwood.common.framework.component.datasource;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import thriving.softwood.common.framework.component.config.ReplicaRoutingProperties;
+
+/**
+ * 🔀 读写分离路由数据源
+ * <p>
+ * 以下两种情况获取的连接路由到只读副本，其余一律走主库 (处于读写事务中时，即使在 {@code @ReadReplica} 方法内也走主库)：
+ * <ul>
+ * <li>当前线程处于 {@code @ReadReplica} 方法内 ({@link ReadRoute#isReplica()})</li>
+ * <li>当前事务为只读事务 ({@code @Transactional(readOnly = true)})。DataSourceTransactionManager 在标记只读之前就会获取连接，
+ * 因此需要用 Spring 的 LazyConnectionDataSourceProxy 包装本数据源，把获取连接推迟到第一条语句执行时</li>
+ * </ul>
+ * 副本选择支持轮询与最少连接 ({@link ReplicaRoutingProperties.Selection})。后台线程按 healthCheckInterval 校验每个副本的连通性与复制延迟，
+ * 不健康或延迟超过 maxReplicationLag 的副本暂不承接读请求；没有可用副本、或从副本取连接失败时回退到主库。
+ * <p>
+ * 指标：db.route.usage{route, target} (连接从借出到归还的耗时，计数即请求量，可直接对比主库/副本分流比例)、
+ * db.route.fallback{reason=lag|unhealthy|error}、db.replica.lag{target} (秒)、db.replica.healthy{target}
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class ReplicaRoutingDataSource implements DataSource, AutoCloseable {
+
+    private static final org.slf4j.Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final boolean TX_PRESENT = ClassUtils.isPresent(
+        "org.springframework.transaction.support.TransactionSynchronizationManager",
+        ReplicaRoutingDataSource.class.getClassLoader());
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas;
+
+    private final ReplicaRoutingProperties properties;
+
+    private final MeterRegistry registry;
+
+    private final Timer primaryUsage;
+
+    private final Map<String, Counter> fallbacks = new ConcurrentHashMap<>();
+
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private final ScheduledExecutorService healthChecker;
+
+    /**
+     * @param primary 主库数据源
+     * @param replicas 只读副本，key 为名称 (用于指标 tag)
+     * @param properties 路由配置
+     * @param registry 指标注册表
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+        ReplicaRoutingProperties properties, MeterRegistry registry) {
+        this.primary = primary;
+        this.properties = properties;
+        this.registry = registry;
+        this.primaryUsage = usageTimer(PRIMARY, PRIMARY);
+
+        List<Replica> list = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource, usageTimer(REPLICA, name));
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds).description("副本复制延迟 (秒)")
+                .baseUnit("seconds").tag("target", name).register(registry);
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0).description("副本是否可承接读请求")
+                .tag("target", name).register(registry);
+            list.add(replica);
+        });
+        this.replicas = List.copyOf(list);
+
+        long intervalMs = properties.getHealthCheckInterval().toMillis();
+        this.healthChecker = Executors
+            .newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("replica-health").factory());
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!readRoute()) {
+            return track(primary.getConnection(), PRIMARY, primaryUsage, null);
+        }
+        Replica replica = select();
+        if (replica != null) {
+            try {
+                replica.borrowed.incrementAndGet();
+                return track(replica.dataSource.getConnection(), REPLICA, replica.usage, replica);
+            } catch (SQLException | RuntimeException e) {
+                replica.borrowed.decrementAndGet();
+                replica.healthy = false;
+                logger.warn("🔀 Replica [{}] unavailable, fall back to primary: {}", replica.name, e.getMessage());
+                fallback("error");
+            }
+        }
+        return track(primary.getConnection(), PRIMARY, primaryUsage, null);
+    }
+
+    /**
+     * 带用户名密码的取连接方式不参与路由，始终走主库
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(primary.getConnection(username, password), PRIMARY, primaryUsage, null);
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+    }
+
+    private static boolean readRoute() {
+        if (TX_PRESENT && TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 事务内只看事务本身：读写事务 (含从 @ReadReplica 方法内发起的 REQUIRES_NEW 写事务) 必须走主库
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+        return ReadRoute.isReplica() || (TX_PRESENT && TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+    }
+
+    /**
+     * @return 选中的副本，没有可用副本时返回 null 并记录回退原因
+     */
+    private Replica select() {
+        List<Replica> candidates = new ArrayList<>(replicas.size());
+        boolean lagging = false;
+        // 以毫秒换算为秒 (带小数)，toSeconds() 会把亚秒级阈值截断为 0
+        double maxLagSeconds = properties.getMaxReplicationLag().toMillis() / 1000.0;
+        for (Replica replica : replicas) {
+            if (!replica.healthy) {
+                continue;
+            }
+            if (replica.lagSeconds > maxLagSeconds) {
+                lagging = true;
+                continue;
+            }
+            candidates.add(replica);
+        }
+        if (candidates.isEmpty()) {
+            if (!replicas.isEmpty()) {
+                fallback(lagging ? "lag" : "unhealthy");
+            }
+            return null;
+        }
+        return switch (properties.getSelection()) {
+            case ROUND_ROBIN -> candidates.get(Math.floorMod(cursor.getAndIncrement(), candidates.size()));
+            case LEAST_CONNECTIONS -> {
+                Replica least = candidates.getFirst();
+                for (Replica candidate : candidates) {
+                    if (candidate.borrowed.get() < least.borrowed.get()) {
+                        least = candidate;
+                    }
+                }
+                yield least;
+            }
+        };
+    }
+
+    private Connection track(Connection connection, String route, Timer usage, Replica replica) {
+        long borrowedAt = System.nanoTime();
+        return TrackedConnection.wrap(connection, route, () -> {
+            usage.record(System.nanoTime() - borrowedAt, TimeUnit.NANOSECONDS);
+            if (replica != null) {
+                replica.borrowed.decrementAndGet();
+            }
+        });
+    }
+
+    private void fallback(String reason) {
+        fallbacks.computeIfAbsent(reason, r -> Counter.builder("db.route.fallback").description("读请求回退到主库的次数")
+            .tag("reason", r).register(registry)).increment();
+    }
+
+    private Timer usageTimer(String route, String target) {
+        return Timer.builder("db.route.usage").description("连接从借出到归还的耗时").tag("route", route)
+            .tag("target", target).register(registry);
+    }
+
+    private void checkReplicas() {
+        int timeoutSeconds = (int)Math.max(1, properties.getValidationTimeout().toSeconds());
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.healthy = connection.isValid(timeoutSeconds);
+                if (replica.healthy && properties.getLagQuery() != null) {
+                    replica.lagSeconds = queryLag(connection, timeoutSeconds);
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.healthy = false;
+                logger.debug("🔀 Replica [{}] health check failed: {}", replica.name, e.getMessage());
+            }
+            if (wasHealthy != replica.healthy) {
+                logger.warn("🔀 Replica [{}] is now {} (lag={}s)", replica.name,
+                    replica.healthy ? "healthy" : "unhealthy", replica.lagSeconds);
+            }
+        }
+    }
+
+    private double queryLag(Connection connection, int timeoutSeconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(timeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+                if (!resultSet.next()) {
+                    // MySQL 在非副本节点上 SHOW REPLICA STATUS 返回空，视为无延迟
+                    return 0;
+                }
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                int column = 1;
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    String label = metaData.getColumnLabel(i);
+                    if ("Seconds_Behind_Source".equalsIgnoreCase(label)
+                        || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                        column = i;
+                        break;
+                    }
+                }
+                double lag = resultSet.getDouble(column);
+                // 复制线程停止时延迟为 NULL，按无穷大处理
+                return resultSet.wasNull() ? Double.MAX_VALUE : lag;
+            }
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return primary.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        primary.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        primary.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return primary.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return primary.getParentLogger();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T)this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    /**
+     * 只读副本及其运行时状态
+     */
+    private static final class Replica {
+
+        private final String name;
+
+        private final DataSource dataSource;
+
+        private final Timer usage;
+
+        private final AtomicInteger borrowed = new AtomicInteger();
+
+        /** 首次健康检查完成前视为健康，避免启动阶段所有读请求都回退到主库 */
+        private volatile boolean healthy = true;
+
+        private volatile double lagSeconds;
+
+        private Replica(String name, DataSource dataSource, Timer usage) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.usage = usage;
+        }
+    }
+}
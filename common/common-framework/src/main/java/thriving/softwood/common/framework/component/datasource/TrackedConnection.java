@@ -0,0 +1,61 @@
+package thriving.softwood.common.framework.component.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 连接包装：close() 时回调一次 onClose (重复 close 只回调一次)，其余方法原样委托
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+final class TrackedConnection {
+
+    private TrackedConnection() {}
+
+    static Connection wrap(Connection connection, String label, Runnable onClose) {
+        AtomicBoolean closed = new AtomicBoolean();
+        return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close" -> {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (closed.compareAndSet(false, true)) {
+                                onClose.run();
+                            }
+                        }
+                        return null;
+                    }
+                    case "unwrap" -> {
+                        if (((Class<?>)args[0]).isInstance(proxy)) {
+                            return proxy;
+                        }
+                    }
+                    case "isWrapperFor" -> {
+                        if (((Class<?>)args[0]).isInstance(proxy)) {
+                            return true;
+                        }
+                    }
+                    case "equals" -> {
+                        return proxy == args[0];
+                    }
+                    case "hashCode" -> {
+                        return System.identityHashCode(proxy);
+                    }
+                    case "toString" -> {
+                        return label + "[" + connection + "]";
+                    }
+                    default -> {}
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * 数据源增强：连接获取闸门、读写路由
+ */
+
+package thriving.softwood.common.framework.component.datasource;
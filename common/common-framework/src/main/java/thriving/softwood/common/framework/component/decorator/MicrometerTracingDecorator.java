@@ -1,5 +1,7 @@
 package thriving.softwood.common.framework.component.decorator;
 
+import java.util.concurrent.Callable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.task.TaskDecorator;
@@ -7,11 +9,24 @@ import org.springframework.core.task.TaskDecorator;
 import io.micrometer.tracing.Span;
 import io.micrometer.tracing.Tracer;
 import lombok.NonNull;
+import thriving.softwood.common.framework.component.context.AsyncRequestContext;
+import thriving.softwood.common.framework.component.context.ScopedTraceContext;
 
 /**
  * 🚀 Micrometer 嵌套链路追踪装饰器 (Spring Boot 4 Standard)
  * <p>
  * 作用： 1. 解决跨线程 TraceContext 丢失问题。 2. 显式创建 Child Span，实现精确的 [Parent -> Child] 追踪关系。 3. 输出线程切换的衔接日志，便于排查并发问题。
+ * 4. 随 TraceContext 一起传递 {@link AsyncRequestContext} (请求截止时间)。
+ * <p>
+ * 快速路径：当父 Span 未被采样时，子 Span 同样不会被上报，此时不再创建子 Span，只把父上下文带到子线程 (MDC 中的 traceId 依旧可用)，
+ * 每次派发只多一个包装对象。衔接日志的输出级别由 {@link DispatchLog} 控制。
+ * <p>
+ * 传递方式由 {@link Propagation} 控制：SCOPED_VALUE 模式下 Span、Baggage 与请求上下文以不可变的 {@link ScopedTraceContext.Carrier}
+ * 经 {@link ScopedValue} 绑定到子任务，不打开 Micrometer 作用域：既不写 OTel 的 ThreadLocal，也不触发写 MDC 的作用域事件，
+ * 日志中的链路 ID 由 {@link thriving.softwood.common.framework.component.context.ScopedTraceContextDataProvider} 在产生日志时读取。
+ * 代价是任务内 {@code tracer.currentSpan()} 为空：框架的入口 (嵌套派发、@SingleFlight、@Scheduled 追踪、Fork/Join) 经
+ * {@link ScopedTraceContext#currentSpan(Tracer)} 读取载体；依赖 Micrometer 作用域的自动埋点 (如 HTTP 客户端透传 traceparent)
+ * 需在调用处以 {@link ScopedTraceContext#openScope(Tracer)} 临时打开作用域。
  *
  * @author ThrivingSoftwood
  * @since 2026-01-26
@@ -20,34 +35,95 @@ public class MicrometerTracingDecorator implements TaskDecorator {
 
     private static final Logger logger = LoggerFactory.getLogger(MicrometerTracingDecorator.class);
 
+    /**
+     * 线程派发衔接日志的输出模式
+     */
+    public enum DispatchLog {
+        /** 不输出 */
+        OFF,
+        /** 以 DEBUG 级别输出 */
+        DEBUG,
+        /** 仅对已采样的链路以 INFO 级别输出 */
+        SAMPLED,
+        /** 所有派发均以 INFO 级别输出 */
+        INFO
+    }
+
+    /**
+     * 跨线程上下文的传递方式
+     */
+    public enum Propagation {
+        /** Micrometer ThreadLocal 作用域 + MDC 复制 (默认) */
+        THREAD_LOCAL,
+        /** JDK 25 ScopedValue 不可变载体，不打开 Micrometer 作用域，日志按需桥接 MDC；适用于短命的虚拟线程任务 */
+        SCOPED_VALUE
+    }
+
     private final Tracer tracer;
 
+    private final DispatchLog dispatchLog;
+
+    private final boolean unsampledFastPath;
+
+    private final Propagation propagation;
+
     public MicrometerTracingDecorator(Tracer tracer) {
+        this(tracer, DispatchLog.INFO, false);
+    }
+
+    /**
+     * @param dispatchLog 衔接日志输出模式
+     * @param unsampledFastPath 父 Span 未采样时是否跳过子 Span 的创建
+     */
+    public MicrometerTracingDecorator(Tracer tracer, DispatchLog dispatchLog, boolean unsampledFastPath) {
+        this(tracer, dispatchLog, unsampledFastPath, Propagation.THREAD_LOCAL);
+    }
+
+    /**
+     * @param propagation 上下文传递方式
+     */
+    public MicrometerTracingDecorator(Tracer tracer, DispatchLog dispatchLog, boolean unsampledFastPath,
+        Propagation propagation) {
         this.tracer = tracer;
+        this.dispatchLog = dispatchLog;
+        this.unsampledFastPath = unsampledFastPath;
+        this.propagation = propagation;
+    }
+
+    /**
+     * @return 其余设置相同、传递方式不同的装饰器
+     */
+    public MicrometerTracingDecorator withPropagation(Propagation propagation) {
+        return propagation == this.propagation ? this
+            : new MicrometerTracingDecorator(tracer, dispatchLog, unsampledFastPath, propagation);
     }
 
     @Override
     @NonNull
     public Runnable decorate(@NonNull Runnable runnable) {
         // 1. 【父线程】获取当前上下文中的 Span (可能为空)
-        Span parentSpan = tracer.currentSpan();
+        Span parentSpan = ScopedTraceContext.currentSpan(tracer);
+        AsyncRequestContext requestContext = AsyncRequestContext.current();
+        if (propagation == Propagation.SCOPED_VALUE) {
+            return decorateScoped(runnable, parentSpan, requestContext);
+        }
+        if (skipChildSpan(parentSpan)) {
+            return () -> {
+                // 仅传递父上下文，不产生新的 Span
+                try (Tracer.SpanInScope ws = tracer.withSpan(parentSpan);
+                    AsyncRequestContext.Scope rs = AsyncRequestContext.attach(requestContext)) {
+                    runnable.run();
+                }
+            };
+        }
 
-        // 2. 【父线程】基于当前上下文创建新的子 Span (Child Span)
-        // .nextSpan() 会自动检测当前上下文，如果有 parent 则关联，没有则作为 root
-        Span childSpan = tracer.nextSpan().name("async-task");
-
-        // 3. 【父线程】构建衔接日志 (Requirement: [pSpanId -> spanId])
-        String parentId = (parentSpan != null) ? parentSpan.context().spanId() : "root";
-        String childId = childSpan.context().spanId();
-
-        // 记录此时发生的线程派发行为
-        // 注意：此时 Logger MDC 依然是 Parent 的上下文
-        logger.info("🧵 Thread Dispatch: [{} -> {}] Task submitted.", parentId, childId);
+        Span childSpan = dispatch(parentSpan, "async-task");
 
         // 4. 返回包装后的 Runnable
         return () -> {
-            // 5. 【子线程】启动 Span 并注入当前线程的 ThreadLocal/MDC
-            try (Tracer.SpanInScope ws = tracer.withSpan(childSpan.start())) {
+            // 5. 【子线程】启动 Span 并注入当前线程的 ThreadLocal/MDC，同时带上请求截止时间
+            try (Tracer.SpanInScope ws = tracer.withSpan(childSpan.start());
+                AsyncRequestContext.Scope rs = AsyncRequestContext.attach(requestContext)) {
                 // 此时 MDC 已被 Micrometer 自动更新为 traceId + childSpanId
                 runnable.run();
             } finally {
@@ -56,4 +132,133 @@ public class MicrometerTracingDecorator implements TaskDecorator {
             }
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * 带返回值的版本，供结构化并发等不经过 {@link TaskDecorator} 的派发入口复用同一套 [Parent -> Child] 语义
+     *
+     * @param callable 原始任务
+     * @param name 子 Span 名称
+     * @return 在子 Span 中执行的任务，异常会记录到子 Span 后原样抛出
+     */
+    @NonNull
+    public <T> Callable<T> decorate(@NonNull Callable<? extends T> callable, @NonNull String name) {
+        Span parentSpan = ScopedTraceContext.currentSpan(tracer);
+        AsyncRequestContext requestContext = AsyncRequestContext.current();
+        if (propagation == Propagation.SCOPED_VALUE) {
+            return decorateScoped(callable, name, parentSpan, requestContext);
+        }
+        if (skipChildSpan(parentSpan)) {
+            return () -> {
+                try (Tracer.SpanInScope ws = tracer.withSpan(parentSpan);
+                    AsyncRequestContext.Scope rs = AsyncRequestContext.attach(requestContext)) {
+                    return callable.call();
+                }
+            };
+        }
+
+        Span childSpan = dispatch(parentSpan, name);
+
+        return () -> {
+            try (Tracer.SpanInScope ws = tracer.withSpan(childSpan.start());
+                AsyncRequestContext.Scope rs = AsyncRequestContext.attach(requestContext)) {
+                return callable.call();
+            } catch (Exception e) {
+                childSpan.error(e);
+                throw e;
+            } finally {
+                childSpan.end();
+            }
+        };
+    }
+
+    /**
+     * SCOPED_VALUE 模式：Span 只放在载体中，不打开 Micrometer 作用域 (不写 OTel ThreadLocal，也就不触发写 MDC 的作用域事件)
+     */
+    private Runnable decorateScoped(Runnable runnable, Span parentSpan, AsyncRequestContext requestContext) {
+        if (skipChildSpan(parentSpan)) {
+            ScopedTraceContext.Carrier carrier = ScopedTraceContext.capture(tracer, parentSpan, requestContext);
+            return () -> ScopedTraceContext.run(carrier, runnable);
+        }
+
+        Span childSpan = dispatch(parentSpan, "async-task");
+        ScopedTraceContext.Carrier carrier = ScopedTraceContext.capture(tracer, childSpan, requestContext);
+        return () -> {
+            childSpan.start();
+            try {
+                ScopedTraceContext.run(carrier, runnable);
+            } finally {
+                childSpan.end();
+            }
+        };
+    }
+
+    private <T> Callable<T> decorateScoped(Callable<? extends T> callable, String name, Span parentSpan,
+        AsyncRequestContext requestContext) {
+        if (skipChildSpan(parentSpan)) {
+            ScopedTraceContext.Carrier carrier = ScopedTraceContext.capture(tracer, parentSpan, requestContext);
+            return () -> ScopedTraceContext.call(carrier, callable);
+        }
+
+        Span childSpan = dispatch(parentSpan, name);
+        ScopedTraceContext.Carrier carrier = ScopedTraceContext.capture(tracer, childSpan, requestContext);
+        return () -> {
+            childSpan.start();
+            try {
+                return ScopedTraceContext.call(carrier, callable);
+            } catch (Exception e) {
+                childSpan.error(e);
+                throw e;
+            } finally {
+                childSpan.end();
+            }
+        };
+    }
+
+    private static boolean isSampled(Span span) {
+        return Boolean.TRUE.equals(span.context().sampled());
+    }
+
+    /**
+     * 父 Span 存在且明确未被采样时走快速路径；没有父 Span 时仍创建根 Span，交由采样器决定
+     */
+    private boolean skipChildSpan(Span parentSpan) {
+        return unsampledFastPath && parentSpan != null && !isSampled(parentSpan);
+    }
+
+    /**
+     * 【父线程】基于当前上下文创建子 Span 并输出衔接日志
+     */
+    private Span dispatch(Span parentSpan, String name) {
+        // 2. 【父线程】基于当前上下文创建新的子 Span (Child Span)
+        // 显式指定 parent (可能来自 ScopedValue 载体)，没有则作为 root
+        Span childSpan = (parentSpan != null ? tracer.nextSpan(parentSpan) : tracer.nextSpan()).name(name);
+
+        // 3. 【父线程】构建衔接日志 (Requirement: [pSpanId -> spanId])
+        // 注意：此时 Logger MDC 依然是 Parent 的上下文
+        switch (dispatchLog) {
+            case INFO -> logDispatch(parentSpan, childSpan, false);
+            case SAMPLED -> {
+                if (isSampled(childSpan)) {
+                    logDispatch(parentSpan, childSpan, false);
+                }
+            }
+            case DEBUG -> {
+                if (logger.isDebugEnabled()) {
+                    logDispatch(parentSpan, childSpan, true);
+                }
+            }
+            case OFF -> {}
+        }
+        return childSpan;
+    }
+
+    private static void logDispatch(Span parentSpan, Span childSpan, boolean debug) {
+        String parentId = (parentSpan != null) ? parentSpan.context().spanId() : "root";
+        String childId = childSpan.context().spanId();
+        if (debug) {
+            logger.debug("🧵 Thread Dispatch: [{} -> {}] Task submitted.", parentId, childId);
+        } else {
+            logger.info("🧵 Thread Dispatch: [{} -> {}] Task submitted.", parentId, childId);
+        }
+    }
+}
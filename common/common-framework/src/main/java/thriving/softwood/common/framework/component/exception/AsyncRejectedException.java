@@ -0,0 +1,53 @@
+package thriving.softwood.common.framework.component.exception;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+
+import lombok.Getter;
+
+/**
+ * 异步执行器过载拒绝异常
+ * <p>
+ * 由 ptExecutor 的过载策略抛出，Spring 会将其包装为 {@code TaskRejectedException} 同步抛给调用方 (Web 请求线程)， 由 common-web
+ * 统一映射为 429/503 并携带 Retry-After。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Getter
+public class AsyncRejectedException extends RejectedExecutionException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 拒绝原因
+     */
+    public enum Reason {
+        /** 队列已满且线程数已达上限 */
+        QUEUE_FULL,
+        /** 按优先级卸载：低优先级任务在队列达到阈值时提前拒绝 */
+        SHED,
+        /** 任务平均耗时超出调用方线程可承受的预算，不允许回退到调用方执行 */
+        OVER_BUDGET,
+        /** 执行器已关闭 (应用停机中) */
+        SHUTDOWN
+    }
+
+    /** 执行器名称 */
+    private final String executor;
+
+    /** 拒绝原因 */
+    private final Reason reason;
+
+    /** 建议客户端的重试间隔 */
+    private final Duration retryAfter;
+
+    public AsyncRejectedException(String executor, Reason reason, Duration retryAfter) {
+        super("Executor '" + executor + "' rejected task: " + reason);
+        this.executor = executor;
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,36 @@
+package thriving.softwood.common.framework.component.exception;
+
+import java.io.Serial;
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * 舱壁许可耗尽异常：在 acquireTimeout 内未能获取到许可
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** 舱壁名称 */
+    private final String bulkhead;
+
+    /** 舱壁许可数 */
+    private final int maxConcurrent;
+
+    /** 获取许可的最长等待时间，可作为客户端的重试间隔参考 */
+    private final Duration acquireTimeout;
+
+    public BulkheadFullException(String bulkhead, int maxConcurrent, Duration acquireTimeout) {
+        super("Bulkhead '" + bulkhead + "' is full (maxConcurrent=" + maxConcurrent + ", acquireTimeout="
+            + acquireTimeout.toMillis() + "ms)");
+        this.bulkhead = bulkhead;
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeout = acquireTimeout;
+    }
+}
@@ -0,0 +1,27 @@
+package thriving.softwood.common.framework.component.exception;
+
+import java.io.Serial;
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * 请求截止时间已过异常：调用方已放弃等待，后续的异步工作被跳过
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Getter
+public class DeadlineExceededException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** 已超出截止时间多久 */
+    private final Duration overdue;
+
+    public DeadlineExceededException(Duration overdue) {
+        super("Request deadline exceeded by " + overdue.toMillis() + "ms");
+        this.overdue = overdue;
+    }
+}
@@ -0,0 +1,234 @@
+package thriving.softwood.common.framework.component.executor;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.NonNull;
+import thriving.softwood.common.framework.component.config.AsyncProperties;
+import thriving.softwood.common.framework.component.exception.AsyncRejectedException;
+
+/**
+ * 🧱 自适应平台线程池 (ptExecutor)
+ * <p>
+ * {@link ThreadPoolTaskExecutor} 只有在队列塞满后才会扩容到 maxPoolSize，因此在有界大队列下线程数永远停留在 core。 本执行器改为直接调节 core：
+ * 以 CPU 核数为起点，周期性地根据「任务平均排队耗时」与「进程 CPU 利用率」在 [minPoolSize, maxPoolSize] 区间内扩缩容。
+ * <ul>
+ * <li>排队耗时超标且 CPU 仍有余量：扩容 (每次 +25%，至少 +1)</li>
+ * <li>CPU 已饱和：保持不变，继续加线程只会加剧上下文切换</li>
+ * <li>队列为空且半数以上线程空闲：缩容</li>
+ * </ul>
+ * 最近一次决策可通过 {@link #getLastDecision()} 获取，同时以 Micrometer Gauge 的形式暴露。
+ * <p>
+ * 饱和时的行为由 {@link OverloadPolicy} 决定 ({@link #overloadHandler()})，默认快速拒绝，不再把重度计算回退到 Tomcat 请求线程。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class AdaptivePtExecutor extends ThreadPoolTaskExecutor implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePtExecutor.class);
+
+    private final AsyncProperties.Pt settings;
+
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder queueWaitSamples = new LongAdder();
+
+    /** 任务执行耗时的指数加权平均值，供 CALLER_RUNS_WITHIN_BUDGET 判断 */
+    private volatile double avgRunNanos;
+
+    private ScheduledExecutorService tuner;
+
+    private volatile PtSizingDecision lastDecision;
+
+    public AdaptivePtExecutor(AsyncProperties.Pt settings) {
+        this.settings = settings;
+        int minPoolSize = Math.max(1, settings.getMinPoolSize());
+        int maxPoolSize = Math.max(minPoolSize, settings.getMaxPoolSize());
+        super.setCorePoolSize(minPoolSize);
+        super.setMaxPoolSize(maxPoolSize);
+        super.setQueueCapacity(settings.getQueueCapacity());
+        super.setKeepAliveSeconds((int)settings.getKeepAlive().toSeconds());
+        super.setTaskDecorator(this::measure);
+        this.lastDecision = new PtSizingDecision(Instant.now(), minPoolSize, minPoolSize, 0, -1, 0, 0, "initial");
+    }
+
+    /**
+     * 在业务装饰器外层再包一层排队耗时采集，保证测得的是「提交 -> 开始执行」的完整等待时间
+     */
+    @Override
+    public void setTaskDecorator(@NonNull TaskDecorator taskDecorator) {
+        super.setTaskDecorator(runnable -> measure(taskDecorator.decorate(runnable)));
+    }
+
+    /**
+     * SHED_BY_PRIORITY 策略下使用按优先级分段的队列
+     */
+    @Override
+    @NonNull
+    protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+        if (settings.getOverloadPolicy() == OverloadPolicy.SHED_BY_PRIORITY && queueCapacity > 0) {
+            return new PriorityShedQueue(queueCapacity, settings.getLowPriorityQueueRatio(),
+                settings.getNormalPriorityQueueRatio());
+        }
+        return super.createQueue(queueCapacity);
+    }
+
+    /**
+     * 根据 thriving.async.pt.overload-policy 构建拒绝策略
+     */
+    public RejectedExecutionHandler overloadHandler() {
+        Duration retryAfter = settings.getRetryAfter();
+        return switch (settings.getOverloadPolicy()) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case CALLER_RUNS_WITHIN_BUDGET -> (runnable, executor) -> {
+                if (executor.isShutdown()) {
+                    throw new AsyncRejectedException("ptExecutor", AsyncRejectedException.Reason.SHUTDOWN, retryAfter);
+                }
+                if (avgRunNanos > settings.getCallerRunsBudget().toNanos()) {
+                    throw new AsyncRejectedException("ptExecutor", AsyncRejectedException.Reason.OVER_BUDGET,
+                        retryAfter);
+                }
+                runnable.run();
+            };
+            case REJECT, SHED_BY_PRIORITY -> (runnable, executor) -> {
+                // 停机时队列可能仍有空位，先排除，避免被当作 SHED 映射为 429
+                AsyncRejectedException.Reason reason = executor.isShutdown() ? AsyncRejectedException.Reason.SHUTDOWN
+                    : executor.getQueue().remainingCapacity() > 0 ? AsyncRejectedException.Reason.SHED
+                        : AsyncRejectedException.Reason.QUEUE_FULL;
+                throw new AsyncRejectedException("ptExecutor", reason, retryAfter);
+            };
+        };
+    }
+
+    @Override
+    @NonNull
+    protected ExecutorService initializeExecutor(@NonNull ThreadFactory threadFactory,
+        @NonNull RejectedExecutionHandler rejectedExecutionHandler) {
+        ExecutorService executorService = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+        if (settings.isAdaptive() && tuner == null) {
+            long intervalMs = settings.getAdjustInterval().toMillis();
+            tuner = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name(getThreadNamePrefix() + "tuner").factory());
+            tuner.scheduleWithFixedDelay(this::adjust, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+        return executorService;
+    }
+
+    @Override
+    public void shutdown() {
+        if (tuner != null) {
+            tuner.shutdownNow();
+            tuner = null;
+        }
+        super.shutdown();
+    }
+
+    /**
+     * @return 最近一次容量调节决策
+     */
+    public PtSizingDecision getLastDecision() {
+        return lastDecision;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("async.pt.pool.core", this, ThreadPoolTaskExecutor::getCorePoolSize)
+            .description("自适应线程池当前核心线程数").tag("executor", "ptExecutor").register(registry);
+        Gauge.builder("async.pt.queue.wait.avg", this, e -> e.getLastDecision().avgQueueWaitMs())
+            .description("最近一个调节周期内的平均排队耗时 (ms)").baseUnit("milliseconds").tag("executor", "ptExecutor")
+            .register(registry);
+        Gauge.builder("async.pt.cpu.load", this, e -> e.getLastDecision().cpuLoad())
+            .description("最近一次调节时观测到的进程 CPU 利用率").tag("executor", "ptExecutor").register(registry);
+    }
+
+    private Runnable measure(Runnable runnable) {
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            queueWaitNanos.add(startedAt - submittedAt);
+            queueWaitSamples.increment();
+            try {
+                runnable.run();
+            } finally {
+                // 并发更新下允许丢失个别样本，只需要一个大致的量级
+                long runNanos = System.nanoTime() - startedAt;
+                double avg = avgRunNanos;
+                avgRunNanos = avg == 0 ? runNanos : avg * 0.8 + runNanos * 0.2;
+            }
+        };
+    }
+
+    private void adjust() {
+        try {
+            long samples = queueWaitSamples.sumThenReset();
+            long waitNanos = queueWaitNanos.sumThenReset();
+            double avgQueueWaitMs = samples == 0 ? 0 : waitNanos / (double)samples / 1_000_000;
+            double cpuLoad = processCpuLoad();
+            int activeCount = getActiveCount();
+            int queueSize = getQueueSize();
+
+            int minPoolSize = Math.max(1, settings.getMinPoolSize());
+            int maxPoolSize = getMaxPoolSize();
+            int coreSize = getCorePoolSize();
+            int targetSize = coreSize;
+            String reason;
+
+            boolean waitTooLong = avgQueueWaitMs > settings.getTargetQueueWait().toMillis();
+            boolean cpuSaturated = cpuLoad >= 0 && cpuLoad > settings.getTargetCpuUtilization();
+            if (waitTooLong && cpuSaturated) {
+                reason = "cpu-saturated";
+            } else if (waitTooLong && coreSize < maxPoolSize) {
+                targetSize = Math.min(maxPoolSize, coreSize + Math.max(1, coreSize / 4));
+                reason = "queue-wait-high";
+            } else if (queueSize == 0 && activeCount < coreSize / 2 && coreSize > minPoolSize) {
+                targetSize = Math.max(minPoolSize, coreSize - Math.max(1, (coreSize - activeCount) / 2));
+                reason = "idle";
+            } else {
+                reason = "steady";
+            }
+
+            if (targetSize != coreSize) {
+                setCorePoolSize(targetSize);
+            }
+            PtSizingDecision decision = new PtSizingDecision(Instant.now(), coreSize, targetSize, avgQueueWaitMs,
+                cpuLoad, activeCount, queueSize, reason);
+            lastDecision = decision;
+
+            if (decision.resized()) {
+                logger.info("⚖️ ptExecutor resized: [{} -> {}] reason={}, avgQueueWait={}ms, cpu={}, active={}, queued={}",
+                    coreSize, targetSize, reason, String.format("%.1f", avgQueueWaitMs), String.format("%.2f", cpuLoad),
+                    activeCount, queueSize);
+            } else {
+                logger.debug("⚖️ ptExecutor hold at {} ({})", coreSize, reason);
+            }
+        } catch (RuntimeException e) {
+            // 调节线程异常不能终止周期任务
+            logger.warn("⚠️ ptExecutor adjust failed", e);
+        }
+    }
+
+    private static double processCpuLoad() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getProcessCpuLoad();
+        }
+        return -1;
+    }
+}
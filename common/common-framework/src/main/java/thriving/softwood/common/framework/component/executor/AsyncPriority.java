@@ -0,0 +1,59 @@
+package thriving.softwood.common.framework.component.executor;
+
+import java.util.function.Supplier;
+
+/**
+ * 🚦 异步任务优先级，仅在 {@link OverloadPolicy#SHED_BY_PRIORITY} 下生效
+ * <p>
+ * 入队发生在调用方线程，因此优先级通过调用方线程的作用域声明：
+ *
+ * <pre>
+ * AsyncPriority.runWith(AsyncPriority.LOW, () -&gt; self.performReport(id));
+ * </pre>
+ *
+ * 未声明时为 {@link #NORMAL}。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public enum AsyncPriority {
+
+    HIGH, NORMAL, LOW;
+
+    private static final ThreadLocal<AsyncPriority> CURRENT = new ThreadLocal<>();
+
+    /**
+     * @return 当前线程声明的优先级，未声明时为 NORMAL
+     */
+    public static AsyncPriority current() {
+        AsyncPriority priority = CURRENT.get();
+        return priority != null ? priority : NORMAL;
+    }
+
+    /**
+     * 以指定优先级执行一段会提交异步任务的代码
+     */
+    public static void runWith(AsyncPriority priority, Runnable action) {
+        callWith(priority, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 以指定优先级执行一段会提交异步任务的代码并返回结果
+     */
+    public static <T> T callWith(AsyncPriority priority, Supplier<T> action) {
+        AsyncPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
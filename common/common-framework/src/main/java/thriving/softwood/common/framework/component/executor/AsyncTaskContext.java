@@ -0,0 +1,60 @@
+package thriving.softwood.common.framework.component.executor;
+
+/**
+ * 当前异步任务的执行记录 (线程内)
+ * <p>
+ * 装饰器只能看到 Spring 封装后的 Runnable，无法得知目标方法；而切面运行在任务内部，能看到方法与异常。
+ * 二者通过本记录衔接：装饰器在任务开始前 {@link #open()}，切面填写方法名与结果，任务结束后装饰器读取并记录指标。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public final class AsyncTaskContext {
+
+    public static final String UNKNOWN = "unknown";
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String REJECTED = "rejected";
+    public static final String EXPIRED = "expired";
+
+    private static final ThreadLocal<AsyncTaskContext> CURRENT = new ThreadLocal<>();
+
+    private String method = UNKNOWN;
+
+    private String outcome = SUCCESS;
+
+    private AsyncTaskContext() {}
+
+    /**
+     * @return 当前线程正在执行的异步任务记录，不在受监控的执行器中时为 null
+     */
+    public static AsyncTaskContext current() {
+        return CURRENT.get();
+    }
+
+    static AsyncTaskContext open() {
+        AsyncTaskContext context = new AsyncTaskContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public void method(String method) {
+        this.method = method;
+    }
+
+    public String outcome() {
+        return outcome;
+    }
+
+    public void outcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
@@ -0,0 +1,61 @@
+package thriving.softwood.common.framework.component.executor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import thriving.softwood.common.framework.annotation.async.VtAsync;
+import thriving.softwood.common.framework.component.config.AsyncProperties;
+
+/**
+ * 舱壁注册表：按名称懒加载创建 {@link Bulkhead}
+ * <p>
+ * 参数优先级：配置项 thriving.async.vt.bulkheads.&lt;name&gt; &gt; {@link VtAsync} 注解 &gt; thriving.async.vt.default-bulkhead
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class BulkheadRegistry {
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    private final AsyncProperties.Vt settings;
+
+    private final MeterRegistry meterRegistry;
+
+    public BulkheadRegistry(AsyncProperties.Vt settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 获取注解声明的舱壁，同名舱壁只在首次访问时创建
+     */
+    public Bulkhead bulkhead(VtAsync vtAsync) {
+        return bulkheads.computeIfAbsent(vtAsync.bulkhead(), name -> create(name, vtAsync));
+    }
+
+    /**
+     * @return 已创建的舱壁，不存在时为空
+     */
+    public Optional<Bulkhead> find(String name) {
+        return Optional.ofNullable(bulkheads.get(name));
+    }
+
+    private Bulkhead create(String name, VtAsync vtAsync) {
+        AsyncProperties.BulkheadSpec configured = settings.getBulkheads().get(name);
+        AsyncProperties.BulkheadSpec defaults = settings.getDefaultBulkhead();
+
+        int maxConcurrent = configured != null && configured.getMaxConcurrent() != null
+            ? configured.getMaxConcurrent()
+            : vtAsync.maxConcurrent() > 0 ? vtAsync.maxConcurrent() : defaults.getMaxConcurrent();
+        Duration acquireTimeout = configured != null && configured.getAcquireTimeout() != null
+            ? configured.getAcquireTimeout()
+            : vtAsync.acquireTimeoutMs() >= 0 ? Duration.ofMillis(vtAsync.acquireTimeoutMs())
+                : defaults.getAcquireTimeout();
+
+        return new Bulkhead(name, maxConcurrent, acquireTimeout, meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package thriving.softwood.common.framework.component.executor;
+
+/**
+ * 🚦 平台线程池过载策略 (thriving.async.pt.overload-policy)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public enum OverloadPolicy {
+
+    /** 快速拒绝：队列满即拒绝，调用方收到 503 */
+    REJECT,
+
+    /** 按优先级卸载：队列达到阈值后依次拒绝 LOW / NORMAL 任务，HIGH 任务可使用全部队列容量 */
+    SHED_BY_PRIORITY,
+
+    /** 预算内由调用方执行：任务平均耗时不超过 callerRunsBudget 时回退到调用方线程，否则拒绝 */
+    CALLER_RUNS_WITHIN_BUDGET,
+
+    /** 始终由调用方执行 (旧行为)：会阻塞 Tomcat 请求线程，不建议在 Web 场景使用 */
+    CALLER_RUNS
+}
@@ -0,0 +1,42 @@
+package thriving.softwood.common.framework.component.executor;
+
+import java.io.Serial;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 按优先级分段使用容量的有界队列：LOW / NORMAL 任务只能使用队列的前一部分，剩余容量留给 HIGH 任务
+ * <p>
+ * {@link #offer(Object)} 在调用方线程中执行，读取 {@link AsyncPriority#current()} 判断是否接收。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+class PriorityShedQueue extends LinkedBlockingQueue<Runnable> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int lowLimit;
+
+    private final int normalLimit;
+
+    PriorityShedQueue(int capacity, double lowRatio, double normalRatio) {
+        super(capacity);
+        this.lowLimit = (int)(capacity * lowRatio);
+        this.normalLimit = (int)(capacity * normalRatio);
+    }
+
+    @Override
+    public boolean offer(Runnable runnable) {
+        int limit = switch (AsyncPriority.current()) {
+            case HIGH -> Integer.MAX_VALUE;
+            case NORMAL -> normalLimit;
+            case LOW -> lowLimit;
+        };
+        // 近似判断即可，size() 与 offer() 之间的竞态最多多放入几个任务
+        if (size() >= limit) {
+            return false;
+        }
+        return super.offer(runnable);
+    }
+}
@@ -0,0 +1,25 @@
+package thriving.softwood.common.framework.component.executor;
+
+import java.time.Instant;
+
+/**
+ * 平台线程池的一次容量调节决策快照
+ *
+ * @param decidedAt 决策时间
+ * @param previousCoreSize 调节前的核心线程数
+ * @param coreSize 调节后的核心线程数
+ * @param avgQueueWaitMs 本周期内任务平均排队耗时 (ms)
+ * @param cpuLoad 进程 CPU 利用率 (0~1)，无法获取时为 -1
+ * @param activeCount 决策时的活跃线程数
+ * @param queueSize 决策时的排队任务数
+ * @param reason 决策原因
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public record PtSizingDecision(Instant decidedAt, int previousCoreSize, int coreSize, double avgQueueWaitMs,
+    double cpuLoad, int activeCount, int queueSize, String reason) {
+
+    public boolean resized() {
+        return previousCoreSize != coreSize;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * 自定义线程池执行器
+ */
+
+package thriving.softwood.common.framework.component.executor;
\ No newline at end of file
@@ -0,0 +1,47 @@
+package thriving.softwood.common.framework.component.interceptor;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import thriving.softwood.common.framework.component.mybatis.SqlShapeCache;
+
+/**
+ * 🧩 MyBatis 插件：语句首次执行前为其安装动态 SQL 形态缓存 ({@link SqlShapeCache})
+ * <p>
+ * 使用 mybatis-spring-boot-starter 时容器中的 {@link Interceptor} Bean 会被自动注册；手动构建 SqlSessionFactoryBean 时需通过 setPlugins 注册。
+ * 与 PageHelper 等同样拦截 Executor 的插件兼容：本插件只替换 SqlSource，不改变调用参数。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class,
+            BoundSql.class}),
+    @Signature(type = Executor.class, method = "queryCursor",
+        args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})})
+public class SqlShapeCacheInterceptor implements Interceptor {
+
+    private final SqlShapeCache sqlShapeCache;
+
+    public SqlShapeCacheInterceptor(SqlShapeCache sqlShapeCache) {
+        this.sqlShapeCache = sqlShapeCache;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        sqlShapeCache.install((MappedStatement)invocation.getArgs()[0]);
+        return invocation.proceed();
+    }
+}
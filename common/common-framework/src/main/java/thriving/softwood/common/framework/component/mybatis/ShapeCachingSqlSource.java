@@ -0,0 +1,239 @@
+package thriving.softwood.common.framework.component.mybatis;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.ibatis.builder.SqlSourceBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.scripting.xmltags.ChooseSqlNode;
+import org.apache.ibatis.scripting.xmltags.DynamicContext;
+import org.apache.ibatis.scripting.xmltags.DynamicSqlSource;
+import org.apache.ibatis.scripting.xmltags.IfSqlNode;
+import org.apache.ibatis.scripting.xmltags.MixedSqlNode;
+import org.apache.ibatis.scripting.xmltags.SqlNode;
+import org.apache.ibatis.scripting.xmltags.StaticTextSqlNode;
+import org.apache.ibatis.scripting.xmltags.TrimSqlNode;
+import org.apache.ibatis.session.Configuration;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * 🧩 带形态缓存的动态 SQL 源
+ * <p>
+ * {@code <if>/<choose>/<where>/<set>/<trim>} 构成的动态 SQL 每次调用都要经 OGNL 求值整棵 SqlNode 树，再由 {@link SqlSourceBuilder} 解析
+ * {@code #{}} 占位符。当所有判断条件都只是 {@code x != null} / {@code x == ''} 这类空值判断时，生成的 SQL 文本只取决于各参数「是否为 null / 空串」，
+ * 因此以 (参数类型, 空值形态) 为键缓存 SQL 文本与参数映射，重复形态直接构造 {@link BoundSql}，跳过 OGNL 与占位符解析。
+ * <p>
+ * 与空串比较 ({@code x != ''} / {@code x == ''}) 的结果只对字符串取决于空值形态：OGNL 会把 {@code ''} 转换为数值与数字比较，
+ * {@code 0 != ''} 为 false 而 {@code 1 != ''} 为 true。因此这类参数运行时不是 {@link CharSequence} (且不为 null) 时不使用缓存，
+ * 回退到 OGNL 求值 (计入 bypass)。
+ * <p>
+ * 含有 {@code <foreach>}、{@code <bind>}、{@code ${}} 或非空值判断的语句不可缓存，{@link #wrap} 返回 null，保持原样。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class ShapeCachingSqlSource implements SqlSource {
+
+    /** 单个空值判断：x != null / x == null / x != '' / x == ''；第 2 组非空表示与空串比较 */
+    private static final Pattern NULL_CHECK =
+        Pattern.compile("([A-Za-z_][A-Za-z0-9_.]*)\\s*(?:!=|==)\\s*(?:null|(''|\"\"))");
+
+    /** 连接词 */
+    private static final Pattern CONNECTIVE = Pattern.compile("\\s+(?:and|or)\\s+|\\s*(?:&&|\\|\\|)\\s*");
+
+    /** 每个参数占 2 位，一个 long 最多容纳 31 个参数 */
+    private static final int MAX_PATHS = 31;
+
+    private static final long NULL = 0b00;
+    private static final long EMPTY = 0b01;
+    private static final long PRESENT = 0b10;
+
+    private final DynamicSqlSource delegate;
+
+    private final Configuration configuration;
+
+    private final List<String> paths;
+
+    /** 与 paths 一一对应：该参数是否出现在与空串的比较中 */
+    private final boolean[] emptyChecked;
+
+    private final int maxShapes;
+
+    private final Map<ShapeKey, Shape> shapes = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter bypasses;
+
+    private ShapeCachingSqlSource(DynamicSqlSource delegate, Configuration configuration, List<String> paths,
+        Set<String> emptyPaths, int maxShapes, Counter hits, Counter misses, Counter bypasses) {
+        this.delegate = delegate;
+        this.configuration = configuration;
+        this.paths = paths;
+        this.emptyChecked = new boolean[paths.size()];
+        for (int i = 0; i < paths.size(); i++) {
+            emptyChecked[i] = emptyPaths.contains(paths.get(i));
+        }
+        this.maxShapes = maxShapes;
+        this.hits = hits;
+        this.misses = misses;
+        this.bypasses = bypasses;
+    }
+
+    /**
+     * 分析 SqlSource，可缓存时返回包装后的实例，否则返回 null
+     */
+    static ShapeCachingSqlSource wrap(SqlSource sqlSource, Configuration configuration, int maxShapes,
+        Counter hits, Counter misses, Counter bypasses) {
+        if (!(sqlSource instanceof DynamicSqlSource dynamicSqlSource)) {
+            return null;
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        Set<String> emptyPaths = new LinkedHashSet<>();
+        SqlNode root = (SqlNode)SystemMetaObject.forObject(dynamicSqlSource).getValue("rootSqlNode");
+        if (!collect(root, paths, emptyPaths) || paths.isEmpty() || paths.size() > MAX_PATHS) {
+            return null;
+        }
+        return new ShapeCachingSqlSource(dynamicSqlSource, configuration, List.copyOf(paths), emptyPaths, maxShapes,
+            hits, misses, bypasses);
+    }
+
+    public int size() {
+        return shapes.size();
+    }
+
+    @Override
+    public BoundSql getBoundSql(Object parameterObject) {
+        ShapeKey key = shapeOf(parameterObject);
+        if (key == null) {
+            bypasses.increment();
+            return delegate.getBoundSql(parameterObject);
+        }
+        Shape shape = shapes.get(key);
+        if (shape != null) {
+            hits.increment();
+            BoundSql boundSql = new BoundSql(configuration, shape.sql(), shape.parameterMappings(), parameterObject);
+            // 与 DynamicSqlSource 保持一致：可缓存的语句没有 <bind>/<foreach>，附加参数只有这两个
+            boundSql.setAdditionalParameter(DynamicContext.PARAMETER_OBJECT_KEY, parameterObject);
+            boundSql.setAdditionalParameter(DynamicContext.DATABASE_ID_KEY, configuration.getDatabaseId());
+            return boundSql;
+        }
+        misses.increment();
+        BoundSql boundSql = delegate.getBoundSql(parameterObject);
+        if (shapes.size() < maxShapes) {
+            shapes.putIfAbsent(key, new Shape(boundSql.getSql(), List.copyOf(boundSql.getParameterMappings())));
+        }
+        return boundSql;
+    }
+
+    /**
+     * @return 当前参数的空值形态，无法判定时返回 null (回退到原始求值)
+     */
+    private ShapeKey shapeOf(Object parameterObject) {
+        if (parameterObject == null) {
+            return new ShapeKey(Object.class, 0);
+        }
+        boolean scalar = configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass());
+        MetaObject metaObject = scalar ? null : configuration.newMetaObject(parameterObject);
+        long pattern = 0;
+        try {
+            for (int i = 0; i < paths.size(); i++) {
+                String path = paths.get(i);
+                // 标量参数在 OGNL 中任意变量名都解析为参数本身
+                Object value = scalar || path.equals(DynamicContext.PARAMETER_OBJECT_KEY) ? parameterObject
+                    : metaObject.getValue(path);
+                if (emptyChecked[i] && value != null && !(value instanceof CharSequence)) {
+                    // 非字符串与 '' 比较的结果取决于值本身 (OGNL 数值转换)，无法由空值形态判定
+                    return null;
+                }
+                pattern = (pattern << 2) | stateOf(value);
+            }
+        } catch (RuntimeException e) {
+            // 属性不存在 (ReflectionException) 或 @Param 名不匹配 (BindingException)，交给原始求值抛出同样的错误
+            return null;
+        }
+        return new ShapeKey(parameterObject.getClass(), pattern);
+    }
+
+    private static long stateOf(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        return value instanceof CharSequence text && text.isEmpty() ? EMPTY : PRESENT;
+    }
+
+    /**
+     * 遍历 SqlNode 树，收集判断条件中引用的参数路径
+     *
+     * @return 整棵树均可缓存时返回 true
+     */
+    @SuppressWarnings("unchecked")
+    private static boolean collect(SqlNode node, Set<String> paths, Set<String> emptyPaths) {
+        if (node instanceof StaticTextSqlNode) {
+            return true;
+        }
+        MetaObject meta = SystemMetaObject.forObject(node);
+        if (node instanceof MixedSqlNode) {
+            for (SqlNode child : (List<SqlNode>)meta.getValue("contents")) {
+                if (!collect(child, paths, emptyPaths)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (node instanceof IfSqlNode) {
+            return collectTest((String)meta.getValue("test"), paths, emptyPaths)
+                && collect((SqlNode)meta.getValue("contents"), paths, emptyPaths);
+        }
+        if (node instanceof ChooseSqlNode) {
+            for (SqlNode when : (List<SqlNode>)meta.getValue("ifSqlNodes")) {
+                if (!collect(when, paths, emptyPaths)) {
+                    return false;
+                }
+            }
+            SqlNode otherwise = (SqlNode)meta.getValue("defaultSqlNode");
+            return otherwise == null || collect(otherwise, paths, emptyPaths);
+        }
+        if (node instanceof TrimSqlNode) {
+            // 包含 <where> 与 <set>
+            return collect((SqlNode)meta.getValue("contents"), paths, emptyPaths);
+        }
+        // TextSqlNode (${})、ForEachSqlNode、VarDeclSqlNode (<bind>) 等依赖参数值本身
+        return false;
+    }
+
+    private static boolean collectTest(String test, Set<String> paths, Set<String> emptyPaths) {
+        List<String> found = new ArrayList<>();
+        List<String> emptyFound = new ArrayList<>();
+        for (String atom : CONNECTIVE.split(test.trim())) {
+            Matcher matcher = NULL_CHECK.matcher(atom.trim());
+            if (!matcher.matches()) {
+                return false;
+            }
+            found.add(matcher.group(1));
+            if (matcher.group(2) != null) {
+                emptyFound.add(matcher.group(1));
+            }
+        }
+        paths.addAll(found);
+        emptyPaths.addAll(emptyFound);
+        return true;
+    }
+
+    private record ShapeKey(Class<?> parameterType, long pattern) {}
+
+    private record Shape(String sql, List<ParameterMapping> parameterMappings) {}
+}
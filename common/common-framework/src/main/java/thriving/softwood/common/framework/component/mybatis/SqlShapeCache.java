@@ -0,0 +1,78 @@
+package thriving.softwood.common.framework.component.mybatis;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 🧩 动态 SQL 形态缓存注册中心
+ * <p>
+ * 首次执行某个 {@link MappedStatement} 时分析其 SqlSource，可缓存则替换为 {@link ShapeCachingSqlSource}，每条语句只分析一次。
+ * <p>
+ * 指标：mybatis.sql.shape{result=hit|miss|bypass} (bypass 表示参数形态无法判定，回退到 OGNL 求值)、
+ * mybatis.sql.shape.statements (已启用缓存的语句数)、mybatis.sql.shape.size (已缓存的形态总数)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class SqlShapeCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlShapeCache.class);
+
+    /** 不可缓存语句的占位值 */
+    private static final Object NONE = new Object();
+
+    private final int maxShapesPerStatement;
+
+    /** 语句 ID -> 包装后的 SqlSource；不可缓存的语句以 NONE 记录，避免重复分析 */
+    private final Map<String, Object> installed = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter bypasses;
+
+    public SqlShapeCache(int maxShapesPerStatement, MeterRegistry registry) {
+        this.maxShapesPerStatement = maxShapesPerStatement;
+        this.hits = Counter.builder("mybatis.sql.shape").description("动态 SQL 形态缓存访问次数").tag("result", "hit")
+            .register(registry);
+        this.misses = Counter.builder("mybatis.sql.shape").description("动态 SQL 形态缓存访问次数").tag("result", "miss")
+            .register(registry);
+        this.bypasses = Counter.builder("mybatis.sql.shape").description("动态 SQL 形态缓存访问次数")
+            .tag("result", "bypass").register(registry);
+        Gauge.builder("mybatis.sql.shape.statements", installed,
+            m -> m.values().stream().filter(ShapeCachingSqlSource.class::isInstance).count())
+            .description("已启用形态缓存的语句数").register(registry);
+        Gauge.builder("mybatis.sql.shape.size", installed,
+            m -> m.values().stream().filter(ShapeCachingSqlSource.class::isInstance)
+                .mapToInt(s -> ((ShapeCachingSqlSource)s).size()).sum())
+            .description("已缓存的 SQL 形态总数").register(registry);
+    }
+
+    /**
+     * 为语句安装形态缓存 (幂等)
+     */
+    public void install(MappedStatement statement) {
+        installed.computeIfAbsent(statement.getId(), id -> {
+            SqlSource original = statement.getSqlSource();
+            ShapeCachingSqlSource cached = ShapeCachingSqlSource.wrap(original, statement.getConfiguration(),
+                maxShapesPerStatement, hits, misses, bypasses);
+            if (cached == null) {
+                return NONE;
+            }
+            // MappedStatement 没有 sqlSource 的 setter，通过 MyBatis 自带的反射工具替换
+            statement.getConfiguration().newMetaObject(statement).setValue("sqlSource", cached);
+            logger.debug("🧩 SQL shape cache enabled for [{}]", id);
+            return cached;
+        });
+    }
+}
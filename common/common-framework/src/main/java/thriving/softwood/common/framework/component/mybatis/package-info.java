@@ -0,0 +1,5 @@
+/**
+ * MyBatis 增强：动态 SQL 形态缓存
+ */
+
+package thriving.softwood.common.framework.component.mybatis;
@@ -0,0 +1,121 @@
+package thriving.softwood.common.framework.component.processor;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ReflectionUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.NonNull;
+import thriving.softwood.common.framework.component.config.DataSourceGateProperties;
+import thriving.softwood.common.framework.component.datasource.GatedDataSource;
+import thriving.softwood.common.framework.component.datasource.ReplicaRoutingDataSource;
+
+/**
+ * 🚪 为容器中的 {@link DataSource} 加上连接获取闸门 ({@link GatedDataSource})
+ * <p>
+ * 未配置 beanNames 时只包装连接池本身；许可数未配置时取连接池的最大连接数，配置值超过池上限时截断，无法推导时启动失败。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class GatedDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GatedDataSourcePostProcessor.class);
+
+    /** 包装其他 DataSource 的 Spring 类型，默认不加闸门 */
+    private static final Set<String> WRAPPER_TYPES = Set.of("org.springframework.jdbc.datasource.DelegatingDataSource",
+        "org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource");
+
+    /** 常见连接池的最大连接数 getter：Hikari / Druid、Tomcat JDBC / DBCP2 */
+    private static final String[] POOL_SIZE_GETTERS = {"getMaximumPoolSize", "getMaxActive", "getMaxTotal"};
+
+    private final ObjectProvider<DataSourceGateProperties> properties;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * BeanPostProcessor 实例化得很早，依赖以 ObjectProvider 注入，用到时再取
+     */
+    public GatedDataSourcePostProcessor(ObjectProvider<DataSourceGateProperties> properties,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName)
+        throws BeansException {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof GatedDataSource) {
+            return bean;
+        }
+        DataSourceGateProperties settings = properties.getObject();
+        boolean selected = settings.getBeanNames().isEmpty() ? !isWrapper(bean)
+            : settings.getBeanNames().contains(beanName);
+        if (!selected) {
+            return bean;
+        }
+        int permits = permits(dataSource, beanName, settings.getPermits());
+        logger.info("🚪 DataSource [{}] gated: permits={}, acquireTimeout={}ms", beanName, permits,
+            settings.getAcquireTimeout().toMillis());
+        return new GatedDataSource(dataSource, beanName, permits, settings.getAcquireTimeout(),
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    private static int permits(DataSource dataSource, String beanName, int configured) {
+        int poolSize = poolSize(dataSource);
+        if (configured <= 0) {
+            if (poolSize <= 0) {
+                throw new BeanInitializationException("Cannot derive connection gate permits for DataSource ["
+                    + beanName + "], set thriving.datasource.gate.permits explicitly");
+            }
+            return poolSize;
+        }
+        if (poolSize > 0 && configured > poolSize) {
+            logger.warn("🚪 DataSource [{}] gate permits {} exceed pool size {}, capped to pool size", beanName,
+                configured, poolSize);
+            return poolSize;
+        }
+        return configured;
+    }
+
+    /**
+     * @return 连接池最大连接数，无法识别时返回 0
+     */
+    private static int poolSize(DataSource dataSource) {
+        for (String getter : POOL_SIZE_GETTERS) {
+            Method method = ReflectionUtils.findMethod(dataSource.getClass(), getter);
+            if (method != null && method.getParameterCount() == 0) {
+                try {
+                    if (ReflectionUtils.invokeMethod(method, dataSource) instanceof Number size) {
+                        return size.intValue();
+                    }
+                } catch (RuntimeException e) {
+                    logger.debug("🚪 Failed to read pool size via {}: {}", getter, e.getMessage());
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isWrapper(Object bean) {
+        if (bean instanceof ReplicaRoutingDataSource) {
+            return true;
+        }
+        for (Class<?> type = bean.getClass(); type != null; type = type.getSuperclass()) {
+            if (WRAPPER_TYPES.contains(type.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
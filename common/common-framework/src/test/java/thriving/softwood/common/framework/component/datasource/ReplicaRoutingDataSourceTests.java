@@ -0,0 +1,246 @@
+package thriving.softwood.common.framework.component.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import thriving.softwood.common.framework.annotation.datasource.ReadReplica;
+import thriving.softwood.common.framework.component.aspect.ReadReplicaAspect;
+import thriving.softwood.common.framework.component.config.ReplicaRoutingProperties;
+
+class ReplicaRoutingDataSourceTests {
+
+    private static final String REPLICA = "replica-1";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final JdbcDataSource primaryDb = h2("routing-primary");
+
+    private final SwitchableDataSource replicaDb = new SwitchableDataSource(h2("routing-replica"));
+
+    private ReplicaRoutingDataSource routing;
+
+    private JdbcTemplate jdbc;
+
+    private TransactionTemplate readOnly;
+
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void createDatabases() throws SQLException {
+        execute(primaryDb, "CREATE TABLE t_node (name VARCHAR(16))", "INSERT INTO t_node VALUES ('primary')");
+        execute(replicaDb, "CREATE TABLE t_node (name VARCHAR(16))", "INSERT INTO t_node VALUES ('replica')",
+            "CREATE TABLE t_lag (seconds DOUBLE)", "INSERT INTO t_lag VALUES (0)");
+    }
+
+    @AfterEach
+    void dropDatabases() throws SQLException {
+        if (routing != null) {
+            routing.close();
+        }
+        replicaDb.down = false;
+        execute(primaryDb, "DROP ALL OBJECTS");
+        execute(replicaDb, "DROP ALL OBJECTS");
+    }
+
+    @Test
+    void readOnlyTransactionIsRoutedToReplica() {
+        start(routingProperties());
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+        assertThat(node()).isEqualTo("primary");
+        assertThat(registry.get("db.route.usage").tag("target", REPLICA).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void readReplicaMethodIsRoutedToReplica() {
+        start(routingProperties());
+        NodeReader reader = readerProxy();
+
+        assertThat(reader.replicaNode()).isEqualTo("replica");
+        assertThat(reader.primaryNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void readWriteTransactionStaysOnPrimaryEvenInsideReadReplicaMethod() {
+        start(routingProperties());
+        NodeReader reader = readerProxy();
+
+        assertThat(readWrite.execute(status -> node())).isEqualTo("primary");
+        // LazyConnectionDataSourceProxy 把取连接推迟到第一条语句，此时读写事务已生效，不受 @ReadReplica 影响
+        assertThat(reader.nodeInReadWriteTransaction()).isEqualTo("primary");
+        assertThat(registry.find("db.route.usage").tag("target", REPLICA).timer()).isNotNull()
+            .satisfies(timer -> assertThat(timer.count()).isZero());
+    }
+
+    @Test
+    void unhealthyReplicaFallsBackToPrimary() {
+        replicaDb.down = true;
+        start(routingProperties());
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> registry.get("db.replica.healthy").tag("target", REPLICA).gauge().value() == 0);
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+        assertThat(registry.get("db.route.fallback").tag("reason", "unhealthy").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void replicaFailingBetweenHealthChecksFallsBackToPrimary() throws SQLException {
+        // 以一个非零延迟值确认首次健康检查已经结束，之后副本才宕机
+        execute(replicaDb, "UPDATE t_lag SET seconds = 0.1");
+        ReplicaRoutingProperties properties = routingProperties();
+        properties.setLagQuery("SELECT seconds FROM t_lag");
+        start(properties);
+        awaitLag(0.1);
+        replicaDb.down = true;
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+        assertThat(registry.get("db.route.fallback").tag("reason", "error").counter().count()).isEqualTo(1);
+        assertThat(registry.get("db.replica.healthy").tag("target", REPLICA).gauge().value()).isZero();
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() throws SQLException {
+        execute(replicaDb, "UPDATE t_lag SET seconds = 0.8");
+        ReplicaRoutingProperties properties = routingProperties();
+        properties.setMaxReplicationLag(Duration.ofMillis(500));
+        properties.setLagQuery("SELECT seconds FROM t_lag");
+        start(properties);
+        awaitLag(0.8);
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+        assertThat(registry.get("db.route.fallback").tag("reason", "lag").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void subSecondLagWithinThresholdStaysOnReplica() throws SQLException {
+        execute(replicaDb, "UPDATE t_lag SET seconds = 0.3");
+        ReplicaRoutingProperties properties = routingProperties();
+        properties.setMaxReplicationLag(Duration.ofMillis(500));
+        properties.setLagQuery("SELECT seconds FROM t_lag");
+        start(properties);
+        awaitLag(0.3);
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+        assertThat(registry.find("db.route.fallback").counter()).isNull();
+    }
+
+    /**
+     * 按 ReplicaRoutingConfig 推荐的方式组装：路由数据源外包一层 LazyConnectionDataSourceProxy
+     */
+    private void start(ReplicaRoutingProperties properties) {
+        routing = new ReplicaRoutingDataSource(primaryDb, Map.of(REPLICA, replicaDb), properties, registry);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private NodeReader readerProxy() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new DefaultNodeReader(this));
+        factory.addAspect(new ReadReplicaAspect());
+        return factory.getProxy();
+    }
+
+    private String node() {
+        return jdbc.queryForObject("SELECT name FROM t_node", String.class);
+    }
+
+    private void awaitLag(double seconds) {
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> registry.get("db.replica.lag").tag("target", REPLICA).gauge().value() == seconds);
+    }
+
+    /**
+     * 只做首次健康检查，避免周期检查与测试中切换副本状态相互干扰
+     */
+    private static ReplicaRoutingProperties routingProperties() {
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+        properties.setHealthCheckInterval(Duration.ofHours(1));
+        return properties;
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    private static void execute(DataSource dataSource, String... sqls) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    interface NodeReader {
+
+        String replicaNode();
+
+        String primaryNode();
+
+        String nodeInReadWriteTransaction();
+    }
+
+    record DefaultNodeReader(ReplicaRoutingDataSourceTests tests) implements NodeReader {
+
+        @Override
+        @ReadReplica
+        public String replicaNode() {
+            return tests.node();
+        }
+
+        @Override
+        public String primaryNode() {
+            return tests.node();
+        }
+
+        @Override
+        @ReadReplica
+        public String nodeInReadWriteTransaction() {
+            return tests.readWrite.execute(status -> tests.node());
+        }
+    }
+
+    /**
+     * 可模拟宕机的副本：down 时取连接直接失败
+     */
+    static final class SwitchableDataSource extends DelegatingDataSource {
+
+        private volatile boolean down;
+
+        SwitchableDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("replica down");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package thriving.softwood.common.framework.component.mybatis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ShapeCachingSqlSourceTests {
+
+    private static final String SCRIPT = "<script>select id from t_order"
+        + "<where><if test=\"status != ''\">status = #{status}</if></where></script>";
+
+    private final Configuration configuration = new Configuration();
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final Counter hits = registry.counter("hits");
+
+    private final Counter misses = registry.counter("misses");
+
+    private final Counter bypasses = registry.counter("bypasses");
+
+    @Test
+    void numericZeroAndOneAreNotSharedAcrossShapes() {
+        ShapeCachingSqlSource source = wrap(SCRIPT);
+
+        // OGNL: 0 != '' 为 false，1 != '' 为 true
+        assertThat(sql(source, Map.of("status", 0))).doesNotContain("WHERE");
+        assertThat(sql(source, Map.of("status", 1))).contains("WHERE").contains("status = ?");
+        assertThat(sql(source, Map.of("status", 0))).doesNotContain("WHERE");
+
+        assertThat(bypasses.count()).isEqualTo(3);
+        assertThat(source.size()).isZero();
+    }
+
+    @Test
+    void stringShapesAreCached() {
+        ShapeCachingSqlSource source = wrap(SCRIPT);
+
+        assertThat(sql(source, Map.of("status", ""))).doesNotContain("WHERE");
+        assertThat(sql(source, Map.of("status", "PAID"))).contains("status = ?");
+        assertThat(sql(source, Map.of("status", "SHIPPED"))).contains("status = ?");
+        assertThat(sql(source, Map.of("status", ""))).doesNotContain("WHERE");
+
+        assertThat(misses.count()).isEqualTo(2);
+        assertThat(hits.count()).isEqualTo(2);
+        assertThat(bypasses.count()).isZero();
+    }
+
+    private ShapeCachingSqlSource wrap(String script) {
+        SqlSource sqlSource = new XMLLanguageDriver().createSqlSource(configuration, script, Map.class);
+        ShapeCachingSqlSource source = ShapeCachingSqlSource.wrap(sqlSource, configuration, 64, hits, misses, bypasses);
+        assertThat(source).isNotNull();
+        return source;
+    }
+
+    private static String sql(SqlSource source, Object parameter) {
+        return source.getBoundSql(parameter).getSql();
+    }
+}
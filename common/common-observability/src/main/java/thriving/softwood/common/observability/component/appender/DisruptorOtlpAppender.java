@@ -0,0 +1,488 @@
+package thriving.softwood.common.observability.component.appender;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginBuilderFactory;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.TimeoutBlockingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.logs.LogRecordBuilder;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+
+/**
+ * 🚀 基于 Disruptor 环形队列的 OTLP 日志 Appender，替代 {@code <Async>} + {@code <OpenTelemetry>} 的组合
+ * <p>
+ * Async Appender 以 ArrayBlockingQueue 交接日志 (每条入队/出队都要加锁)，再逐条交给 OpenTelemetry Appender。本 Appender：
+ * <ul>
+ * <li>append 时把 LogEvent 的字段拷贝进预分配的环形槽位 (AsyncLogger 的 RingBufferLogEvent 会被复用，必须立即拷贝)，
+ * 无锁发布；环满时直接丢弃并计数，从不阻塞调用方</li>
+ * <li>单个消费线程按 Disruptor 批次处理：一次唤醒转换所有已发布的事件为 OTel LogRecord，交给 LoggerProvider，
+ * 下游由批处理器 (见 ObservableBatchLogRecordProcessor) 攒批导出</li>
+ * <li>traceId / spanId / traceFlags 取自事件的上下文数据 (Micrometer 作用域写入 MDC 的键，采样标记由
+ * {@code TraceFlagsMdcEventListener} 写入；ScopedValue 载体中的链路由 common-framework 的 ScopedTraceContextDataProvider 提供)，
+ * 不依赖消费线程的 OTel Context；没有采样标记时按未采样上报</li>
+ * <li>消费线程的等待策略可配置 (waitStrategy)，在延迟与 CPU 占用之间取舍</li>
+ * </ul>
+ * OpenTelemetry 实例在 Spring 启动后经 {@link #install(OpenTelemetry, MeterRegistry)} 注入，此前的日志暂存在环中等待。
+ * <p>
+ * 指标 (tag appender)：otel.appender.ring.capacity、otel.appender.ring.occupancy (已发布未消费的槽位数)、
+ * otel.appender.emitted、otel.appender.dropped{reason=ring_full|shutdown}、otel.appender.batch.size
+ * <p>
+ * 配置示例 (log4j2 packages 需包含本包)：
+ *
+ * <pre>
+ * &lt;DisruptorOtlp name="OTEL_DISRUPTOR" ringBufferSize="8192" waitStrategy="TIMEOUT"/&gt;
+ * </pre>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Plugin(name = "DisruptorOtlp", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE, printObject = true)
+public class DisruptorOtlpAppender extends AbstractAppender {
+
+    private static final AttributeKey<String> THREAD_NAME = AttributeKey.stringKey("thread.name");
+    private static final AttributeKey<Long> THREAD_ID = AttributeKey.longKey("thread.id");
+    private static final AttributeKey<String> EXCEPTION_TYPE = AttributeKey.stringKey("exception.type");
+    private static final AttributeKey<String> EXCEPTION_MESSAGE = AttributeKey.stringKey("exception.message");
+    private static final AttributeKey<String> EXCEPTION_STACKTRACE = AttributeKey.stringKey("exception.stacktrace");
+
+    private static final EventTranslatorOneArg<LogSlot, LogEvent> TRANSLATOR =
+        (slot, sequence, event) -> slot.set(event);
+
+    /** Spring 注入的 OpenTelemetry 与指标注册中心，所有实例共享 (Log4j2 重新加载配置后的新实例同样可用) */
+    private static volatile Installation installation;
+
+    private final int ringBufferSize;
+
+    private final WaitStrategyType waitStrategy;
+
+    private final long waitTimeoutMillis;
+
+    private final boolean captureContextData;
+
+    private final String traceIdKey;
+
+    private final String spanIdKey;
+
+    private final String traceFlagsKey;
+
+    private final LongAdder emitted = new LongAdder();
+
+    private final LongAdder ringFull = new LongAdder();
+
+    private final LongAdder shutdownDropped = new LongAdder();
+
+    private final List<Meter> meters = new ArrayList<>();
+
+    private volatile DistributionSummary batchSize;
+
+    private Disruptor<LogSlot> disruptor;
+
+    private volatile RingBuffer<LogSlot> ringBuffer;
+
+    private DisruptorOtlpAppender(Builder<?> builder) {
+        super(builder.getName(), builder.getFilter(), null, builder.isIgnoreExceptions(), builder.getPropertyArray());
+        // Disruptor 要求容量为 2 的幂
+        this.ringBufferSize = ceilingPowerOfTwo(Math.max(64, builder.ringBufferSize));
+        this.waitStrategy = builder.waitStrategy;
+        this.waitTimeoutMillis = builder.waitTimeoutMillis;
+        this.captureContextData = builder.captureContextData;
+        this.traceIdKey = builder.traceIdKey;
+        this.spanIdKey = builder.spanIdKey;
+        this.traceFlagsKey = builder.traceFlagsKey;
+    }
+
+    @PluginBuilderFactory
+    public static <B extends Builder<B>> B newBuilder() {
+        return new Builder<B>().asBuilder();
+    }
+
+    /**
+     * 注入 OpenTelemetry 并为当前配置中的所有本类 Appender 注册指标
+     */
+    public static void install(OpenTelemetry openTelemetry, MeterRegistry registry) {
+        installation = new Installation(openTelemetry, registry);
+        if (LogManager.getContext(false) instanceof LoggerContext context) {
+            context.getConfiguration().getAppenders().values().forEach(appender -> {
+                if (appender instanceof DisruptorOtlpAppender disruptorAppender && disruptorAppender.isStarted()) {
+                    disruptorAppender.bindMetrics(registry);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void start() {
+        disruptor = new Disruptor<>(LogSlot::new, ringBufferSize,
+            Thread.ofPlatform().daemon().name("otel-disruptor-" + getName()).factory(), ProducerType.MULTI,
+            waitStrategy.create(waitTimeoutMillis));
+        disruptor.handleEventsWith(new SlotHandler());
+        ringBuffer = disruptor.start();
+        Installation current = installation;
+        if (current != null) {
+            bindMetrics(current.registry());
+        }
+        super.start();
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        RingBuffer<LogSlot> ring = ringBuffer;
+        if (ring == null || !ring.tryPublishEvent(TRANSLATOR, event)) {
+            ringFull.increment();
+        }
+    }
+
+    @Override
+    public boolean stop(long timeout, TimeUnit timeUnit) {
+        setStopping();
+        super.stop(timeout, timeUnit, false);
+        if (disruptor != null) {
+            try {
+                // 等待环中剩余事件交给 LoggerProvider
+                disruptor.shutdown(timeout, timeUnit);
+            } catch (TimeoutException e) {
+                LOGGER.warn("DisruptorOtlp appender [{}] did not drain within {} {}", getName(), timeout, timeUnit);
+                disruptor.halt();
+            }
+        }
+        unbindMetrics();
+        setStopped();
+        return true;
+    }
+
+    private synchronized void bindMetrics(MeterRegistry registry) {
+        if (!meters.isEmpty()) {
+            return;
+        }
+        String name = getName();
+        meters.add(Gauge.builder("otel.appender.ring.capacity", this, a -> a.ringBufferSize)
+            .description("环形队列容量").tag("appender", name).register(registry));
+        meters.add(Gauge.builder("otel.appender.ring.occupancy", this, DisruptorOtlpAppender::occupancy)
+            .description("已发布未消费的槽位数").tag("appender", name).register(registry));
+        meters.add(FunctionCounter.builder("otel.appender.emitted", emitted, LongAdder::sum)
+            .description("转换为 OTel LogRecord 的条数").tag("appender", name).register(registry));
+        meters.add(FunctionCounter.builder("otel.appender.dropped", ringFull, LongAdder::sum).description("丢弃的日志条数")
+            .tag("appender", name).tag("reason", "ring_full").register(registry));
+        meters.add(FunctionCounter.builder("otel.appender.dropped", shutdownDropped, LongAdder::sum)
+            .description("丢弃的日志条数").tag("appender", name).tag("reason", "shutdown").register(registry));
+        DistributionSummary summary = DistributionSummary.builder("otel.appender.batch.size")
+            .description("消费线程单次唤醒处理的条数").tag("appender", name).publishPercentileHistogram().register(registry);
+        meters.add(summary);
+        batchSize = summary;
+    }
+
+    private synchronized void unbindMetrics() {
+        Installation current = installation;
+        if (current != null) {
+            meters.forEach(current.registry()::remove);
+        }
+        meters.clear();
+        batchSize = null;
+    }
+
+    private double occupancy() {
+        RingBuffer<LogSlot> ring = ringBuffer;
+        return ring == null ? 0 : ring.getBufferSize() - ring.remainingCapacity();
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * 消费线程：按批次转换并发出 LogRecord
+     */
+    private final class SlotHandler implements EventHandler<LogSlot> {
+
+        /** 按 Logger 名称缓存 OTel Logger，仅消费线程访问 */
+        private final Map<String, io.opentelemetry.api.logs.Logger> loggers = new HashMap<>();
+
+        private Installation cachedFor;
+
+        private long pendingInBatch;
+
+        @Override
+        public void onEvent(LogSlot slot, long sequence, boolean endOfBatch) {
+            try {
+                Installation current = awaitInstallation();
+                if (current == null) {
+                    shutdownDropped.increment();
+                } else {
+                    emit(current, slot);
+                    emitted.increment();
+                }
+            } catch (RuntimeException e) {
+                error("Failed to emit OTLP log record: " + e.getMessage());
+            } finally {
+                slot.clear();
+            }
+            pendingInBatch++;
+            if (endOfBatch) {
+                DistributionSummary summary = batchSize;
+                if (summary != null) {
+                    summary.record(pendingInBatch);
+                }
+                pendingInBatch = 0;
+            }
+        }
+
+        /**
+         * OpenTelemetry 尚未注入时等待 (事件留在环中)；Appender 停止时放弃等待
+         */
+        private Installation awaitInstallation() {
+            Installation current = installation;
+            while (current == null) {
+                if (isStopping() || isStopped()) {
+                    return null;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                current = installation;
+            }
+            if (current != cachedFor) {
+                loggers.clear();
+                cachedFor = current;
+            }
+            return current;
+        }
+
+        private void emit(Installation current, LogSlot slot) {
+            io.opentelemetry.api.logs.Logger logger = loggers.computeIfAbsent(slot.loggerName,
+                name -> current.openTelemetry().getLogsBridge().loggerBuilder(name).build());
+            LogRecordBuilder builder = logger.logRecordBuilder()
+                .setTimestamp(slot.epochSecond * 1_000_000_000L + slot.nanoOfSecond, TimeUnit.NANOSECONDS)
+                .setSeverity(severity(slot.level)).setSeverityText(slot.level.name());
+            if (slot.message != null) {
+                builder.setBody(slot.message);
+            }
+
+            AttributesBuilder attributes = Attributes.builder();
+            attributes.put(THREAD_NAME, slot.threadName);
+            attributes.put(THREAD_ID, slot.threadId);
+            if (slot.thrown != null) {
+                StringWriter stackTrace = new StringWriter();
+                slot.thrown.printStackTrace(new PrintWriter(stackTrace));
+                attributes.put(EXCEPTION_TYPE, slot.thrown.getClass().getName());
+                if (slot.thrown.getMessage() != null) {
+                    attributes.put(EXCEPTION_MESSAGE, slot.thrown.getMessage());
+                }
+                attributes.put(EXCEPTION_STACKTRACE, stackTrace.toString());
+            }
+            String traceId = null;
+            String spanId = null;
+            String traceFlags = null;
+            for (Map.Entry<String, String> entry : slot.contextData.entrySet()) {
+                if (entry.getKey().equals(traceIdKey)) {
+                    traceId = entry.getValue();
+                } else if (entry.getKey().equals(spanIdKey)) {
+                    spanId = entry.getValue();
+                } else if (entry.getKey().equals(traceFlagsKey)) {
+                    traceFlags = entry.getValue();
+                } else {
+                    attributes.put(entry.getKey(), entry.getValue());
+                }
+            }
+            builder.setAllAttributes(attributes.build());
+
+            if (traceId != null && spanId != null) {
+                SpanContext spanContext =
+                    SpanContext.create(traceId, spanId, traceFlags(traceFlags), TraceState.getDefault());
+                if (spanContext.isValid()) {
+                    builder.setContext(Context.root().with(Span.wrap(spanContext)));
+                }
+            }
+            builder.emit();
+        }
+    }
+
+    /**
+     * 上下文数据中没有采样标记时按未采样处理，不冒充已采样的链路
+     */
+    private static TraceFlags traceFlags(String hex) {
+        if (hex == null || hex.length() != TraceFlags.getLength()) {
+            return TraceFlags.getDefault();
+        }
+        try {
+            return TraceFlags.fromHex(hex, 0);
+        } catch (IllegalArgumentException e) {
+            return TraceFlags.getDefault();
+        }
+    }
+
+    private static Severity severity(Level level) {
+        int intLevel = level.intLevel();
+        if (intLevel <= Level.FATAL.intLevel()) {
+            return Severity.FATAL;
+        }
+        if (intLevel <= Level.ERROR.intLevel()) {
+            return Severity.ERROR;
+        }
+        if (intLevel <= Level.WARN.intLevel()) {
+            return Severity.WARN;
+        }
+        if (intLevel <= Level.INFO.intLevel()) {
+            return Severity.INFO;
+        }
+        if (intLevel <= Level.DEBUG.intLevel()) {
+            return Severity.DEBUG;
+        }
+        return Severity.TRACE;
+    }
+
+    /**
+     * 预分配的环形槽位，字段在 append 时从 LogEvent 拷贝
+     */
+    private final class LogSlot {
+
+        private long epochSecond;
+
+        private int nanoOfSecond;
+
+        private Level level;
+
+        private String loggerName;
+
+        private String message;
+
+        private Throwable thrown;
+
+        private String threadName;
+
+        private long threadId;
+
+        private final Map<String, String> contextData = new HashMap<>();
+
+        private void set(LogEvent event) {
+            epochSecond = event.getInstant().getEpochSecond();
+            nanoOfSecond = event.getInstant().getNanoOfSecond();
+            level = event.getLevel();
+            loggerName = event.getLoggerName() == null ? "" : event.getLoggerName();
+            // 可复用的 Message 在返回后即被覆盖，此处立即格式化
+            message = event.getMessage() == null ? null : event.getMessage().getFormattedMessage();
+            thrown = event.getThrown();
+            threadName = event.getThreadName();
+            threadId = event.getThreadId();
+            event.getContextData().forEach((key, value) -> {
+                if (captureContextData || key.equals(traceIdKey) || key.equals(spanIdKey)
+                    || key.equals(traceFlagsKey)) {
+                    contextData.put(key, String.valueOf(value));
+                }
+            });
+        }
+
+        private void clear() {
+            message = null;
+            thrown = null;
+            contextData.clear();
+        }
+    }
+
+    /**
+     * 消费线程等待策略，与 Log4j2 系统属性 AsyncLogger.WaitStrategy 的取值一致
+     */
+    public enum WaitStrategyType {
+
+        /** 锁 + 条件变量，空闲时不占 CPU */
+        BLOCKING,
+
+        /** 同 BLOCKING，但定期超时唤醒 (Log4j2 AsyncLogger 的默认值) */
+        TIMEOUT,
+
+        /** 自旋后 yield 再短暂 park，延迟与 CPU 占用折中 */
+        SLEEPING,
+
+        /** 自旋后 yield，延迟低，空闲时占用一个核 */
+        YIELDING,
+
+        /** 持续自旋，延迟最低，独占一个核 */
+        BUSY_SPIN;
+
+        private WaitStrategy create(long timeoutMillis) {
+            return switch (this) {
+                case BLOCKING -> new BlockingWaitStrategy();
+                case TIMEOUT -> new TimeoutBlockingWaitStrategy(timeoutMillis, TimeUnit.MILLISECONDS);
+                case SLEEPING -> new SleepingWaitStrategy();
+                case YIELDING -> new YieldingWaitStrategy();
+                case BUSY_SPIN -> new BusySpinWaitStrategy();
+            };
+        }
+    }
+
+    private record Installation(OpenTelemetry openTelemetry, MeterRegistry registry) {}
+
+    public static class Builder<B extends Builder<B>> extends AbstractAppender.Builder<B>
+        implements org.apache.logging.log4j.core.util.Builder<DisruptorOtlpAppender> {
+
+        /** 环形队列容量，向上取整为 2 的幂 */
+        @PluginBuilderAttribute
+        private int ringBufferSize = 8192;
+
+        @PluginBuilderAttribute
+        private WaitStrategyType waitStrategy = WaitStrategyType.TIMEOUT;
+
+        /** TIMEOUT 策略的唤醒间隔 */
+        @PluginBuilderAttribute
+        private long waitTimeoutMillis = 10;
+
+        /** 是否把上下文数据 (MDC) 作为日志属性上报；traceId / spanId / traceFlags 始终读取 */
+        @PluginBuilderAttribute
+        private boolean captureContextData = true;
+
+        @PluginBuilderAttribute
+        private String traceIdKey = "traceId";
+
+        @PluginBuilderAttribute
+        private String spanIdKey = "spanId";
+
+        /** 采样标记 (两位十六进制，如 01)，缺失时按未采样上报 */
+        @PluginBuilderAttribute
+        private String traceFlagsKey = "traceFlags";
+
+        @Override
+        public DisruptorOtlpAppender build() {
+            return new DisruptorOtlpAppender(this);
+        }
+    }
+}
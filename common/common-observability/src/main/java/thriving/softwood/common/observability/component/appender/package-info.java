@@ -0,0 +1,5 @@
+/**
+ * Log4j2 Appender 插件：基于 Disruptor 的 OTLP 日志上报
+ */
+
+package thriving.softwood.common.observability.component.appender;
\ No newline at end of file
@@ -0,0 +1,35 @@
+package thriving.softwood.common.observability.component.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import thriving.softwood.common.observability.component.tracing.AdaptiveSampler;
+
+/**
+ * 🎚️ 自适应采样配置 (thriving.observability.tracing.adaptive.*)，需显式开启
+ * <p>
+ * 先于 Spring Boot 的 OpenTelemetry 链路自动配置加载，以 {@link AdaptiveSampler} 顶替其默认的固定概率 Sampler。
+ * 与尾部采样 (thriving.observability.tracing.tail) 二选一：尾部采样要求头部全量记录。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@AutoConfiguration(
+    beforeName = "org.springframework.boot.micrometer.tracing.opentelemetry.autoconfigure.OpenTelemetryTracingAutoConfiguration")
+@EnableConfigurationProperties(AdaptiveSamplingProperties.class)
+@ConditionalOnClass(name = "io.opentelemetry.sdk.trace.samplers.Sampler")
+@ConditionalOnProperty(prefix = "thriving.observability.tracing.adaptive", name = "enabled", havingValue = "true")
+public class AdaptiveSamplingConfig {
+
+    @Bean
+    public AdaptiveSampler adaptiveSampler(AdaptiveSamplingProperties properties,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        return new AdaptiveSampler(properties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
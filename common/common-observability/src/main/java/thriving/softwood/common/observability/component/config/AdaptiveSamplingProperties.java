@@ -0,0 +1,44 @@
+package thriving.softwood.common.observability.component.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 自适应采样配置项 (前缀: thriving.observability.tracing.adaptive)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.observability.tracing.adaptive")
+public class AdaptiveSamplingProperties {
+
+    /** 是否以自适应采样器替换 management.tracing.sampling.probability 的固定概率采样 */
+    private boolean enabled = false;
+
+    /** 服务级导出预算：每秒导出的 Span 数 (未在 endpoints 中单独列出的根 Span 共享) */
+    private double spansPerSecond = 100;
+
+    /**
+     * 按请求路径单独设置的预算 (每秒 Span 数)，如 "[/sample/chain]": 20。以根 Span 创建时的 url.path 属性 (含 context-path 的请求 URI)
+     * 匹配，HTTP 服务端 Span 的该属性由 common-web 在 Span 创建前写入；不带该属性的根 Span 计入服务级预算
+     */
+    private Map<String, Double> endpoints = new LinkedHashMap<>();
+
+    /** 概率调整周期 */
+    private Duration adjustInterval = Duration.ofSeconds(1);
+
+    /** 指数平滑系数 (0, 1]，越小概率变化越平缓 */
+    private double smoothing = 0.3;
+
+    /** 概率下限，保证低谷之外的流量高峰中仍有少量样本 */
+    private double minProbability = 0.001;
+
+    /** 启动时的初始概率 */
+    private double initialProbability = 1.0;
+}
@@ -0,0 +1,37 @@
+package thriving.softwood.common.observability.component.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.sdk.logs.export.LogRecordExporter;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import thriving.softwood.common.observability.component.processor.BatchExportPostProcessor;
+
+/**
+ * 📦 OTLP 批量导出管线配置 (thriving.observability.export.*)，需显式开启
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableConfigurationProperties(BatchExportProperties.class)
+@ConditionalOnClass(name = {"io.opentelemetry.sdk.trace.export.BatchSpanProcessor",
+    "io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor"})
+@ConditionalOnProperty(prefix = "thriving.observability.export", name = "enabled", havingValue = "true")
+public class BatchExportConfig {
+
+    @Bean
+    public static BatchExportPostProcessor batchExportPostProcessor(
+        ObjectProvider<BatchExportProperties> batchExportProperties, ObjectProvider<SpanExporter> spanExporters,
+        ObjectProvider<LogRecordExporter> logRecordExporters, ObjectProvider<Resource> resource,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BatchExportPostProcessor(batchExportProperties, spanExporters, logRecordExporters, resource,
+            meterRegistry);
+    }
+}
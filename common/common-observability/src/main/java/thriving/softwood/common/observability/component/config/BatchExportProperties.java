@@ -0,0 +1,78 @@
+package thriving.softwood.common.observability.component.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * OTLP 批量导出配置项 (前缀: thriving.observability.export)
+ * <p>
+ * gzip 压缩由导出器自身负责，使用 Spring Boot 的 management.opentelemetry.tracing.export.otlp.compression 与
+ * management.opentelemetry.logging.export.otlp.compression 配置
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.observability.export")
+public class BatchExportProperties {
+
+    /** 是否以可观测的批处理器替换 SDK 默认的 BatchSpanProcessor / BatchLogRecordProcessor */
+    private boolean enabled = false;
+
+    /** 链路 (Span) 导出 */
+    private Pipeline traces = new Pipeline(2048, 512, Duration.ofSeconds(5));
+
+    /** 日志 (LogRecord) 导出 */
+    private Pipeline logs = new Pipeline(4096, 512, Duration.ofSeconds(1));
+
+    /** 日志的本地磁盘溢写 (仅作用于 logs，链路数据量大且有尾部采样兜底，不溢写) */
+    private Spill spill = new Spill();
+
+    @Data
+    @NoArgsConstructor
+    public static class Pipeline {
+
+        /** 队列容量，满后新数据直接丢弃并计入 otel.export.dropped{reason=queue_full} */
+        private int maxQueueSize;
+
+        /** 单批最大条数 */
+        private int maxBatchSize;
+
+        /** 未攒满一批时的最长等待时间 */
+        private Duration flushInterval;
+
+        /** 同时在途的导出请求数，超过后导出线程等待，积压体现在队列上 */
+        private int concurrency = 2;
+
+        /** 关闭时等待剩余数据导出的最长时间 */
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+        public Pipeline(int maxQueueSize, int maxBatchSize, Duration flushInterval) {
+            this.maxQueueSize = maxQueueSize;
+            this.maxBatchSize = maxBatchSize;
+            this.flushInterval = flushInterval;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Spill {
+
+        /** 是否在队列满或导出失败时把日志写入本地段文件，Collector 恢复后回放 */
+        private boolean enabled = false;
+
+        /** 段文件目录，重启后继续回放其中未确认的数据 */
+        private String directory = "logs/otel-spill";
+
+        /** 单个段文件大小，单条日志编码后不能超过该值 */
+        private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+        /** 段文件总大小上限，写满后新数据丢弃并计入 otel.spill.dropped{reason=disk_full} */
+        private DataSize maxDiskUsage = DataSize.ofMegabytes(512);
+    }
+}
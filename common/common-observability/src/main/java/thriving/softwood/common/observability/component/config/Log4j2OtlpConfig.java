@@ -1,11 +1,17 @@
 package thriving.softwood.common.observability.component.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.log4j.appender.v2_17.OpenTelemetryAppender;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import thriving.softwood.common.observability.component.appender.DisruptorOtlpAppender;
+import thriving.softwood.common.observability.component.tracing.TraceFlagsMdcEventListener;
 
 /**
  * 🚀 Log4j2 OTLP 桥接配置 修复版：适配 opentelemetry-log4j-appender 2.24.0-alpha
@@ -16,10 +22,22 @@ public class Log4j2OtlpConfig {
 
     private final OpenTelemetry openTelemetry;
 
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
     @PostConstruct
     public void start() {
         // 核心：将 Spring 管理的 OTel 实例注入到 Log4j2 Appender
         // 这一步解决了 Log4j2 初始化早于 Spring Bean 的时序问题
         OpenTelemetryAppender.install(openTelemetry);
+        // 基于 Disruptor 的 OTLP Appender (log4j2-prod.xml 中的 OTEL_DISRUPTOR) 同样需要注入
+        DisruptorOtlpAppender.install(openTelemetry, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * 由 Spring Boot 的 OtelEventPublisher 收集，作用域切换时把采样标记写入 MDC，供 OTEL_DISRUPTOR 还原 SpanContext
+     */
+    @Bean
+    public TraceFlagsMdcEventListener traceFlagsMdcEventListener() {
+        return new TraceFlagsMdcEventListener();
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package thriving.softwood.common.observability.component.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import thriving.softwood.common.observability.component.processor.TailSamplingPostProcessor;
+
+/**
+ * 🎯 尾部采样配置 (thriving.observability.tracing.tail.*)，需显式开启
+ * <p>
+ * 尾部采样只能在已记录的 Span 中挑选，开启时请把 management.tracing.sampling.probability 设为 1.0，由本处理器决定最终导出比例。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableConfigurationProperties(TailSamplingProperties.class)
+@ConditionalOnClass(name = "io.opentelemetry.sdk.trace.export.BatchSpanProcessor")
+@ConditionalOnProperty(prefix = "thriving.observability.tracing.tail", name = "enabled", havingValue = "true")
+public class TailSamplingConfig {
+
+    @Bean
+    public static TailSamplingPostProcessor tailSamplingPostProcessor(
+        ObjectProvider<TailSamplingProperties> tailSamplingProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TailSamplingPostProcessor(tailSamplingProperties, meterRegistry);
+    }
+}
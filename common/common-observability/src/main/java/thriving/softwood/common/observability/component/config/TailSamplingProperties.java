@@ -0,0 +1,42 @@
+package thriving.softwood.common.observability.component.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 尾部采样配置项 (前缀: thriving.observability.tracing.tail)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.observability.tracing.tail")
+public class TailSamplingProperties {
+
+    /** 是否开启尾部采样；开启后 management.tracing.sampling.probability 应为 1.0，否则头部采样丢掉的链路无法再挽回 */
+    private boolean enabled = false;
+
+    /** 本地根 Span 耗时超过该阈值的链路整条保留 */
+    private Duration latencyThreshold = Duration.ofSeconds(1);
+
+    /** 既无错误也不慢的链路按该比例保留 (按 traceId 确定性取样，各服务结论一致) */
+    private double baselineRatio = 0.1;
+
+    /** 同时缓冲的链路数上限，超出后新链路不再缓冲，逐个 Span 按基线比例即时决策 */
+    private int maxTraces = 10_000;
+
+    /** 单条链路缓冲的 Span 数上限，超出的 Span 直接丢弃 */
+    private int maxSpansPerTrace = 512;
+
+    /** 本地根 Span 迟迟不结束时的最长等待时间，到期按已有信息决策 */
+    private Duration decisionWait = Duration.ofSeconds(30);
+
+    /** 决策结果的保留时长，用于处理在根 Span 之后才结束的异步 Span */
+    private Duration decisionRetention = Duration.ofSeconds(30);
+
+    /** 同时保留的决策结果数上限，超出后淘汰；被淘汰链路之后才结束的 Span 会重新缓冲，按 decisionWait 超时决策 */
+    private int maxDecisions = 100_000;
+}
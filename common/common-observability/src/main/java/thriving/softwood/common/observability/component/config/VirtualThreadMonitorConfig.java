@@ -0,0 +1,39 @@
+package thriving.softwood.common.observability.component.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import thriving.softwood.common.observability.component.monitor.VirtualThreadAttribution;
+import thriving.softwood.common.observability.component.monitor.VirtualThreadPinningMonitor;
+
+/**
+ * 📌 虚拟线程监控配置
+ * <p>
+ * JDK 24+ (JEP 491) 中 synchronized 已不再钉住载体线程，剩余的钉住主要来自本地方法帧 (JNI、部分驱动) 与类初始化等场景，
+ * 因此常驻 JFR 监控比静态排查更可靠。通过 thriving.observability.vthread.enabled=false 关闭。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableConfigurationProperties(VirtualThreadMonitorProperties.class)
+@ConditionalOnProperty(prefix = "thriving.observability.vthread", name = "enabled", matchIfMissing = true)
+public class VirtualThreadMonitorConfig {
+
+    @Bean
+    public VirtualThreadAttribution virtualThreadAttribution(VirtualThreadMonitorProperties properties) {
+        return new VirtualThreadAttribution(properties.getMaxAttributions());
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadMonitorProperties properties,
+        VirtualThreadAttribution attribution, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties, attribution,
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
@@ -0,0 +1,30 @@
+package thriving.softwood.common.observability.component.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 虚拟线程监控配置项 (前缀: thriving.observability.vthread)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.observability.vthread")
+public class VirtualThreadMonitorProperties {
+
+    /** 是否开启虚拟线程钉住 (pinning) 与载体线程饥饿监控 */
+    private boolean enabled = true;
+
+    /** 钉住时长超过该阈值才会产生 JFR 事件，阈值越低开销越大 */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /** 任务结束后归属信息的保留时长，需覆盖 JFR 流的刷新延迟 (约 1s) */
+    private Duration attributionRetention = Duration.ofSeconds(10);
+
+    /** 归属信息的最大条目数，超过后新任务不再登记，防止内存无界增长 */
+    private int maxAttributions = 100_000;
+}
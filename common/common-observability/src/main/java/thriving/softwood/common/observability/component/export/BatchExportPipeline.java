@@ -0,0 +1,355 @@
+package thriving.softwood.common.observability.component.export;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import thriving.softwood.common.observability.component.config.BatchExportProperties;
+
+/**
+ * 📦 批量导出管线：有界队列 + 单个攒批线程 + 有限并发的异步导出
+ * <p>
+ * 与 SDK 自带的批处理器相比：
+ * <ul>
+ * <li>允许 concurrency 个导出请求同时在途 (SDK 默认一次只导出一批)，Collector 往返较慢时吞吐不再被单连接限制</li>
+ * <li>在途请求达到上限时攒批线程等待，积压体现在队列上；队列满后新数据直接丢弃，业务线程从不阻塞</li>
+ * <li>队列、丢弃、批大小与导出往返耗时均以 Micrometer 指标暴露，可按真实事件速率调整容量</li>
+ * </ul>
+ * 指标 (tag signal=traces|logs)：otel.export.queue.size / otel.export.queue.capacity、otel.export.inflight、
+ * otel.export.dropped{reason=queue_full|export_failed}、otel.export.batch.size、otel.export.duration{result=success|failure}
+ * <p>
+ * 单次导出的超时由导出器自身控制 (management.opentelemetry.*.export.otlp.timeout)。
+ * <p>
+ * 配置了 {@link MappedSpillBuffer} 时，队列满的数据与导出失败的批次改为溢写到磁盘，不再计入 otel.export.dropped。
+ * 磁盘上有待回放的数据期间，新数据同样追加到磁盘末尾而不进入队列，实时导出与回放不再交错：攒批线程先发完队列中更早的数据，
+ * 待队列清空、实时导出全部返回，且导出器健康 (或距上次失败已超过 flushInterval) 后再从磁盘回放，同一时刻至多一个回放批次在途；
+ * 回放成功才确认读位置，失败的批次留在磁盘上等待下次回放，磁盘清空后恢复走队列。
+ * 唯一的例外是失败时已经发出的实时批次：它们追加在磁盘末尾，排在期间已溢写的更新记录之后，而期间已入队的更新记录会先于它们导出。
+ * <p>
+ * forceFlush 记录请求时刻已入队的条数，攒批线程取走并发出这些数据后，再等当时在途的导出全部返回才完成；持续写入不会让请求饿死。
+ *
+ * @param <T> 导出数据类型 (SpanData / LogRecordData)
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class BatchExportPipeline<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchExportPipeline.class);
+
+    /** 攒批线程检查 forceFlush 请求的最长间隔 */
+    private static final long FLUSH_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final String signal;
+
+    private final Function<List<T>, CompletableResultCode> exporter;
+
+    private final ArrayBlockingQueue<T> queue;
+
+    private final int maxBatchSize;
+
+    private final long flushIntervalNanos;
+
+    private final int concurrency;
+
+    private final Semaphore inflight;
+
+    private final Queue<FlushRequest> flushRequests = new ConcurrentLinkedQueue<>();
+
+    /** 累计入队条数，forceFlush 以此为目标 */
+    private final LongAdder enqueued = new LongAdder();
+
+    /** 累计从队列取出并发出导出的条数，仅攒批线程读写 */
+    private long dispatched;
+
+    /** 在途的导出结果 */
+    private final Set<CompletableResultCode> inflightResults = ConcurrentHashMap.newKeySet();
+
+    /** 可选的磁盘溢写缓冲，null 表示不溢写 */
+    private final MappedSpillBuffer<T> spill;
+
+    private final AtomicBoolean replaying = new AtomicBoolean();
+
+    /** 在途的回放结果，没有回放在途时为 null */
+    private volatile CompletableResultCode replayResult;
+
+    /** 最近一次导出是否成功，决定是否立即回放 */
+    private volatile boolean healthy = true;
+
+    private volatile long lastFailureNanos;
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    private final Counter queueFull;
+
+    private final Counter exportFailed;
+
+    private final DistributionSummary batchSize;
+
+    private final Timer success;
+
+    private final Timer failure;
+
+    /**
+     * @param signal 信号类型，用于线程名与指标 tag
+     * @param exporter 导出函数，返回导出器的异步结果
+     */
+    public BatchExportPipeline(String signal, BatchExportProperties.Pipeline settings,
+        Function<List<T>, CompletableResultCode> exporter, MeterRegistry registry) {
+        this(signal, settings, exporter, null, registry);
+    }
+
+    /**
+     * @param signal 信号类型，用于线程名与指标 tag
+     * @param exporter 导出函数，返回导出器的异步结果
+     * @param spill 磁盘溢写缓冲，null 表示不溢写
+     */
+    public BatchExportPipeline(String signal, BatchExportProperties.Pipeline settings,
+        Function<List<T>, CompletableResultCode> exporter, MappedSpillBuffer<T> spill, MeterRegistry registry) {
+        this.signal = signal;
+        this.exporter = exporter;
+        this.spill = spill;
+        this.queue = new ArrayBlockingQueue<>(settings.getMaxQueueSize());
+        this.maxBatchSize = settings.getMaxBatchSize();
+        this.flushIntervalNanos = settings.getFlushInterval().toNanos();
+        this.concurrency = Math.max(1, settings.getConcurrency());
+        this.inflight = new Semaphore(concurrency);
+
+        this.queueFull = Counter.builder("otel.export.dropped").description("未能导出而丢弃的条数").tag("signal", signal)
+            .tag("reason", "queue_full").register(registry);
+        this.exportFailed = Counter.builder("otel.export.dropped").description("未能导出而丢弃的条数").tag("signal", signal)
+            .tag("reason", "export_failed").register(registry);
+        this.batchSize = DistributionSummary.builder("otel.export.batch.size").description("单次导出的条数")
+            .tag("signal", signal).publishPercentileHistogram().register(registry);
+        this.success = Timer.builder("otel.export.duration").description("导出请求往返耗时").tag("signal", signal)
+            .tag("result", "success").publishPercentileHistogram().register(registry);
+        this.failure = Timer.builder("otel.export.duration").description("导出请求往返耗时").tag("signal", signal)
+            .tag("result", "failure").register(registry);
+        Gauge.builder("otel.export.queue.size", queue, ArrayBlockingQueue::size).description("导出队列中的条数")
+            .tag("signal", signal).register(registry);
+        Gauge.builder("otel.export.queue.capacity", settings, BatchExportProperties.Pipeline::getMaxQueueSize)
+            .description("导出队列容量").tag("signal", signal).register(registry);
+        Gauge.builder("otel.export.inflight", this, p -> p.concurrency - p.inflight.availablePermits())
+            .description("在途导出请求数").tag("signal", signal).register(registry);
+
+        this.worker = Thread.ofPlatform().daemon().name("otel-export-" + signal).start(this::run);
+    }
+
+    /**
+     * 入队，队列已满时溢写到磁盘或丢弃；磁盘上仍有待回放的数据时直接追加到磁盘，保持先后顺序。从不阻塞调用方
+     */
+    public void offer(T item) {
+        if (spill != null && !spill.isEmpty()) {
+            spill.append(item);
+            return;
+        }
+        if (running && queue.offer(item)) {
+            enqueued.increment();
+            return;
+        }
+        if (spill != null) {
+            // 写满或失败由溢写缓冲自行计数
+            spill.append(item);
+        } else {
+            queueFull.increment();
+        }
+    }
+
+    /**
+     * 导出调用时已入队的数据，这些数据的导出请求全部返回后完成；其中有导出失败时结果失败
+     */
+    public CompletableResultCode forceFlush() {
+        CompletableResultCode result = new CompletableResultCode();
+        flushRequests.add(new FlushRequest(enqueued.sum(), result));
+        return result;
+    }
+
+    /**
+     * 停止接收新数据，导出剩余数据并等待在途请求结束
+     *
+     * @param timeoutNanos 最长等待时间
+     */
+    public CompletableResultCode shutdown(long timeoutNanos) {
+        running = false;
+        // 攒批线程退出与在途请求返回共用同一个截止时间
+        long deadline = System.nanoTime() + timeoutNanos;
+        try {
+            if (worker.join(Duration.ofNanos(timeoutNanos))
+                && inflight.tryAcquire(concurrency, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                inflight.release(concurrency);
+                return CompletableResultCode.ofSuccess();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.warn("📦 OTLP {} export pipeline did not drain within {}ms ({} queued)", signal,
+            TimeUnit.NANOSECONDS.toMillis(timeoutNanos), queue.size());
+        return CompletableResultCode.ofFailure();
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(maxBatchSize);
+        long nextFlush = System.nanoTime() + flushIntervalNanos;
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            maybeReplay(batch);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long now = System.nanoTime();
+            boolean flushRequested = !flushRequests.isEmpty();
+            if (batch.size() >= maxBatchSize || now - nextFlush >= 0 || flushRequested || !running) {
+                if (!batch.isEmpty()) {
+                    dispatched += batch.size();
+                    export(batch, false);
+                    batch = new ArrayList<>(maxBatchSize);
+                }
+                nextFlush = now + flushIntervalNanos;
+                if (flushRequested) {
+                    completeFlushRequests(false);
+                }
+                continue;
+            }
+            try {
+                CompletableResultCode replay = replayResult;
+                if (replay != null && queue.isEmpty()) {
+                    // 回放期间新数据写入磁盘而不入队，等这一批返回后立即回放下一批，不必空等一个轮询周期
+                    replay.join(Math.min(nextFlush - now, FLUSH_CHECK_NANOS), TimeUnit.NANOSECONDS);
+                    continue;
+                }
+                T item = queue.poll(Math.min(nextFlush - now, FLUSH_CHECK_NANOS), TimeUnit.NANOSECONDS);
+                if (item != null) {
+                    batch.add(item);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        completeFlushRequests(true);
+    }
+
+    /**
+     * 从磁盘回放一批：队列与当前批次均已清空、实时导出全部返回、没有回放在途，且导出器健康或距上次失败已超过 flushInterval。
+     * 磁盘非空期间新数据不再入队，队列中只剩比磁盘数据更早的记录，先发完它们再回放
+     *
+     * @param batch 攒批线程当前未发出的批次
+     */
+    private void maybeReplay(List<T> batch) {
+        if (spill == null || !running || spill.isEmpty() || !queue.isEmpty() || !batch.isEmpty()
+            || inflight.availablePermits() < concurrency) {
+            return;
+        }
+        if (!healthy && System.nanoTime() - lastFailureNanos < flushIntervalNanos) {
+            return;
+        }
+        if (!replaying.compareAndSet(false, true)) {
+            return;
+        }
+        MappedSpillBuffer.Batch<T> replay = spill.peek(maxBatchSize);
+        if (replay.isEmpty()) {
+            replaying.set(false);
+            return;
+        }
+        if (replay.items().isEmpty()) {
+            // 整批都无法解码，直接确认
+            spill.commit(replay);
+            replaying.set(false);
+            return;
+        }
+        CompletableResultCode result = export(replay.items(), true);
+        replayResult = result;
+        result.whenComplete(() -> {
+            if (result.isSuccess()) {
+                spill.commit(replay);
+            }
+            replayResult = null;
+            replaying.set(false);
+        });
+    }
+
+    /**
+     * @param replay 是否为磁盘回放的批次；回放失败不再重复溢写
+     */
+    private CompletableResultCode export(List<T> batch, boolean replay) {
+        // 在途请求已满时在此等待，队列随之积压
+        inflight.acquireUninterruptibly();
+        int size = batch.size();
+        batchSize.record(size);
+        long start = System.nanoTime();
+        CompletableResultCode result;
+        try {
+            result = exporter.apply(batch);
+        } catch (RuntimeException e) {
+            logger.warn("📦 OTLP {} export failed: {}", signal, e.getMessage());
+            result = CompletableResultCode.ofFailure();
+        }
+        CompletableResultCode pending = result;
+        inflightResults.add(pending);
+        pending.whenComplete(() -> {
+            long elapsed = System.nanoTime() - start;
+            if (pending.isSuccess()) {
+                healthy = true;
+                success.record(elapsed, TimeUnit.NANOSECONDS);
+            } else {
+                healthy = false;
+                lastFailureNanos = System.nanoTime();
+                failure.record(elapsed, TimeUnit.NANOSECONDS);
+                if (spill == null) {
+                    exportFailed.increment(size);
+                } else if (!replay) {
+                    spill.appendAll(batch);
+                }
+            }
+            inflightResults.remove(pending);
+            inflight.release();
+        });
+        return pending;
+    }
+
+    /**
+     * 目标数据已全部发出的 flush 请求，在当前在途的导出全部返回后完成
+     *
+     * @param all 是否不论目标全部完成 (攒批线程退出时)
+     */
+    private void completeFlushRequests(boolean all) {
+        FlushRequest request = flushRequests.peek();
+        if (request == null || (!all && request.target() > dispatched)) {
+            return;
+        }
+        CompletableResultCode exported = CompletableResultCode.ofAll(List.copyOf(inflightResults));
+        while ((request = flushRequests.peek()) != null && (all || request.target() <= dispatched)) {
+            flushRequests.poll();
+            CompletableResultCode result = request.result();
+            exported.whenComplete(() -> {
+                if (exported.isSuccess()) {
+                    result.succeed();
+                } else {
+                    result.fail();
+                }
+            });
+        }
+    }
+
+    /**
+     * @param target 请求时刻的累计入队条数
+     */
+    private record FlushRequest(long target, CompletableResultCode result) {}
+}
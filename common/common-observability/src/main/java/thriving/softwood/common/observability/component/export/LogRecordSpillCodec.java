@@ -0,0 +1,230 @@
+package thriving.softwood.common.observability.component.export;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.common.Value;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.logs.data.Body;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.resources.Resource;
+
+/**
+ * 💾 {@link LogRecordData} 的溢写编码
+ * <p>
+ * 记录时间戳、级别、正文、链路 ID、InstrumentationScope (Log4j2 Appender 中即 Logger 名称) 与属性。Resource 对同一进程恒定，
+ * 不随每条记录落盘，回放时使用当前进程的 Resource。数组类型的属性按字符串保存。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class LogRecordSpillCodec implements SpillCodec<LogRecordData> {
+
+    private static final byte STRING = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+
+    private static final Severity[] SEVERITIES = Severity.values();
+
+    private final Resource resource;
+
+    public LogRecordSpillCodec(Resource resource) {
+        this.resource = resource;
+    }
+
+    @Override
+    public void encode(LogRecordData item, DataOutput out) throws IOException {
+        out.writeLong(item.getTimestampEpochNanos());
+        out.writeLong(item.getObservedTimestampEpochNanos());
+        out.writeByte(item.getSeverity().ordinal());
+        writeNullable(out, item.getSeverityText());
+        InstrumentationScopeInfo scope = item.getInstrumentationScopeInfo();
+        out.writeUTF(scope.getName());
+        writeNullable(out, scope.getVersion());
+        Value<?> body = item.getBodyValue();
+        writeNullable(out, body != null ? body.asString() : null);
+
+        SpanContext spanContext = item.getSpanContext();
+        out.writeBoolean(spanContext.isValid());
+        if (spanContext.isValid()) {
+            out.writeUTF(spanContext.getTraceId());
+            out.writeUTF(spanContext.getSpanId());
+            out.writeByte(spanContext.getTraceFlags().asByte());
+        }
+
+        Attributes attributes = item.getAttributes();
+        out.writeInt(item.getTotalAttributeCount());
+        out.writeInt(attributes.size());
+        IOException[] failure = new IOException[1];
+        attributes.forEach((key, value) -> {
+            if (failure[0] != null) {
+                return;
+            }
+            try {
+                writeAttribute(out, key, value);
+            } catch (IOException e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    @Override
+    public LogRecordData decode(DataInput in) throws IOException {
+        long timestamp = in.readLong();
+        long observedTimestamp = in.readLong();
+        Severity severity = SEVERITIES[in.readByte()];
+        String severityText = readNullable(in);
+        String scopeName = in.readUTF();
+        String scopeVersion = readNullable(in);
+        String body = readNullable(in);
+
+        SpanContext spanContext = SpanContext.getInvalid();
+        if (in.readBoolean()) {
+            spanContext = SpanContext.create(in.readUTF(), in.readUTF(), TraceFlags.fromByte(in.readByte()),
+                TraceState.getDefault());
+        }
+
+        int totalAttributeCount = in.readInt();
+        int size = in.readInt();
+        AttributesBuilder attributes = Attributes.builder();
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            switch (in.readByte()) {
+                case BOOLEAN -> attributes.put(key, in.readBoolean());
+                case LONG -> attributes.put(key, in.readLong());
+                case DOUBLE -> attributes.put(key, in.readDouble());
+                default -> attributes.put(key, readString(in));
+            }
+        }
+
+        InstrumentationScopeInfo scope =
+            InstrumentationScopeInfo.builder(scopeName).setVersion(scopeVersion).build();
+        return new SpilledLogRecord(resource, scope, timestamp, observedTimestamp, spanContext, severity, severityText,
+            body, attributes.build(), totalAttributeCount);
+    }
+
+    private static void writeAttribute(DataOutput out, AttributeKey<?> key, Object value) throws IOException {
+        out.writeUTF(key.getKey());
+        switch (key.getType()) {
+            case BOOLEAN -> {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean((Boolean)value);
+            }
+            case LONG -> {
+                out.writeByte(LONG);
+                out.writeLong((Long)value);
+            }
+            case DOUBLE -> {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double)value);
+            }
+            default -> {
+                out.writeByte(STRING);
+                writeString(out, String.valueOf(value));
+            }
+        }
+    }
+
+    /**
+     * writeUTF 上限 64KB，长文本 (如异常堆栈) 按字节数组写入
+     */
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
+        }
+    }
+
+    private static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+
+    /**
+     * 从磁盘回放的日志记录
+     */
+    private record SpilledLogRecord(Resource resource, InstrumentationScopeInfo scope, long timestamp,
+        long observedTimestamp, SpanContext spanContext, Severity severity, String severityText, String body,
+        Attributes attributes, int totalAttributeCount) implements LogRecordData {
+
+        @Override
+        public Resource getResource() {
+            return resource;
+        }
+
+        @Override
+        public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+            return scope;
+        }
+
+        @Override
+        public long getTimestampEpochNanos() {
+            return timestamp;
+        }
+
+        @Override
+        public long getObservedTimestampEpochNanos() {
+            return observedTimestamp;
+        }
+
+        @Override
+        public SpanContext getSpanContext() {
+            return spanContext;
+        }
+
+        @Override
+        public Severity getSeverity() {
+            return severity;
+        }
+
+        @Override
+        public String getSeverityText() {
+            return severityText;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public Body getBody() {
+            return body != null ? Body.string(body) : Body.empty();
+        }
+
+        @Override
+        public Value<?> getBodyValue() {
+            return body != null ? Value.of(body) : null;
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public int getTotalAttributeCount() {
+            return totalAttributeCount;
+        }
+    }
+}
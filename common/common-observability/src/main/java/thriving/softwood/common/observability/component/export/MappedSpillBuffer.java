@@ -0,0 +1,504 @@
+package thriving.softwood.common.observability.component.export;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 💾 内存映射、分段滚动的本地溢写缓冲
+ * <p>
+ * Collector 短暂不可用时，导出队列放不下的数据与导出失败的批次按到达顺序追加到 directory 下的定长段文件 (segment-{序号}.spill)，
+ * Collector 恢复后按同样顺序回放，回放成功才推进读位置，进程重启后从上次确认的位置继续。
+ * <ul>
+ * <li>段文件通过 {@link FileChannel#map(FileChannel.MapMode, long, long, Arena)} 映射，写入只是一次内存拷贝，不阻塞业务线程；
+ * 段被完全回放后关闭 {@link Arena} 立即解除映射并删除文件</li>
+ * <li>下一个段由后台线程 (otel-spill-{signal}) 预先创建并映射，写满的段也由它 force 落盘；业务线程滚动时只是换上备用段，
+ * 备用段尚未就绪时新数据直接丢弃 (reason=rollover)</li>
+ * <li>记录格式：[int 长度][载荷]，先写载荷再写长度，进程中途崩溃留下的半条记录长度为 0，恢复时视为段尾</li>
+ * <li>段头 8 字节记录已确认的读位置</li>
+ * <li>段数达到 maxDiskUsage / segmentSize 后新数据直接丢弃 (reason=disk_full)，保证磁盘占用有上限</li>
+ * </ul>
+ * 数据写入页缓存即可在进程崩溃后保留；段写满后与关闭时 force 落盘，操作系统崩溃时最多丢失尚未落盘的部分。
+ * <p>
+ * 回放顺序即追加顺序。BatchExportPipeline 在本缓冲非空期间把新数据也追加到这里，因此回放与实时导出不会交错；
+ * 例外是失败时已在途的实时批次，它们经 {@link #appendAll(Collection)} 重新溢写，排在期间已溢写的更新记录之后
+ * (后端按记录自身的时间戳排序，不依赖到达顺序)。
+ * <p>
+ * 指标 (tag signal)：otel.spill.spilled、otel.spill.replayed、otel.spill.dropped{reason=disk_full|rollover|too_large|corrupt}、
+ * otel.spill.pending (待回放条数)、otel.spill.disk.usage (字节)
+ *
+ * @param <T> 记录类型
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class MappedSpillBuffer<T> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedSpillBuffer.class);
+
+    /** 段头：已确认的读位置 */
+    private static final long HEADER = Long.BYTES;
+
+    private static final String SUFFIX = ".spill";
+
+    /** 创建段文件失败后的重试间隔 */
+    private static final long RETRY_MILLIS = 1_000;
+
+    private final Path directory;
+
+    private final long segmentSize;
+
+    private final int maxSegments;
+
+    private final SpillCodec<T> codec;
+
+    /** 由旧到新 */
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    /** 后台线程预先创建的下一个段，尚未计入 segments */
+    private Segment spare;
+
+    /** 已写满、等待后台线程 force 落盘的段 */
+    private final Deque<Segment> sealed = new ArrayDeque<>();
+
+    private final Thread roller;
+
+    private long nextSequence;
+
+    private volatile long pending;
+
+    private volatile boolean closed;
+
+    private final Counter spilled;
+
+    private final Counter replayed;
+
+    private final Counter diskFull;
+
+    private final Counter rollover;
+
+    private final Counter tooLarge;
+
+    private final Counter corrupt;
+
+    /**
+     * @param directory 段文件目录，不存在时创建；已有的段文件会被恢复并等待回放
+     * @param segmentSize 单个段文件大小
+     * @param maxDiskUsage 段文件总大小上限
+     */
+    public MappedSpillBuffer(Path directory, long segmentSize, long maxDiskUsage, SpillCodec<T> codec, String signal,
+        MeterRegistry registry) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = (int)Math.max(1, maxDiskUsage / segmentSize);
+        this.codec = codec;
+
+        this.spilled = Counter.builder("otel.spill.spilled").description("溢写到磁盘的条数").tag("signal", signal)
+            .register(registry);
+        this.replayed = Counter.builder("otel.spill.replayed").description("从磁盘回放成功的条数").tag("signal", signal)
+            .register(registry);
+        this.diskFull = dropCounter(registry, signal, "disk_full");
+        this.rollover = dropCounter(registry, signal, "rollover");
+        this.tooLarge = dropCounter(registry, signal, "too_large");
+        this.corrupt = dropCounter(registry, signal, "corrupt");
+        Gauge.builder("otel.spill.pending", this, b -> b.pending).description("等待回放的条数").tag("signal", signal)
+            .register(registry);
+        Gauge.builder("otel.spill.disk.usage", this, MappedSpillBuffer::diskUsage).description("溢写段文件占用的磁盘空间")
+            .baseUnit("bytes").tag("signal", signal).register(registry);
+
+        Files.createDirectories(directory);
+        recover();
+        if (segments.size() < maxSegments) {
+            spare = open(nextSequence++);
+        }
+        this.roller = Thread.ofPlatform().daemon().name("otel-spill-" + signal).start(this::roll);
+    }
+
+    /**
+     * 追加一条记录
+     *
+     * @return 是否写入成功；磁盘配额已满、记录超过段大小或已关闭时返回 false
+     */
+    public boolean append(T item) {
+        byte[] payload;
+        try {
+            payload = encode(item);
+        } catch (IOException e) {
+            corrupt.increment();
+            return false;
+        }
+        long required = Integer.BYTES + (long)payload.length;
+        if (required > segmentSize - HEADER) {
+            tooLarge.increment();
+            return false;
+        }
+        synchronized (this) {
+            if (closed) {
+                diskFull.increment();
+                return false;
+            }
+            Segment tail = segments.peekLast();
+            if (tail == null || tail.writePosition + required > segmentSize) {
+                if (segments.size() >= maxSegments) {
+                    diskFull.increment();
+                    return false;
+                }
+                if (spare == null) {
+                    // 备用段仍在创建中，不在业务线程上创建/映射文件
+                    rollover.increment();
+                    notifyAll();
+                    return false;
+                }
+                if (tail != null) {
+                    sealed.addLast(tail);
+                }
+                tail = spare;
+                spare = null;
+                segments.addLast(tail);
+                // 交给后台线程：旧段落盘，预建下一段
+                notifyAll();
+            }
+            long position = tail.writePosition;
+            MemorySegment.copy(payload, 0, tail.memory, ValueLayout.JAVA_BYTE, position + Integer.BYTES,
+                payload.length);
+            // 长度最后写入：未写完的记录长度为 0，恢复时不会被读到
+            tail.memory.set(ValueLayout.JAVA_INT_UNALIGNED, position, payload.length);
+            tail.writePosition = position + required;
+            pending++;
+        }
+        spilled.increment();
+        return true;
+    }
+
+    /**
+     * 追加一批记录，遇到配额已满即停止
+     */
+    public void appendAll(Collection<T> items) {
+        for (T item : items) {
+            if (!append(item)) {
+                return;
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return pending == 0;
+    }
+
+    /**
+     * 从已确认的读位置起读取至多 max 条记录，不推进读位置；回放成功后调用 {@link #commit(Batch)}
+     */
+    public synchronized Batch<T> peek(int max) {
+        List<T> items = new ArrayList<>(Math.min(max, 1024));
+        int consumed = 0;
+        long endSequence = -1;
+        long endPosition = HEADER;
+        for (Segment segment : segments) {
+            long position = segment.readPosition();
+            while (items.size() < max && position < segment.writePosition) {
+                int length = segment.memory.get(ValueLayout.JAVA_INT_UNALIGNED, position);
+                byte[] payload = new byte[length];
+                MemorySegment.copy(segment.memory, ValueLayout.JAVA_BYTE, position + Integer.BYTES, payload, 0,
+                    length);
+                position += Integer.BYTES + length;
+                consumed++;
+                try {
+                    items.add(codec.decode(new DataInputStream(new ByteArrayInputStream(payload))));
+                } catch (IOException | RuntimeException e) {
+                    // 无法解码的记录跳过，随本批一起确认
+                    corrupt.increment();
+                }
+            }
+            endSequence = segment.sequence;
+            endPosition = position;
+            if (items.size() >= max) {
+                break;
+            }
+        }
+        return new Batch<>(items, consumed, endSequence, endPosition);
+    }
+
+    /**
+     * 确认一批记录已回放成功：推进读位置，删除已完全回放的段
+     */
+    public void commit(Batch<T> batch) {
+        List<Segment> removed = new ArrayList<>();
+        synchronized (this) {
+            if (closed || batch.consumed() == 0) {
+                return;
+            }
+            Iterator<Segment> iterator = segments.iterator();
+            while (iterator.hasNext()) {
+                Segment segment = iterator.next();
+                if (segment.sequence > batch.endSequence()) {
+                    break;
+                }
+                boolean fullyRead = segment.sequence < batch.endSequence()
+                    || (batch.endPosition() >= segment.writePosition && segment != segments.peekLast());
+                if (fullyRead) {
+                    iterator.remove();
+                    sealed.remove(segment);
+                    removed.add(segment);
+                } else {
+                    segment.memory.set(ValueLayout.JAVA_LONG_UNALIGNED, 0, batch.endPosition());
+                }
+            }
+            pending = Math.max(0, pending - batch.consumed());
+            // 腾出了配额，需要时补建备用段
+            notifyAll();
+        }
+        replayed.increment(batch.items().size());
+        // 段可能正被后台线程 force，在锁外删除，避免 append 间接等待
+        removed.forEach(Segment::delete);
+    }
+
+    @Override
+    public void close() {
+        List<Segment> remaining;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remaining = new ArrayList<>(segments);
+            if (spare != null) {
+                remaining.add(spare);
+                spare = null;
+            }
+            segments.clear();
+            sealed.clear();
+            notifyAll();
+        }
+        roller.interrupt();
+        for (Segment segment : remaining) {
+            segment.force();
+            segment.release();
+        }
+    }
+
+    /**
+     * 后台线程：写满的段 force 落盘，配额允许时预建下一个段
+     */
+    private void roll() {
+        while (true) {
+            Segment toForce;
+            long sequence = -1;
+            synchronized (this) {
+                while (!closed && sealed.isEmpty() && !needsSpare()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (closed) {
+                    return;
+                }
+                toForce = sealed.poll();
+                if (toForce == null) {
+                    sequence = nextSequence++;
+                }
+            }
+            if (toForce != null) {
+                toForce.force();
+                continue;
+            }
+            try {
+                Segment created = open(sequence);
+                synchronized (this) {
+                    if (closed) {
+                        created.release();
+                        return;
+                    }
+                    spare = created;
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("💾 Failed to create spill segment in {}: {}", directory, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 调用方需持有锁
+     */
+    private boolean needsSpare() {
+        return spare == null && segments.size() < maxSegments;
+    }
+
+    private synchronized long diskUsage() {
+        return (long)(segments.size() + (spare != null ? 1 : 0)) * segmentSize;
+    }
+
+    private byte[] encode(T item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            codec.encode(item, out);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 恢复目录中已有的段文件，按序号排列并扫描每段的写入位置
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(p -> p.getFileName().toString().endsWith(SUFFIX))
+                .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b))).toList();
+        }
+        for (Path file : files) {
+            long sequence = sequenceOf(file);
+            if (sequence < 0 || Files.size(file) != segmentSize) {
+                logger.warn("💾 Ignoring unexpected spill file {}", file);
+                continue;
+            }
+            Segment segment = open(sequence);
+            long position = HEADER;
+            long records = 0;
+            long readPosition = segment.readPosition();
+            while (position + Integer.BYTES <= segmentSize) {
+                int length = segment.memory.get(ValueLayout.JAVA_INT_UNALIGNED, position);
+                if (length <= 0 || position + Integer.BYTES + length > segmentSize) {
+                    break;
+                }
+                if (position >= readPosition) {
+                    records++;
+                }
+                position += Integer.BYTES + length;
+            }
+            segment.writePosition = position;
+            segments.addLast(segment);
+            pending += records;
+            nextSequence = sequence + 1;
+        }
+        if (pending > 0) {
+            logger.info("💾 Recovered {} spilled records from {} segment(s) in {}", pending, segments.size(),
+                directory);
+        }
+    }
+
+    private Segment open(long sequence) throws IOException {
+        Path file = directory.resolve("segment-%020d%s".formatted(sequence, SUFFIX));
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+            // 映射超出文件长度时文件会被扩展并以 0 填充
+            MemorySegment memory = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize, arena);
+            return new Segment(sequence, file, arena, memory);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring("segment-".length(), name.length() - SUFFIX.length()));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static Counter dropCounter(MeterRegistry registry, String signal, String reason) {
+        return Counter.builder("otel.spill.dropped").description("未能溢写或无法回放而丢弃的条数").tag("signal", signal)
+            .tag("reason", reason).register(registry);
+    }
+
+    /**
+     * 一批待回放的记录
+     *
+     * @param items 解码成功的记录
+     * @param consumed 读取的记录数 (含无法解码而跳过的)
+     * @param endSequence 批次结束所在段的序号
+     * @param endPosition 批次结束在该段中的位置
+     */
+    public record Batch<T>(List<T> items, int consumed, long endSequence, long endPosition) {
+
+        public boolean isEmpty() {
+            return consumed == 0;
+        }
+    }
+
+    /**
+     * 单个段文件
+     */
+    private static final class Segment {
+
+        private final long sequence;
+
+        private final Path file;
+
+        private final Arena arena;
+
+        private final MemorySegment memory;
+
+        private long writePosition = HEADER;
+
+        /** Arena 已关闭 (以段自身为锁，与 force 互斥) */
+        private boolean released;
+
+        private Segment(long sequence, Path file, Arena arena, MemorySegment memory) {
+            this.sequence = sequence;
+            this.file = file;
+            this.arena = arena;
+            this.memory = memory;
+        }
+
+        /**
+         * @return 已确认的读位置，新建的段为段头之后
+         */
+        private long readPosition() {
+            return Math.max(HEADER, memory.get(ValueLayout.JAVA_LONG_UNALIGNED, 0));
+        }
+
+        private synchronized void force() {
+            if (!released) {
+                memory.force();
+            }
+        }
+
+        private synchronized void release() {
+            if (!released) {
+                released = true;
+                arena.close();
+            }
+        }
+
+        private void delete() {
+            release();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("💾 Failed to delete spill segment {}: {}", file, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package thriving.softwood.common.observability.component.export;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.LogRecordExporter;
+import thriving.softwood.common.observability.component.config.BatchExportProperties;
+
+/**
+ * 📦 可观测的日志批处理器，替代 SDK 的 BatchLogRecordProcessor (见 {@link BatchExportPipeline})
+ * <p>
+ * 可选地在 Collector 不可用时溢写到本地磁盘 (见 {@link MappedSpillBuffer})，关闭时在导出器之后关闭溢写缓冲，未回放的数据留待下次启动。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class ObservableBatchLogRecordProcessor implements LogRecordProcessor {
+
+    private final LogRecordExporter exporter;
+
+    private final BatchExportPipeline<LogRecordData> pipeline;
+
+    private final MappedSpillBuffer<LogRecordData> spill;
+
+    private final long shutdownTimeoutNanos;
+
+    public ObservableBatchLogRecordProcessor(LogRecordExporter exporter, BatchExportProperties.Pipeline settings,
+        MeterRegistry registry) {
+        this(exporter, settings, null, registry);
+    }
+
+    /**
+     * @param spill 磁盘溢写缓冲，null 表示不溢写
+     */
+    public ObservableBatchLogRecordProcessor(LogRecordExporter exporter, BatchExportProperties.Pipeline settings,
+        MappedSpillBuffer<LogRecordData> spill, MeterRegistry registry) {
+        this.exporter = exporter;
+        this.spill = spill;
+        this.pipeline = new BatchExportPipeline<>("logs", settings, exporter::export, spill, registry);
+        this.shutdownTimeoutNanos = settings.getShutdownTimeout().toNanos();
+    }
+
+    @Override
+    public void onEmit(Context context, ReadWriteLogRecord logRecord) {
+        pipeline.offer(logRecord.toLogRecordData());
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return pipeline.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        CompletableResultCode drained = pipeline.shutdown(shutdownTimeoutNanos);
+        CompletableResultCode closed = exporter.shutdown();
+        if (spill != null) {
+            spill.close();
+        }
+        return CompletableResultCode.ofAll(List.of(drained, closed));
+    }
+}
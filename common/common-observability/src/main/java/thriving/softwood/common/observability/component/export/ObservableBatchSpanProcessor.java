@@ -0,0 +1,67 @@
+package thriving.softwood.common.observability.component.export;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import thriving.softwood.common.observability.component.config.BatchExportProperties;
+
+/**
+ * 📦 可观测的 Span 批处理器，替代 SDK 的 BatchSpanProcessor (见 {@link BatchExportPipeline})
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class ObservableBatchSpanProcessor implements SpanProcessor {
+
+    private final SpanExporter exporter;
+
+    private final BatchExportPipeline<SpanData> pipeline;
+
+    private final long shutdownTimeoutNanos;
+
+    public ObservableBatchSpanProcessor(SpanExporter exporter, BatchExportProperties.Pipeline settings,
+        MeterRegistry registry) {
+        this.exporter = exporter;
+        this.pipeline = new BatchExportPipeline<>("traces", settings, exporter::export, registry);
+        this.shutdownTimeoutNanos = settings.getShutdownTimeout().toNanos();
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (span.getSpanContext().isSampled()) {
+            pipeline.offer(span.toSpanData());
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return pipeline.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        CompletableResultCode drained = pipeline.shutdown(shutdownTimeoutNanos);
+        CompletableResultCode closed = exporter.shutdown();
+        return CompletableResultCode.ofAll(List.of(drained, closed));
+    }
+}
@@ -0,0 +1,19 @@
+package thriving.softwood.common.observability.component.export;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 溢写记录的编解码
+ *
+ * @param <T> 记录类型
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public interface SpillCodec<T> {
+
+    void encode(T item, DataOutput out) throws IOException;
+
+    T decode(DataInput in) throws IOException;
+}
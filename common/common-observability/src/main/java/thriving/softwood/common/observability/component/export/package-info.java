@@ -0,0 +1,5 @@
+/**
+ * OTLP 批量导出管线：可调的队列、批次与并发，以及导出指标
+ */
+
+package thriving.softwood.common.observability.component.export;
@@ -0,0 +1,79 @@
+package thriving.softwood.common.observability.component.monitor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 虚拟线程归属登记表：记录每个虚拟线程当前 (或刚刚) 在执行哪个异步方法、属于哪条链路
+ * <p>
+ * JFR 事件是在线程结束钉住后异步投递的，到达时任务往往已经执行完毕。 虚拟线程 ID 不会复用，因此任务结束时只打上释放时间戳，
+ * 由 {@link VirtualThreadPinningMonitor} 在每次 JFR 刷新后统一清理过期条目。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class VirtualThreadAttribution {
+
+    /**
+     * @param method 异步方法，格式 SimpleClassName#method
+     * @param traceId 链路 ID，无链路时为 N/A
+     */
+    public record Attribution(String method, String traceId) {}
+
+    private static final class Entry {
+        private final Attribution attribution;
+        private volatile long releasedAt;
+
+        private Entry(Attribution attribution) {
+            this.attribution = attribution;
+        }
+    }
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final int maxEntries;
+
+    public VirtualThreadAttribution(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 登记当前虚拟线程的归属，平台线程直接忽略
+     */
+    public void bind(Thread thread, String method, String traceId) {
+        if (!thread.isVirtual() || entries.size() >= maxEntries) {
+            return;
+        }
+        entries.put(thread.threadId(), new Entry(new Attribution(method, traceId)));
+    }
+
+    /**
+     * 标记任务结束，条目会在保留期过后被清理
+     */
+    public void release(Thread thread) {
+        Entry entry = entries.get(thread.threadId());
+        if (entry != null) {
+            entry.releasedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return 线程归属，未登记时为 null
+     */
+    public Attribution lookup(long threadId) {
+        Entry entry = entries.get(threadId);
+        return entry != null ? entry.attribution : null;
+    }
+
+    /**
+     * 清理释放时间早于 retentionNanos 之前的条目
+     */
+    public void sweep(long retentionNanos) {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.releasedAt != 0 && now - entry.releasedAt > retentionNanos);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
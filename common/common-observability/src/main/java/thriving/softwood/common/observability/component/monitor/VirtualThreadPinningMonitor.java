@@ -0,0 +1,176 @@
+package thriving.softwood.common.observability.component.monitor;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import jdk.management.VirtualThreadSchedulerMXBean;
+import thriving.softwood.common.observability.component.config.VirtualThreadMonitorProperties;
+
+/**
+ * 📌 虚拟线程钉住 (pinning) 与载体线程饥饿监控
+ * <p>
+ * 通过 JFR {@link RecordingStream} 常驻订阅 {@code jdk.VirtualThreadPinned} / {@code jdk.VirtualThreadSubmitFailed} 事件 (仅在超过阈值时产生，开销极低)，
+ * 借助 {@link VirtualThreadAttribution} 将事件归属到具体的 @VtAsync 方法与 TraceID，并以 Micrometer 指标发布：
+ * <ul>
+ * <li>jvm.vthread.pinned / jvm.vthread.pinned.duration：按方法统计的钉住次数与时长</li>
+ * <li>jvm.vthread.submit.failed：虚拟线程提交失败次数</li>
+ * <li>jvm.vthread.scheduler.*：调度器并行度、已挂载/排队中的虚拟线程数</li>
+ * <li>jvm.vthread.carrier.starved：所有载体线程均被占用且仍有虚拟线程排队时为 1</li>
+ * </ul>
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+    private static final String UNKNOWN = "unknown";
+
+    private final VirtualThreadMonitorProperties properties;
+    private final VirtualThreadAttribution attribution;
+    private final MeterRegistry registry;
+    private final VirtualThreadSchedulerMXBean scheduler;
+
+    private final Map<String, Counter> pinnedCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> pinnedTimers = new ConcurrentHashMap<>();
+    private final Counter submitFailed;
+    private final Counter starvationEpisodes;
+
+    private volatile boolean starved;
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadMonitorProperties properties,
+        VirtualThreadAttribution attribution, MeterRegistry registry) {
+        this.properties = properties;
+        this.attribution = attribution;
+        this.registry = registry;
+        this.scheduler = ManagementFactory.getPlatformMXBean(VirtualThreadSchedulerMXBean.class);
+
+        this.submitFailed =
+            Counter.builder("jvm.vthread.submit.failed").description("虚拟线程提交到调度器失败的次数").register(registry);
+        this.starvationEpisodes = Counter.builder("jvm.vthread.carrier.starvation")
+            .description("进入载体线程饥饿状态的次数").register(registry);
+
+        Gauge.builder("jvm.vthread.scheduler.parallelism", scheduler, VirtualThreadSchedulerMXBean::getParallelism)
+            .description("虚拟线程调度器目标并行度").register(registry);
+        Gauge.builder("jvm.vthread.scheduler.pool.size", scheduler, VirtualThreadSchedulerMXBean::getPoolSize)
+            .description("当前载体线程数").register(registry);
+        Gauge.builder("jvm.vthread.scheduler.mounted", scheduler,
+            VirtualThreadSchedulerMXBean::getMountedVirtualThreadCount).description("已挂载到载体线程上的虚拟线程数")
+            .register(registry);
+        Gauge.builder("jvm.vthread.scheduler.queued", scheduler,
+            VirtualThreadSchedulerMXBean::getQueuedVirtualThreadCount).description("等待载体线程的虚拟线程数")
+            .register(registry);
+        Gauge.builder("jvm.vthread.carrier.starved", this, m -> m.starved ? 1 : 0)
+            .description("所有载体线程均被占用且仍有虚拟线程排队").register(registry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(properties.getPinnedThreshold()).withStackTrace();
+        recordingStream.enable(SUBMIT_FAILED_EVENT).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.onEvent(SUBMIT_FAILED_EVENT, this::onSubmitFailed);
+        recordingStream.onFlush(this::onFlush);
+        recordingStream.startAsync();
+        stream = recordingStream;
+        logger.info("📌 Virtual thread pinning monitor started (threshold={}ms).",
+            properties.getPinnedThreshold().toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recordingStream = stream;
+        stream = null;
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        VirtualThreadAttribution.Attribution owner = owner(event);
+        String method = owner != null ? owner.method() : UNKNOWN;
+        String traceId = owner != null ? owner.traceId() : UNKNOWN;
+        Duration duration = event.getDuration();
+
+        pinnedCounters.computeIfAbsent(method, m -> Counter.builder("jvm.vthread.pinned")
+            .description("虚拟线程钉住载体线程的次数").tag("method", m).register(registry)).increment();
+        pinnedTimers.computeIfAbsent(method, m -> Timer.builder("jvm.vthread.pinned.duration")
+            .description("虚拟线程钉住载体线程的时长").tag("method", m).register(registry)).record(duration);
+
+        // JFR 回调线程没有业务 MDC，临时放入 traceId 便于在 Kibana 中与业务日志关联
+        try (MDC.MDCCloseable ignored = MDC.putCloseable("traceId", traceId)) {
+            logger.warn("📌 Virtual thread pinned {}ms in [{}] at {}", duration.toMillis(), method, pinSite(event));
+        }
+    }
+
+    private void onSubmitFailed(RecordedEvent event) {
+        submitFailed.increment();
+        VirtualThreadAttribution.Attribution owner = owner(event);
+        logger.warn("⚠️ Virtual thread submit failed in [{}]", owner != null ? owner.method() : UNKNOWN);
+    }
+
+    private void onFlush() {
+        attribution.sweep(properties.getAttributionRetention().toNanos());
+
+        boolean nowStarved = scheduler.getMountedVirtualThreadCount() >= scheduler.getParallelism()
+            && scheduler.getQueuedVirtualThreadCount() > 0;
+        if (nowStarved && !starved) {
+            starvationEpisodes.increment();
+            logger.warn("🥵 Carrier threads starved: mounted={}, parallelism={}, queued={}",
+                scheduler.getMountedVirtualThreadCount(), scheduler.getParallelism(),
+                scheduler.getQueuedVirtualThreadCount());
+        }
+        starved = nowStarved;
+    }
+
+    private VirtualThreadAttribution.Attribution owner(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        return thread != null ? attribution.lookup(thread.getJavaThreadId()) : null;
+    }
+
+    /**
+     * 取栈顶第一个非 JDK 帧作为钉住位置
+     */
+    private static String pinSite(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return UNKNOWN;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "#" + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return UNKNOWN;
+    }
+}
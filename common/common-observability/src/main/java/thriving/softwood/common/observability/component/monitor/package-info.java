@@ -0,0 +1,5 @@
+/**
+ * 运行时监控
+ */
+
+package thriving.softwood.common.observability.component.monitor;
\ No newline at end of file
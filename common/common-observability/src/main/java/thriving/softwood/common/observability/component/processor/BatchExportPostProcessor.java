@@ -0,0 +1,111 @@
+package thriving.softwood.common.observability.component.processor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor;
+import io.opentelemetry.sdk.logs.export.LogRecordExporter;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.NonNull;
+import thriving.softwood.common.observability.component.config.BatchExportProperties;
+import thriving.softwood.common.observability.component.export.LogRecordSpillCodec;
+import thriving.softwood.common.observability.component.export.MappedSpillBuffer;
+import thriving.softwood.common.observability.component.export.ObservableBatchLogRecordProcessor;
+import thriving.softwood.common.observability.component.export.ObservableBatchSpanProcessor;
+
+/**
+ * 📦 以可观测批处理器顶替 Spring Boot 装配的 BatchSpanProcessor / BatchLogRecordProcessor
+ * <p>
+ * 在实例化之前拦截，原处理器 (及其后台线程) 根本不会被创建；导出器沿用容器中的 SpanExporter / LogRecordExporter Bean。
+ * Micrometer 的 SpanExportingPredicate / SpanFilter / SpanReporter 扩展点不再生效。
+ * 开启 spill 时日志处理器附带磁盘溢写缓冲；段目录无法创建时记录告警并退回为不溢写。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class BatchExportPostProcessor implements InstantiationAwareBeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchExportPostProcessor.class);
+
+    private final ObjectProvider<BatchExportProperties> properties;
+
+    private final ObjectProvider<SpanExporter> spanExporters;
+
+    private final ObjectProvider<LogRecordExporter> logRecordExporters;
+
+    private final ObjectProvider<Resource> resource;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * BeanPostProcessor 实例化得很早，依赖以 ObjectProvider 注入，用到时再取
+     */
+    public BatchExportPostProcessor(ObjectProvider<BatchExportProperties> properties,
+        ObjectProvider<SpanExporter> spanExporters, ObjectProvider<LogRecordExporter> logRecordExporters,
+        ObjectProvider<Resource> resource, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.spanExporters = spanExporters;
+        this.logRecordExporters = logRecordExporters;
+        this.resource = resource;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInstantiation(@NonNull Class<?> beanClass, @NonNull String beanName)
+        throws BeansException {
+        if (BatchSpanProcessor.class.isAssignableFrom(beanClass)) {
+            BatchExportProperties.Pipeline settings = properties.getObject().getTraces();
+            List<SpanExporter> exporters = spanExporters.orderedStream().toList();
+            log(beanName, settings, exporters.size());
+            return new ObservableBatchSpanProcessor(SpanExporter.composite(exporters), settings, registry());
+        }
+        if (BatchLogRecordProcessor.class.isAssignableFrom(beanClass)) {
+            BatchExportProperties.Pipeline settings = properties.getObject().getLogs();
+            List<LogRecordExporter> exporters = logRecordExporters.orderedStream().toList();
+            log(beanName, settings, exporters.size());
+            return new ObservableBatchLogRecordProcessor(LogRecordExporter.composite(exporters), settings,
+                spill(properties.getObject().getSpill()), registry());
+        }
+        return null;
+    }
+
+    private MappedSpillBuffer<LogRecordData> spill(BatchExportProperties.Spill settings) {
+        if (!settings.isEnabled()) {
+            return null;
+        }
+        Path directory = Path.of(settings.getDirectory()).toAbsolutePath();
+        try {
+            MappedSpillBuffer<LogRecordData> spill = new MappedSpillBuffer<>(directory,
+                settings.getSegmentSize().toBytes(), settings.getMaxDiskUsage().toBytes(),
+                new LogRecordSpillCodec(resource.getIfAvailable(Resource::getDefault)), "logs", registry());
+            logger.info("💾 OTLP logs spill enabled: directory={}, segment={}, maxDiskUsage={}", directory,
+                settings.getSegmentSize(), settings.getMaxDiskUsage());
+            return spill;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("💾 OTLP logs spill disabled, cannot open {}: {}", directory, e.getMessage());
+            return null;
+        }
+    }
+
+    private MeterRegistry registry() {
+        return meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    private static void log(String beanName, BatchExportProperties.Pipeline settings, int exporters) {
+        logger.info("📦 [{}] replaced: queue={}, batch={}, flushInterval={}ms, concurrency={}, exporters={}", beanName,
+            settings.getMaxQueueSize(), settings.getMaxBatchSize(), settings.getFlushInterval().toMillis(),
+            settings.getConcurrency(), exporters);
+    }
+}
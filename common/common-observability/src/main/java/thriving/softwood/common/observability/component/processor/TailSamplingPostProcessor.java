@@ -0,0 +1,54 @@
+package thriving.softwood.common.observability.component.processor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import lombok.NonNull;
+import thriving.softwood.common.observability.component.config.TailSamplingProperties;
+import thriving.softwood.common.observability.component.export.ObservableBatchSpanProcessor;
+import thriving.softwood.common.observability.component.tracing.TailSamplingSpanProcessor;
+
+/**
+ * 🎯 在导出处理器 (Spring Boot 装配的 BatchSpanProcessor 或 {@link ObservableBatchSpanProcessor}) 之前插入
+ * {@link TailSamplingSpanProcessor}
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class TailSamplingPostProcessor implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TailSamplingPostProcessor.class);
+
+    private final ObjectProvider<TailSamplingProperties> properties;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * BeanPostProcessor 实例化得很早，依赖以 ObjectProvider 注入，用到时再取
+     */
+    public TailSamplingPostProcessor(ObjectProvider<TailSamplingProperties> properties,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName)
+        throws BeansException {
+        if (!(bean instanceof BatchSpanProcessor) && !(bean instanceof ObservableBatchSpanProcessor)) {
+            return bean;
+        }
+        TailSamplingProperties settings = properties.getObject();
+        logger.info("🎯 Tail sampling enabled on [{}]: latencyThreshold={}ms, baselineRatio={}, maxTraces={}", beanName,
+            settings.getLatencyThreshold().toMillis(), settings.getBaselineRatio(), settings.getMaxTraces());
+        return new TailSamplingSpanProcessor((SpanProcessor)bean, settings,
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
@@ -0,0 +1,256 @@
+package thriving.softwood.common.observability.component.tracing;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import thriving.softwood.common.observability.component.config.AdaptiveSamplingProperties;
+
+/**
+ * 🎚️ 自适应采样器：持续调整根 Span 的采样概率，使导出的 Span 数维持在每秒预算附近
+ * <p>
+ * 固定概率在流量翻 10 倍时导出量也翻 10 倍。本采样器每个 adjustInterval 统计一次：
+ * <ul>
+ * <li>根 Span 到达速率 (采样前) 与每条已采样链路平均包含的 Span 数 (EWMA)</li>
+ * <li>目标概率 = 预算 / (根 Span 速率 × 每链路 Span 数)，再以 smoothing 系数指数平滑，避免看板随流量抖动</li>
+ * </ul>
+ * 预算默认整个服务共享一份；在 endpoints 中列出的请求路径 (如 {@code /sample/chain}) 各自拥有独立预算与概率。路径取自根 Span
+ * 创建时的 {@code url.path} 属性 (OTel 语义约定中的采样相关属性)，而不是 Span 名称：HTTP 服务端 Span 创建时名称只有 {@code http get}，
+ * 路由在请求处理完才补上。Micrometer Observation 的服务端 Span 默认在创建时不带任何属性，由 common-web 的
+ * UrlPathReceiverTracingObservationHandler 在创建前写入 {@code url.path} (开启本采样器时自动装配)。不带该属性的根 Span 计入服务级预算。
+ * 非根 Span 跟随父 Span 的采样结论，保证链路完整。
+ * <p>
+ * 已采样的根 Span 记录属性 sampling.probability，并写入 tracestate ({@value #TRACE_STATE_KEY}=概率) 随链路传递，
+ * 子 Span 与下游服务据此记录同一属性，统计时以 1/概率 加权即可还原真实请求量。
+ * <p>
+ * 指标：otel.sampler.probability{endpoint} (当前概率，服务级为 {@value #SERVICE})、otel.sampler.spans.per.trace
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class AdaptiveSampler implements Sampler, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveSampler.class);
+
+    /** tracestate 中记录采样概率的键 */
+    public static final String TRACE_STATE_KEY = "thriving";
+
+    /** 采样概率属性 */
+    public static final AttributeKey<Double> SAMPLING_PROBABILITY = AttributeKey.doubleKey("sampling.probability");
+
+    private static final String SERVICE = "_service";
+
+    /** 匹配 endpoints 的根 Span 属性 */
+    private static final AttributeKey<String> URL_PATH = AttributeKey.stringKey("url.path");
+
+    private static final int MAX_CACHED_ATTRIBUTES = 16_384;
+
+    private final AdaptiveSamplingProperties properties;
+
+    private final Controller service;
+
+    private final Map<String, Controller> endpoints;
+
+    /** 已采样的 Span 总数 (含子 Span) 与已采样的根 Span 数，用于估算每条链路的 Span 数 */
+    private final LongAdder sampledSpans = new LongAdder();
+
+    private final LongAdder sampledRoots = new LongAdder();
+
+    private volatile double spansPerTrace = 1.0;
+
+    /** 按概率字符串缓存属性，概率已量化到 4 位小数 */
+    private final Map<String, Attributes> attributesCache = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService adjuster;
+
+    public AdaptiveSampler(AdaptiveSamplingProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.service = new Controller(SERVICE, properties.getSpansPerSecond(), properties.getInitialProbability());
+        Map<String, Controller> map = new ConcurrentHashMap<>();
+        properties.getEndpoints()
+            .forEach((name, budget) -> map.put(name, new Controller(name, budget, properties.getInitialProbability())));
+        this.endpoints = Map.copyOf(map);
+
+        Gauge.builder("otel.sampler.probability", service, c -> c.probability).description("根 Span 当前采样概率")
+            .tag("endpoint", SERVICE).register(registry);
+        endpoints.values().forEach(c -> Gauge.builder("otel.sampler.probability", c, x -> x.probability)
+            .description("根 Span 当前采样概率").tag("endpoint", c.name).register(registry));
+        Gauge.builder("otel.sampler.spans.per.trace", this, s -> s.spansPerTrace).description("每条已采样链路的平均 Span 数")
+            .register(registry);
+
+        long intervalMs = properties.getAdjustInterval().toMillis();
+        this.adjuster = Executors
+            .newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("otel-adaptive-sampler").factory());
+        adjuster.scheduleWithFixedDelay(this::adjust, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+        Attributes attributes, List<LinkData> parentLinks) {
+        SpanContext parent = Span.fromContext(parentContext).getSpanContext();
+        if (parent.isValid()) {
+            // 非根 Span (含远端父 Span) 跟随父结论，并沿用 tracestate 中的概率
+            if (!parent.isSampled()) {
+                return SamplingResult.drop();
+            }
+            sampledSpans.increment();
+            String probability = parent.getTraceState().get(TRACE_STATE_KEY);
+            return probability == null ? SamplingResult.recordAndSample()
+                : new Result(attributesOf(probability), null);
+        }
+
+        Controller controller = controllerOf(attributes);
+        controller.arrivals.increment();
+        double probability = controller.probability;
+        if (!sampled(traceId, probability)) {
+            return SamplingResult.drop();
+        }
+        sampledSpans.increment();
+        sampledRoots.increment();
+        String quantized = quantize(probability);
+        return new Result(attributesOf(quantized), quantized);
+    }
+
+    @Override
+    public String getDescription() {
+        return "AdaptiveSampler{spansPerSecond=" + properties.getSpansPerSecond() + ", endpoints="
+            + properties.getEndpoints().keySet() + "}";
+    }
+
+    @Override
+    public void close() {
+        adjuster.shutdownNow();
+    }
+
+    private Controller controllerOf(Attributes attributes) {
+        if (endpoints.isEmpty()) {
+            return service;
+        }
+        String path = attributes.get(URL_PATH);
+        return path != null ? endpoints.getOrDefault(path, service) : service;
+    }
+
+    /**
+     * 与 TraceIdRatioBased 相同：取 traceId 低 64 位与概率阈值比较，上下游对同一链路结论一致
+     */
+    private static boolean sampled(String traceId, double probability) {
+        if (probability >= 1.0) {
+            return true;
+        }
+        long low = Long.parseUnsignedLong(traceId.substring(16), 16);
+        return Math.abs(low) < (long)(probability * Long.MAX_VALUE);
+    }
+
+    private static String quantize(double probability) {
+        return Double.toString(Math.round(probability * 10_000) / 10_000.0);
+    }
+
+    private Attributes attributesOf(String probability) {
+        Attributes cached = attributesCache.get(probability);
+        if (cached != null) {
+            return cached;
+        }
+        Attributes attributes;
+        try {
+            attributes = Attributes.of(SAMPLING_PROBABILITY, Double.parseDouble(probability));
+        } catch (NumberFormatException e) {
+            // 上游写入了无法识别的值
+            attributes = Attributes.empty();
+        }
+        // 本服务写入的概率最多 10001 种取值，上游写入的取值不可控，超过上限后不再缓存
+        if (attributesCache.size() < MAX_CACHED_ATTRIBUTES) {
+            attributesCache.putIfAbsent(probability, attributes);
+        }
+        return attributes;
+    }
+
+    private void adjust() {
+        try {
+            double seconds = properties.getAdjustInterval().toNanos() / 1e9;
+            long spans = sampledSpans.sumThenReset();
+            long roots = sampledRoots.sumThenReset();
+            double smoothing = properties.getSmoothing();
+            if (roots > 0) {
+                spansPerTrace += smoothing * (Math.max(1.0, (double)spans / roots) - spansPerTrace);
+            }
+            service.adjust(seconds, spansPerTrace, smoothing, properties.getMinProbability());
+            for (Controller controller : endpoints.values()) {
+                controller.adjust(seconds, spansPerTrace, smoothing, properties.getMinProbability());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("🎚️ Adaptive sampler adjustment failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 单个预算的概率控制器
+     */
+    private static final class Controller {
+
+        private final String name;
+
+        private final double budget;
+
+        private final LongAdder arrivals = new LongAdder();
+
+        private volatile double probability;
+
+        private Controller(String name, double budget, double initialProbability) {
+            this.name = name;
+            this.budget = budget;
+            this.probability = initialProbability;
+        }
+
+        private void adjust(double seconds, double spansPerTrace, double smoothing, double minProbability) {
+            double rootsPerSecond = arrivals.sumThenReset() / seconds;
+            // 没有流量时逐步回到 1.0，流量恢复后从高概率开始收敛
+            double target = rootsPerSecond <= 0 ? 1.0 : Math.min(1.0, budget / (rootsPerSecond * spansPerTrace));
+            double next = probability + smoothing * (target - probability);
+            probability = Math.clamp(next, minProbability, 1.0);
+        }
+    }
+
+    /**
+     * 带采样概率属性的采样结果
+     *
+     * @param traceStateValue 需写入 tracestate 的概率，null 表示沿用父 tracestate
+     */
+    private record Result(Attributes attributes, String traceStateValue) implements SamplingResult {
+
+        @Override
+        public SamplingDecision getDecision() {
+            return SamplingDecision.RECORD_AND_SAMPLE;
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public TraceState getUpdatedTraceState(TraceState parentTraceState) {
+            return traceStateValue == null ? parentTraceState
+                : parentTraceState.toBuilder().put(TRACE_STATE_KEY, traceStateValue).build();
+        }
+    }
+}
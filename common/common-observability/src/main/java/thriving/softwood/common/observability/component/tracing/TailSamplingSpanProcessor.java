@@ -0,0 +1,289 @@
+package thriving.softwood.common.observability.component.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import thriving.softwood.common.observability.component.config.TailSamplingProperties;
+
+/**
+ * 🎯 进程内尾部采样处理器：包在导出处理器 (BatchSpanProcessor) 之前，整条链路结束后再决定是否导出
+ * <p>
+ * 头部采样在链路开始时就要做决定，0.1 的采样率恰好会丢掉我们最需要的慢请求与失败请求。本处理器按 traceId 缓冲已结束的 Span，
+ * 在本服务的本地根 Span (无父 Span 或父 Span 来自远端) 结束时决策：
+ * <ul>
+ * <li>链路中任一 Span 状态为 ERROR → 保留 (reason=error)</li>
+ * <li>本地根 Span 耗时 ≥ latencyThreshold → 保留 (reason=latency)</li>
+ * <li>按 traceId 确定性取 baselineRatio 比例 → 保留 (reason=baseline)，其余丢弃 (reason=none)</li>
+ * </ul>
+ * 保留的 Span 按结束顺序交给下游处理器，丢弃的 Span 不会进入 OTLP 导出队列。决策结果保留 decisionRetention，根 Span 之后才结束的异步 Span
+ * 沿用同一结论。内存有界：缓冲链路数超过 maxTraces 时新链路不再缓冲 (reason=overflow，仅按基线比例即时决策)；根 Span 超过 decisionWait
+ * 仍未结束的链路按已有信息决策 (reason=timeout)；决策结果同时受 decisionRetention 与 maxDecisions 约束 (Caffeine 有界缓存)，
+ * 不随链路速率无限增长。
+ * <p>
+ * 指标：otel.tail.decisions{decision=keep|drop, reason}、otel.tail.late{decision} (决策后到达的 Span)、otel.tail.spans.overflow、
+ * otel.tail.buffer.traces、otel.tail.buffer.spans、otel.tail.decided.traces
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TailSamplingSpanProcessor.class);
+
+    private final SpanProcessor delegate;
+
+    private final TailSamplingProperties properties;
+
+    private final MeterRegistry registry;
+
+    /** baselineRatio 对应的 traceId 低 64 位阈值，与 OTel TraceIdRatioBased 采样器的算法一致 */
+    private final long baselineBound;
+
+    private final Map<String, PendingTrace> pending = new ConcurrentHashMap<>();
+
+    /** traceId → 是否保留 */
+    private final Cache<String, Boolean> decided;
+
+    private final AtomicInteger bufferedSpans = new AtomicInteger();
+
+    private final Map<String, Counter> decisions = new ConcurrentHashMap<>();
+
+    private final Counter lateKept;
+
+    private final Counter lateDropped;
+
+    private final Counter spanOverflow;
+
+    private final ScheduledExecutorService sweeper;
+
+    /**
+     * @param delegate 下游处理器 (通常是负责批量导出的 BatchSpanProcessor)
+     */
+    public TailSamplingSpanProcessor(SpanProcessor delegate, TailSamplingProperties properties,
+        MeterRegistry registry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.registry = registry;
+        double ratio = Math.clamp(properties.getBaselineRatio(), 0.0, 1.0);
+        this.baselineBound = ratio >= 1.0 ? Long.MAX_VALUE : (long)(ratio * Long.MAX_VALUE);
+        this.decided = Caffeine.newBuilder().maximumSize(properties.getMaxDecisions())
+            .expireAfterWrite(properties.getDecisionRetention()).build();
+
+        this.lateKept = Counter.builder("otel.tail.late").description("决策之后才结束的 Span 数").tag("decision", "keep")
+            .register(registry);
+        this.lateDropped = Counter.builder("otel.tail.late").description("决策之后才结束的 Span 数").tag("decision", "drop")
+            .register(registry);
+        this.spanOverflow = Counter.builder("otel.tail.spans.overflow").description("单条链路超出缓冲上限而丢弃的 Span 数")
+            .register(registry);
+        Gauge.builder("otel.tail.buffer.traces", pending, Map::size).description("等待决策的链路数").register(registry);
+        Gauge.builder("otel.tail.buffer.spans", bufferedSpans, AtomicInteger::get).description("等待决策的 Span 数")
+            .register(registry);
+        Gauge.builder("otel.tail.decided.traces", decided, Cache::estimatedSize).description("保留决策结果的链路数")
+            .register(registry);
+
+        long intervalMs = Math.max(100, Math.min(properties.getDecisionWait().toMillis(), 1000));
+        this.sweeper = Executors
+            .newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("otel-tail-sweeper").factory());
+        sweeper.scheduleWithFixedDelay(this::sweep, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        if (delegate.isStartRequired()) {
+            delegate.onStart(parentContext, span);
+        }
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        String traceId = span.getSpanContext().getTraceId();
+        boolean error = span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR;
+
+        Boolean previous = decided.getIfPresent(traceId);
+        if (previous != null) {
+            late(span, previous);
+            return;
+        }
+
+        PendingTrace trace = pending.get(traceId);
+        if (trace == null) {
+            if (pending.size() >= properties.getMaxTraces()) {
+                // 缓冲已满：不再等待整条链路，按单个 Span 即时决策
+                boolean keep = error || baseline(traceId);
+                record(keep, "overflow");
+                if (keep) {
+                    delegate.onEnd(span);
+                }
+                return;
+            }
+            trace = pending.computeIfAbsent(traceId, id -> new PendingTrace(System.nanoTime()));
+        }
+
+        synchronized (trace) {
+            if (trace.decision != null) {
+                // 与决策并发到达
+                late(span, trace.decision);
+                return;
+            }
+            if (trace.spans.size() >= properties.getMaxSpansPerTrace()) {
+                spanOverflow.increment();
+            } else {
+                trace.spans.add(span);
+                bufferedSpans.incrementAndGet();
+            }
+            trace.error |= error;
+        }
+
+        SpanContext parent = span.getParentSpanContext();
+        if (!parent.isValid() || parent.isRemote()) {
+            boolean slow = span.getLatencyNanos() >= properties.getLatencyThreshold().toNanos();
+            decide(traceId, trace, slow);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    /**
+     * 关闭前对所有未决链路按已有信息决策，保证它们有机会被导出
+     */
+    @Override
+    public CompletableResultCode shutdown() {
+        sweeper.shutdownNow();
+        pending.forEach((traceId, trace) -> decide(traceId, trace, false, "timeout"));
+        return delegate.shutdown();
+    }
+
+    private void decide(String traceId, PendingTrace trace, boolean slow) {
+        decide(traceId, trace, slow, null);
+    }
+
+    private void decide(String traceId, PendingTrace trace, boolean slow, String forcedReason) {
+        List<ReadableSpan> spans;
+        boolean keep;
+        String reason;
+        synchronized (trace) {
+            if (trace.decision != null) {
+                return;
+            }
+            if (trace.error) {
+                keep = true;
+                reason = "error";
+            } else if (slow) {
+                keep = true;
+                reason = "latency";
+            } else {
+                keep = baseline(traceId);
+                reason = keep ? "baseline" : "none";
+            }
+            if (forcedReason != null && !trace.error) {
+                reason = forcedReason;
+            }
+            trace.decision = keep;
+            spans = new ArrayList<>(trace.spans);
+            trace.spans.clear();
+        }
+        // 先登记结论再移出缓冲，避免两者之间到达的 Span 重新开启一条链路
+        decided.put(traceId, keep);
+        pending.remove(traceId, trace);
+        bufferedSpans.addAndGet(-spans.size());
+        record(keep, reason);
+        if (keep) {
+            spans.forEach(delegate::onEnd);
+        }
+    }
+
+    private void late(ReadableSpan span, boolean keep) {
+        if (keep) {
+            lateKept.increment();
+            delegate.onEnd(span);
+        } else {
+            lateDropped.increment();
+        }
+    }
+
+    private boolean baseline(String traceId) {
+        // traceId 低 64 位，与 TraceIdRatioBasedSampler 相同，上下游服务对同一链路的基线结论一致
+        long low = Long.parseUnsignedLong(traceId.substring(16), 16);
+        return baselineBound == Long.MAX_VALUE || Math.abs(low) < baselineBound;
+    }
+
+    private void record(boolean keep, String reason) {
+        String decision = keep ? "keep" : "drop";
+        decisions.computeIfAbsent(decision + "|" + reason, k -> Counter.builder("otel.tail.decisions")
+            .description("尾部采样决策次数").tag("decision", decision).tag("reason", reason).register(registry))
+            .increment();
+    }
+
+    private void sweep() {
+        try {
+            long now = System.nanoTime();
+            long waitNanos = properties.getDecisionWait().toNanos();
+            pending.forEach((traceId, trace) -> {
+                if (now - trace.firstSeenNanos >= waitNanos) {
+                    decide(traceId, trace, false, "timeout");
+                }
+            });
+            // 及时清理过期的决策结果，不必等下一次写入触发
+            decided.cleanUp();
+        } catch (RuntimeException e) {
+            logger.warn("🎯 Tail sampling sweep failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 等待决策的链路
+     */
+    private static final class PendingTrace {
+
+        private final long firstSeenNanos;
+
+        private final List<ReadableSpan> spans = new ArrayList<>();
+
+        private boolean error;
+
+        /** null 表示未决 */
+        private Boolean decision;
+
+        private PendingTrace(long firstSeenNanos) {
+            this.firstSeenNanos = firstSeenNanos;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package thriving.softwood.common.observability.component.tracing;
+
+import org.slf4j.MDC;
+
+import io.micrometer.tracing.otel.bridge.EventListener;
+import io.micrometer.tracing.otel.bridge.EventPublishingContextWrapper;
+import io.opentelemetry.api.trace.Span;
+
+/**
+ * 🏷️ 在 Micrometer 作用域切换时把采样标记写入 MDC (键 traceFlags，两位十六进制)
+ * <p>
+ * 与 Micrometer 自带的 Slf4JEventListener (写 traceId / spanId) 监听同一组作用域事件，供 DisruptorOtlpAppender 在消费线程上
+ * 还原完整的 SpanContext。只在作用域切换时写一次，日志事件本身不再查询 OTel Context。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class TraceFlagsMdcEventListener implements EventListener {
+
+    private final String traceFlagsKey;
+
+    public TraceFlagsMdcEventListener() {
+        this("traceFlags");
+    }
+
+    public TraceFlagsMdcEventListener(String traceFlagsKey) {
+        this.traceFlagsKey = traceFlagsKey;
+    }
+
+    @Override
+    public void onEvent(Object event) {
+        if (event instanceof EventPublishingContextWrapper.ScopeAttachedEvent attached) {
+            put(attached.getSpan());
+        } else if (event instanceof EventPublishingContextWrapper.ScopeRestoredEvent restored) {
+            put(restored.getSpan());
+        } else if (event instanceof EventPublishingContextWrapper.ScopeClosedEvent) {
+            MDC.remove(traceFlagsKey);
+        }
+    }
+
+    private void put(Span span) {
+        if (span != null) {
+            MDC.put(traceFlagsKey, span.getSpanContext().getTraceFlags().asHex());
+        }
+    }
+}
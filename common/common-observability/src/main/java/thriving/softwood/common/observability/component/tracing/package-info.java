@@ -0,0 +1,5 @@
+/**
+ * 链路采样与导出管线：尾部采样、自适应采样
+ */
+
+package thriving.softwood.common.observability.component.tracing;
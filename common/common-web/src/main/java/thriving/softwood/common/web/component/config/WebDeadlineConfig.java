@@ -0,0 +1,34 @@
+package thriving.softwood.common.web.component.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+import thriving.softwood.common.web.component.filter.RequestDeadlineFilter;
+
+/**
+ * ⏱️ 请求截止时间传递配置 (thriving.web.deadline.*)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(WebDeadlineProperties.class)
+@ConditionalOnProperty(prefix = "thriving.web.deadline", name = "enabled", matchIfMissing = true)
+public class WebDeadlineConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestDeadlineFilter>
+        requestDeadlineFilterRegistration(WebDeadlineProperties properties) {
+        FilterRegistrationBean<RequestDeadlineFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new RequestDeadlineFilter(properties));
+        registration.addUrlPatterns("/*");
+        registration.setName("requestDeadlineFilter");
+        // 尽早绑定截止时间，确保后续过滤器中派发的任务同样受约束
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
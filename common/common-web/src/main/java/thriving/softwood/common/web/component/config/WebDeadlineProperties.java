@@ -0,0 +1,32 @@
+package thriving.softwood.common.web.component.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 请求截止时间配置项 (前缀: thriving.web.deadline)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.web.deadline")
+public class WebDeadlineProperties {
+
+    /** 是否开启截止时间传递 */
+    private boolean enabled = true;
+
+    /** 请求未携带截止时间头且未命中 paths 时的默认超时，为空表示不限时 */
+    private Duration defaultTimeout;
+
+    /** 客户端声明的超时上限，防止超长的截止时间绕过服务端保护，为空表示不限制 */
+    private Duration maxTimeout;
+
+    /** 按路径 (Ant 风格) 配置的默认超时，按声明顺序匹配 */
+    private Map<String, Duration> paths = new LinkedHashMap<>();
+}
@@ -0,0 +1,16 @@
+package thriving.softwood.common.web.component.config;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import thriving.softwood.common.web.component.exception.handler.AsyncOverloadExceptionHandler;
+
+/**
+ * Web 统一异常处理配置
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@AutoConfiguration
+@Import(AsyncOverloadExceptionHandler.class)
+public class WebExceptionConfig {}
@@ -0,0 +1,57 @@
+package thriving.softwood.common.web.component.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.NonNull;
+import thriving.softwood.common.web.component.streaming.StreamingResponses;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 🌊 流式响应配置 (thriving.web.streaming.*)
+ * <p>
+ * Spring MVC 默认用 SimpleAsyncTaskExecutor (每个请求一个平台线程) 执行 StreamingResponseBody。thriving.web.streaming.mvc-async
+ * 开启时改为 vtExecutor：写出阻塞在客户端 socket 上时只挂起虚拟线程，同时沿用其链路与截止时间传递。
+ * 该设置与 async-timeout 是 MVC 全局的，会作用于所有异步请求，因此默认关闭。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(WebStreamingProperties.class)
+@ConditionalOnProperty(prefix = "thriving.web.streaming", name = "enabled", matchIfMissing = true)
+public class WebStreamingConfig {
+
+    @Bean
+    public StreamingResponses streamingResponses(ObjectMapper objectMapper, WebStreamingProperties properties,
+        ObjectProvider<MeterRegistry> meterRegistry) {
+        return new StreamingResponses(objectMapper, properties.getFlushEvery(),
+            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "thriving.web.streaming", name = "mvc-async", havingValue = "true")
+    public WebMvcConfigurer streamingAsyncSupportConfigurer(@Qualifier("vtExecutor") Executor vtExecutor,
+        WebStreamingProperties properties) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(@NonNull AsyncSupportConfigurer configurer) {
+                if (vtExecutor instanceof AsyncTaskExecutor asyncTaskExecutor) {
+                    configurer.setTaskExecutor(asyncTaskExecutor);
+                }
+                configurer.setDefaultTimeout(properties.getAsyncTimeout().toMillis());
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package thriving.softwood.common.web.component.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * 流式响应配置项 (前缀: thriving.web.streaming)
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Data
+@ConfigurationProperties(prefix = "thriving.web.streaming")
+public class WebStreamingProperties {
+
+    /** 是否开启流式响应支持 */
+    private boolean enabled = true;
+
+    /**
+     * 是否把 vtExecutor 与 asyncTimeout 设为 Spring MVC 全局的异步执行器与默认超时。默认关闭：该设置同样作用于所有 Callable、
+     * DeferredResult 与 WebAsyncTask，只有整个服务都能接受时才开启
+     */
+    private boolean mvcAsync = false;
+
+    /** mvcAsync 开启时 Spring MVC 异步请求 (含 StreamingResponseBody) 的默认超时时间，导出类请求需要足够长 */
+    private Duration asyncTimeout = Duration.ofMinutes(10);
+
+    /** 每写出多少行主动 flush 一次，让客户端尽早收到数据；其余时间依赖容器的响应缓冲区自动刷出 */
+    private int flushEvery = 256;
+}
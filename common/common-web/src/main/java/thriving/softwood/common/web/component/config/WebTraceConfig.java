@@ -1,13 +1,26 @@
 package thriving.softwood.common.web.component.config;
 
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
 
 import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
 import thriving.softwood.common.web.component.filter.WebTraceFilter;
+import thriving.softwood.common.web.component.tracing.UrlPathReceiverTracingObservationHandler;
 
-@AutoConfiguration
+/**
+ * Web 链路配置：响应头回写 traceId；开启自适应采样时让 HTTP 服务端 Span 在创建时带上 url.path
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-01-26
+ */
+@AutoConfiguration(
+    afterName = "org.springframework.boot.micrometer.tracing.opentelemetry.autoconfigure.OpenTelemetryTracingAutoConfiguration",
+    beforeName = "org.springframework.boot.micrometer.tracing.autoconfigure.MicrometerTracingAutoConfiguration")
 public class WebTraceConfig {
 
     @Bean
@@ -18,4 +31,17 @@ public class WebTraceConfig {
         registration.setName("webTraceResponseFilter");
         return registration;
     }
+
+    /**
+     * 顶替 Spring Boot 默认的接收端处理器 (其 @ConditionalOnMissingBean 随之退让)，供 AdaptiveSampler 按路径分配预算。
+     * 顺序与 MicrometerTracingAutoConfiguration.RECEIVER_TRACING_OBSERVATION_HANDLER_ORDER 一致
+     */
+    @Bean
+    @Order(1000)
+    @ConditionalOnBean(Propagator.class)
+    @ConditionalOnProperty(prefix = "thriving.observability.tracing.adaptive", name = "enabled", havingValue = "true")
+    public UrlPathReceiverTracingObservationHandler urlPathReceiverTracingObservationHandler(Tracer tracer,
+        Propagator propagator) {
+        return new UrlPathReceiverTracingObservationHandler(tracer, propagator);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package thriving.softwood.common.web.component.exception.handler;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import thriving.softwood.common.core.enums.RespCodeEnum;
+import thriving.softwood.common.core.result.Result;
+import thriving.softwood.common.framework.component.exception.AsyncRejectedException;
+import thriving.softwood.common.framework.component.exception.BulkheadFullException;
+
+/**
+ * 🚦 异步过载异常处理
+ * <p>
+ * 将执行器拒绝与舱壁耗尽统一映射为带 Retry-After 的 {@link Result} 响应：
+ * <ul>
+ * <li>按优先级卸载 (SHED) 与舱壁耗尽：429 TOO_MANY_REQUESTS，客户端稍后重试即可</li>
+ * <li>其余执行器拒绝 (含停机中的 SHUTDOWN)：503 SERVICE_UNAVAILABLE，表示当前节点已饱和或不可用</li>
+ * </ul>
+ * Spring 会沿异常的 cause 链匹配处理方法，因此 CompletableFuture.join() 抛出的 CompletionException 同样会被处理。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AsyncOverloadExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncOverloadExceptionHandler.class);
+
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Result<Void>> handleTaskRejected(TaskRejectedException e) {
+        if (e.getCause() instanceof AsyncRejectedException rejected) {
+            RespCodeEnum code =
+                rejected.getReason() == AsyncRejectedException.Reason.SHED ? RespCodeEnum.TOO_MANY_REQUESTS
+                    : RespCodeEnum.SERVICE_UNAVAILABLE;
+            return overloaded(code, rejected, rejected.getRetryAfter());
+        }
+        return overloaded(RespCodeEnum.SERVICE_UNAVAILABLE, e, DEFAULT_RETRY_AFTER);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Result<Void>> handleBulkheadFull(BulkheadFullException e) {
+        return overloaded(RespCodeEnum.TOO_MANY_REQUESTS, e, e.getAcquireTimeout());
+    }
+
+    private static ResponseEntity<Result<Void>> overloaded(RespCodeEnum code, Throwable e, Duration retryAfter) {
+        logger.warn("🚦 Request shed: {} ({})", code.enDesc(), e.getMessage());
+        // Retry-After 以秒为单位，向上取整且至少为 1
+        long retryAfterMs = (retryAfter != null ? retryAfter : DEFAULT_RETRY_AFTER).toMillis();
+        long seconds = Math.max(1, (retryAfterMs + 999) / 1000);
+        return ResponseEntity.status(code.code()).header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+            .body(Result.error(code, e));
+    }
+}
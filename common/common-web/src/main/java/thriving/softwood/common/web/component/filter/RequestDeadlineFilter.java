@@ -0,0 +1,96 @@
+package thriving.softwood.common.web.component.filter;
+
+import static thriving.softwood.common.core.constant.WebKeyConstant.Headers.X_REQUEST_DEADLINE;
+import static thriving.softwood.common.core.constant.WebKeyConstant.Headers.X_REQUEST_TIMEOUT;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import thriving.softwood.common.framework.component.context.AsyncRequestContext;
+import thriving.softwood.common.web.component.config.WebDeadlineProperties;
+
+/**
+ * ⏱️ 请求截止时间过滤器
+ * <p>
+ * 截止时间来源的优先级：X-Request-Deadline (绝对时间戳) > X-Request-Timeout (相对毫秒) > paths 中的路径默认值 > defaultTimeout。
+ * 解析出的截止时间以 {@link AsyncRequestContext} 的形式绑定到请求线程，并随链路传递到后续所有异步任务；没有截止时间的请求绑定不限时的上下文。
+ * 请求结束时释放上下文上的请求级状态 (备忘录)。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestDeadlineFilter.class);
+
+    private final WebDeadlineProperties properties;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RequestDeadlineFilter(WebDeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        Duration timeout = resolveTimeout(request);
+        // 未配置截止时间的请求同样创建上下文，用于承载请求级备忘录等状态
+        AsyncRequestContext context =
+            timeout != null ? AsyncRequestContext.withTimeout(timeout) : AsyncRequestContext.unbounded();
+        try (AsyncRequestContext.Scope rs = AsyncRequestContext.attach(context)) {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 根请求结束，释放请求级状态；仍在运行的异步任务不再读写备忘录
+            context.release();
+        }
+    }
+
+    private Duration resolveTimeout(HttpServletRequest request) {
+        Duration timeout = fromHeaders(request);
+        if (timeout == null) {
+            timeout = fromPath(request.getRequestURI().substring(request.getContextPath().length()));
+        }
+        if (timeout != null && properties.getMaxTimeout() != null && timeout.compareTo(properties.getMaxTimeout()) > 0) {
+            timeout = properties.getMaxTimeout();
+        }
+        return timeout;
+    }
+
+    private Duration fromHeaders(HttpServletRequest request) {
+        try {
+            String deadline = request.getHeader(X_REQUEST_DEADLINE);
+            if (deadline != null && !deadline.isBlank()) {
+                return Duration.ofMillis(Long.parseLong(deadline.trim()) - System.currentTimeMillis());
+            }
+            String timeout = request.getHeader(X_REQUEST_TIMEOUT);
+            if (timeout != null && !timeout.isBlank()) {
+                return Duration.ofMillis(Long.parseLong(timeout.trim()));
+            }
+        } catch (NumberFormatException e) {
+            // 非法的头不应导致请求失败，回退到服务端默认值
+            logger.debug("Ignore malformed deadline header: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private Duration fromPath(String path) {
+        for (Map.Entry<String, Duration> entry : properties.getPaths().entrySet()) {
+            if (pathMatcher.match(entry.getKey(), path)) {
+                return entry.getValue();
+            }
+        }
+        return properties.getDefaultTimeout();
+    }
+}
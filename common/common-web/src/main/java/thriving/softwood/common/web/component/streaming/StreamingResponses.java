@@ -0,0 +1,173 @@
+package thriving.softwood.common.web.component.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * 🌊 流式响应工具：把 {@link Stream} 逐行序列化写入响应体，不在内存中拼装完整的 List / {@link thriving.softwood.common.core.result.Result}
+ * <p>
+ * 用法：Controller 直接返回本类构造的 {@code ResponseEntity<StreamingResponseBody>}，
+ * <ul>
+ * <li>数据源以 {@link Supplier} 传入，在 MVC 异步线程 (vtExecutor) 中才真正打开，打开与遍历在同一个线程上</li>
+ * <li>每行经 mapper 转换为 VO 后立即写出，写完即可被回收，内存占用与结果集大小无关</li>
+ * <li>写入阻塞在客户端 socket 上时，读取也随之暂停 (背压)，虚拟线程挂起不占用载体线程</li>
+ * <li>写完、出错或客户端中途断开时关闭 Stream (经 onClose 释放游标与连接)，断开时记录 http.streaming.aborted</li>
+ * </ul>
+ * MyBatis {@code Cursor} 依赖打开的 SqlSession (及其连接与事务)，必须在 supplier 中打开，并在 onClose 中随流一起关闭：
+ *
+ * <pre>
+ * return streamingResponses.ndjson(() -&gt; {
+ *     SqlSession session = sqlSessionFactory.openSession();
+ *     try {
+ *         Cursor&lt;User&gt; cursor = session.getMapper(UserMapper.class).streamByCondition(query);
+ *         // 关闭会话时 MyBatis 一并关闭由它打开的游标
+ *         return StreamSupport.stream(cursor.spliterator(), false).onClose(session::close);
+ *     } catch (RuntimeException e) {
+ *         session.close();
+ *         throw e;
+ *     }
+ * }, converter::toVO);
+ * </pre>
+ *
+ * Mapper 由 mybatis-spring 管理时 SqlSession 绑定在 Spring 事务上：在 supplier 中通过 PlatformTransactionManager#getTransaction
+ * 开启只读事务，在 onClose 中 commit。TransactionTemplate#execute 在返回 Stream 之前就会结束事务，不能用在这里。
+ * <p>
+ * 输出格式：NDJSON (每行一个 JSON 对象，application/x-ndjson) 或分块输出的 JSON 数组 (application/json)。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class StreamingResponses {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingResponses.class);
+
+    private static final byte[] NEWLINE = {'\n'};
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_SEPARATOR = {','};
+    private static final byte[] ARRAY_END = {']'};
+
+    /**
+     * 输出格式
+     */
+    public enum Format {
+        /** 每行一个 JSON 对象 */
+        NDJSON(MediaType.APPLICATION_NDJSON),
+        /** 标准 JSON 数组，逐元素写出 */
+        JSON_ARRAY(MediaType.APPLICATION_JSON);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+    }
+
+    private final ObjectWriter writer;
+
+    private final int flushEvery;
+
+    private final MeterRegistry registry;
+
+    public StreamingResponses(ObjectMapper objectMapper, int flushEvery, MeterRegistry registry) {
+        this.writer = objectMapper.writer();
+        this.flushEvery = Math.max(1, flushEvery);
+        this.registry = registry;
+    }
+
+    /**
+     * 以 NDJSON 输出
+     */
+    public <T> ResponseEntity<StreamingResponseBody> ndjson(Supplier<? extends Stream<? extends T>> source) {
+        return stream(Format.NDJSON, source, Function.identity());
+    }
+
+    /**
+     * 以 NDJSON 输出，逐行经 mapper 转换
+     */
+    public <E, V> ResponseEntity<StreamingResponseBody> ndjson(Supplier<? extends Stream<? extends E>> source,
+        Function<? super E, ? extends V> mapper) {
+        return stream(Format.NDJSON, source, mapper);
+    }
+
+    /**
+     * 以 JSON 数组输出
+     */
+    public <T> ResponseEntity<StreamingResponseBody> jsonArray(Supplier<? extends Stream<? extends T>> source) {
+        return stream(Format.JSON_ARRAY, source, Function.identity());
+    }
+
+    /**
+     * 以 JSON 数组输出，逐行经 mapper 转换
+     */
+    public <E, V> ResponseEntity<StreamingResponseBody> jsonArray(Supplier<? extends Stream<? extends E>> source,
+        Function<? super E, ? extends V> mapper) {
+        return stream(Format.JSON_ARRAY, source, mapper);
+    }
+
+    /**
+     * @param format 输出格式
+     * @param source 数据源，在写出线程中打开，写完或出错后关闭
+     * @param mapper 行映射 (实体 -> VO)
+     */
+    public <E, V> ResponseEntity<StreamingResponseBody> stream(Format format,
+        Supplier<? extends Stream<? extends E>> source, Function<? super E, ? extends V> mapper) {
+        String tag = format.name().toLowerCase();
+        Counter rows = Counter.builder("http.streaming.rows").description("流式响应写出的行数").tag("format", tag)
+            .register(registry);
+        Counter aborted = Counter.builder("http.streaming.aborted").description("客户端中途断开的流式响应数")
+            .tag("format", tag).register(registry);
+
+        StreamingResponseBody body = out -> {
+            long written = 0;
+            try (Stream<? extends E> stream = source.get()) {
+                if (format == Format.JSON_ARRAY) {
+                    out.write(ARRAY_START);
+                }
+                Iterator<? extends E> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    if (format == Format.JSON_ARRAY && written > 0) {
+                        out.write(ARRAY_SEPARATOR);
+                    }
+                    writeRow(out, mapper.apply(iterator.next()));
+                    if (format == Format.NDJSON) {
+                        out.write(NEWLINE);
+                    }
+                    if (++written % flushEvery == 0) {
+                        out.flush();
+                    }
+                }
+                if (format == Format.JSON_ARRAY) {
+                    out.write(ARRAY_END);
+                }
+                out.flush();
+            } catch (IOException e) {
+                aborted.increment();
+                logger.debug("🌊 Streaming response aborted after {} rows: {}", written, e.getMessage());
+                throw e;
+            } finally {
+                rows.increment(written);
+            }
+        };
+        return ResponseEntity.ok().contentType(format.mediaType).body(body);
+    }
+
+    private void writeRow(OutputStream out, Object row) throws IOException {
+        // 单行序列化为字节数组后写出，避免 ObjectWriter 在写完后关闭底层输出流
+        out.write(writer.writeValueAsBytes(row));
+    }
+}
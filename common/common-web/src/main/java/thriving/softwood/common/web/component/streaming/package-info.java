@@ -0,0 +1,5 @@
+/**
+ * 流式响应：大结果集逐行写出 (NDJSON / JSON 数组)，内存占用与结果集大小无关
+ */
+
+package thriving.softwood.common.web.component.streaming;
\ No newline at end of file
@@ -0,0 +1,38 @@
+package thriving.softwood.common.web.component.tracing;
+
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.propagation.Propagator;
+
+/**
+ * 🧭 在 HTTP 服务端 Span 创建前写入 {@code url.path} 属性，使 Sampler 在采样时就能看到请求路径
+ * <p>
+ * Micrometer Observation 的服务端 Span 创建时名称只有 {@code http get}，标签在请求结束时才写入，Sampler 拿不到路径，
+ * AdaptiveSampler 的按路径预算 (thriving.observability.tracing.adaptive.endpoints) 因此无法匹配。本处理器顶替 Spring Boot 默认的
+ * {@link PropagatingReceiverTracingObservationHandler}，在 {@code start()} 之前把 {@code HttpServletRequest#getRequestURI()}
+ * 作为 Span 属性写入构建器，其余行为不变。非 HTTP 的接收端 (消息消费等) 不受影响。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class UrlPathReceiverTracingObservationHandler
+    extends PropagatingReceiverTracingObservationHandler<ReceiverContext<?>> {
+
+    static final String URL_PATH = "url.path";
+
+    public UrlPathReceiverTracingObservationHandler(Tracer tracer, Propagator propagator) {
+        super(tracer, propagator);
+    }
+
+    @Override
+    public Span.Builder customizeExtractedSpan(ReceiverContext<?> context, Span.Builder builder) {
+        if (context instanceof ServerRequestObservationContext server && server.getCarrier() != null) {
+            builder.tag(URL_PATH, server.getCarrier().getRequestURI());
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * 链路埋点扩展
+ */
+
+package thriving.softwood.common.web.component.tracing;
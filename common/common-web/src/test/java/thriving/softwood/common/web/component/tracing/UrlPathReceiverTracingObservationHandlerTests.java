@@ -0,0 +1,98 @@
+package thriving.softwood.common.web.component.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+class UrlPathReceiverTracingObservationHandlerTests {
+
+    private static final AttributeKey<String> URL_PATH =
+        AttributeKey.stringKey(UrlPathReceiverTracingObservationHandler.URL_PATH);
+
+    /** 采样时看到的属性 */
+    private final List<Attributes> sampled = new CopyOnWriteArrayList<>();
+
+    private final SdkTracerProvider tracerProvider =
+        SdkTracerProvider.builder().setSampler(new RecordingSampler(sampled)).build();
+
+    private final UrlPathReceiverTracingObservationHandler handler = handler();
+
+    @AfterEach
+    void close() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void urlPathIsVisibleToTheSamplerAtSpanStart() {
+        ServerRequestObservationContext context = new ServerRequestObservationContext(
+            new MockHttpServletRequest("GET", "/sample/chain"), new MockHttpServletResponse());
+        context.setName("http.server.requests");
+
+        handler.onStart(context);
+        handler.getRequiredSpan(context).end();
+
+        assertThat(sampled).singleElement()
+            .satisfies(attributes -> assertThat(attributes.get(URL_PATH)).isEqualTo("/sample/chain"));
+    }
+
+    @Test
+    void nonHttpReceiversAreLeftUntouched() {
+        ReceiverContext<Object> context = new ReceiverContext<>((carrier, key) -> null);
+        context.setCarrier(new Object());
+        context.setName("queue.receive");
+
+        handler.onStart(context);
+        handler.getRequiredSpan(context).end();
+
+        assertThat(sampled).singleElement()
+            .satisfies(attributes -> assertThat(attributes.get(URL_PATH)).isNull());
+    }
+
+    private UrlPathReceiverTracingObservationHandler handler() {
+        io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("test");
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        OtelTracer tracer = new OtelTracer(otelTracer, currentTraceContext, event -> {},
+            new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+        OtelPropagator propagator =
+            new OtelPropagator(ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer);
+        return new UrlPathReceiverTracingObservationHandler(tracer, propagator);
+    }
+
+    private record RecordingSampler(List<Attributes> sampled) implements Sampler {
+
+        @Override
+        public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+            Attributes attributes, List<LinkData> parentLinks) {
+            sampled.add(attributes);
+            return SamplingResult.recordAndSample();
+        }
+
+        @Override
+        public String getDescription() {
+            return "RecordingSampler";
+        }
+    }
+}
@@ -19,7 +19,12 @@ public interface AncestorAsyncApi {
     CompletableFuture<String> fetchRemoteConfig(String configKey);
 
     /**
-     * 🧱 模拟 CPU 密集型任务 (使用平台线程 PT) 场景：数据计算、图片压缩、复杂逻辑处理
+     * 🛬 模拟实时库存查询 (不可缓存)，相同 sku 的并发调用合并为一次
+     */
+    CompletableFuture<Integer> fetchStockLevel(String sku);
+
+    /**
+     * 🍴 模拟可拆分的 CPU 密集型任务 (使用 Fork/Join 线程池 FJ) 场景：数据计算、图片压缩、复杂逻辑处理
      */
     void performHeavyCalculation(int seed);
 
@@ -78,4 +83,12 @@ public interface AncestorAsyncApi {
      * @return 任务结果
      */
     CompletableFuture<String> nestedIoTask(String parentPayload);
+
+    /**
+     * 基于结构化并发的扇出/扇入调用链：任一分支失败或超时都会取消其余分支
+     *
+     * @param timeoutMs 整体截止时间 (ms)
+     * @return 聚合后的结果
+     */
+    ComplexTraceVO startStructuredChain(long timeoutMs);
 }
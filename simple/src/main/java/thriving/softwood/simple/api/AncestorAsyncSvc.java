@@ -1,8 +1,11 @@
 package thriving.softwood.simple.api;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.StructuredTaskScope.Subtask;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -12,8 +15,16 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.tracing.Tracer;
+import thriving.softwood.common.framework.annotation.async.FjAsync;
 import thriving.softwood.common.framework.annotation.async.PtAsync;
+import thriving.softwood.common.framework.annotation.async.SingleFlight;
 import thriving.softwood.common.framework.annotation.async.VtAsync;
+import thriving.softwood.common.framework.annotation.cache.AsyncCacheable;
+import thriving.softwood.common.framework.component.concurrent.FanOutScope;
+import thriving.softwood.common.framework.component.concurrent.ForkJoinComputer;
+import thriving.softwood.common.framework.component.concurrent.SplittableTask;
+import thriving.softwood.common.framework.component.concurrent.StructuredFanOut;
+import thriving.softwood.common.framework.component.concurrent.ThreadMode;
 import thriving.softwood.simple.pojo.vo.AncestorVO;
 import thriving.softwood.simple.pojo.vo.ComplexTraceVO;
 
@@ -30,6 +41,10 @@ public class AncestorAsyncSvc implements AncestorAsyncApi {
 
     private final Tracer tracer;
 
+    private final StructuredFanOut structuredFanOut;
+
+    private final ForkJoinComputer forkJoinComputer;
+
     /**
      * 注入自身代理，解决类内部调用 @Async 失效的问题
      */
@@ -42,16 +57,21 @@ public class AncestorAsyncSvc implements AncestorAsyncApi {
     }
 
     @Autowired
-    public AncestorAsyncSvc(Tracer tracer) {
+    public AncestorAsyncSvc(Tracer tracer, StructuredFanOut structuredFanOut, ForkJoinComputer forkJoinComputer) {
         this.tracer = tracer;
+        this.structuredFanOut = structuredFanOut;
+        this.forkJoinComputer = forkJoinComputer;
         self = this;
     }
 
     /**
      * 🚀 模拟 I/O 密集型任务 (使用虚拟线程 VT) 场景：调用第三方接口、查询数据库、读取文件
+     * <p>
+     * 结果经 {@link AsyncCacheable} 缓存并在后台提前刷新，未命中时由同名缓存的加载合并并发调用
      */
     @Override
-    @VtAsync
+    @VtAsync(bulkhead = "remote-config", maxConcurrent = 50, acquireTimeoutMs = 500)
+    @AsyncCacheable("remote-config")
     public CompletableFuture<String> fetchRemoteConfig(String configKey) {
         logger.info("开始获取远程配置, Key: {}", configKey);
 
@@ -70,19 +90,37 @@ public class AncestorAsyncSvc implements AncestorAsyncApi {
     }
 
     /**
-     * 🧱 模拟 CPU 密集型任务 (使用平台线程 PT) 场景：数据计算、图片压缩、复杂逻辑处理
+     * 🛬 模拟实时库存查询 (不可缓存)：同一时刻相同 sku 的并发调用经 {@link SingleFlight} 合并为一次下游调用
      */
     @Override
-    @PtAsync
+    @VtAsync(bulkhead = "inventory")
+    @SingleFlight
+    public CompletableFuture<Integer> fetchStockLevel(String sku) {
+        logger.info("开始查询实时库存, SKU: {}", sku);
+
+        try {
+            // 模拟下游库存服务耗时 300 毫秒
+            TimeUnit.MILLISECONDS.sleep(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int stock = Math.floorMod(sku.hashCode(), 1000);
+        logger.info("实时库存查询完成, SKU: {}, 库存: {}", sku, stock);
+        return CompletableFuture.completedFuture(stock);
+    }
+
+    /**
+     * 🍴 模拟可拆分的 CPU 密集型任务 (使用 Fork/Join 线程池 FJ) 场景：数据计算、图片压缩、复杂逻辑处理
+     */
+    @Override
+    @FjAsync
     public void performHeavyCalculation(int seed) {
         logger.info("开始进行重度计算, Seed: {}", seed);
 
         long start = System.currentTimeMillis();
-        // 模拟 CPU 耗时操作：循环计算哈希或大数运算
-        long sum = 0;
-        for (int i = 0; i < 100_000_000; i++) {
-            sum += (long)i * seed;
-        }
+        // 模拟 CPU 耗时操作：1 亿次循环拆分为多个区间，由工作窃取分摊到所有核心
+        long sum = forkJoinComputer.invoke(new WeightedRangeSum(0, 100_000_000, seed));
 
         long duration = System.currentTimeMillis() - start;
         logger.info("重度计算完成, 耗时: {}ms, 结果摘要: {}", duration, sum);
@@ -147,7 +185,7 @@ public class AncestorAsyncSvc implements AncestorAsyncApi {
     }
 
     @Override
-    @VtAsync // 使用虚拟线程池
+    @VtAsync(bulkhead = "db") // 使用虚拟线程池，并通过 db 舱壁限制并发写库数
     public CompletableFuture<String> processIoTask(String payload) {
         logger.info("🟣 [3. Virtual Thread] 开始执行 IO 操作 (查库/RPC)... Thread: {}", Thread.currentThread().getName());
 
@@ -244,4 +282,91 @@ public class AncestorAsyncSvc implements AncestorAsyncApi {
         logger.info("🔵 [4. Nested Virtual Thread] 嵌套 IO 任务完成.");
         return CompletableFuture.completedFuture("Nested IO OK");
     }
+
+    // ==========================================================
+    // 结构化并发链路测试实现
+    // ==========================================================
+
+    @Override
+    public ComplexTraceVO startStructuredChain(long timeoutMs) {
+        long startTime = System.currentTimeMillis();
+        logger.info("🟢 [1. Main Thread] 收到结构化并发请求, 截止时间 {}ms.", timeoutMs);
+
+        String cpuResult, ioResult;
+        try (FanOutScope scope = structuredFanOut.open(ThreadMode.VIRTUAL, Duration.ofMillis(timeoutMs))) {
+            // --- Fan-out ---
+            Subtask<String> cpuBranch = scope.fork("structured-cpu", () -> {
+                TimeUnit.MILLISECONDS.sleep(50); // 模拟计算
+                logger.info("🟡 [2. Structured Subtask] CPU 分支完成.");
+                return "CPU Branch OK";
+            });
+            Subtask<String> ioBranch = scope.fork("structured-io", () -> {
+                TimeUnit.MILLISECONDS.sleep(100); // 模拟 IO
+                logger.info("🟣 [2. Structured Subtask] IO 分支完成.");
+                return "IO Branch OK";
+            });
+
+            // --- Fan-in ---
+            // 任一分支失败或超时都会在这里抛出，且其余分支已被取消
+            scope.join();
+            cpuResult = cpuBranch.get();
+            ioResult = ioBranch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cpuResult = "Interrupted";
+            ioResult = "Interrupted";
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        String traceId =
+            tracer.currentSpan() != null ? Objects.requireNonNull(tracer.currentSpan()).context().traceId() : "N/A";
+
+        logger.info("✅ [1. Main Thread] 结构化并发分支全部完成. Duration: {}ms", duration);
+
+        return ComplexTraceVO.builder().traceId(traceId).finalMessage("All structured branches completed.")
+            .cpuTaskResult(cpuResult).ioTaskResult(ioResult).durationMs(duration).build();
+    }
+
+    /**
+     * 区间加权求和：sum(i * seed), i ∈ [from, to)
+     */
+    private static final class WeightedRangeSum extends SplittableTask<Long> {
+
+        private static final int THRESHOLD = 1_000_000;
+
+        private final int from;
+        private final int to;
+        private final int seed;
+
+        private WeightedRangeSum(int from, int to, int seed) {
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+        }
+
+        @Override
+        protected boolean isSmallEnough() {
+            return to - from <= THRESHOLD;
+        }
+
+        @Override
+        protected Long computeDirectly() {
+            long sum = 0;
+            for (int i = from; i < to; i++) {
+                sum += (long)i * seed;
+            }
+            return sum;
+        }
+
+        @Override
+        protected List<WeightedRangeSum> split() {
+            int mid = (from + to) >>> 1;
+            return List.of(new WeightedRangeSum(from, mid, seed), new WeightedRangeSum(mid, to, seed));
+        }
+
+        @Override
+        protected Long combine(List<Long> results) {
+            return results.stream().mapToLong(Long::longValue).sum();
+        }
+    }
 }
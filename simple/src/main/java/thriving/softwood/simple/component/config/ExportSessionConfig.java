@@ -0,0 +1,37 @@
+package thriving.softwood.simple.component.config;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import thriving.softwood.simple.mapper.ExportMapper;
+
+/**
+ * 流式导出示例的 SqlSessionFactory：H2 内存库 + MyBatis 游标
+ * <p>
+ * 数据源只在 SqlSessionFactory 内部使用，不注册为 DataSource Bean，不触发连接闸门、读写分离等数据源相关配置。
+ * 容器中的 MyBatis 插件 (如 SqlShapeCacheInterceptor) 手动注册到本工厂。
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@Configuration
+public class ExportSessionConfig {
+
+    @Bean
+    public SqlSessionFactory exportSqlSessionFactory(ObjectProvider<Interceptor> interceptors) {
+        UnpooledDataSource dataSource =
+            new UnpooledDataSource("org.h2.Driver", "jdbc:h2:mem:export;DB_CLOSE_DELAY=-1", "sa", "");
+        org.apache.ibatis.session.Configuration configuration = new org.apache.ibatis.session.Configuration(
+            new Environment("export", new JdbcTransactionFactory(), dataSource));
+        interceptors.orderedStream().forEach(configuration::addInterceptor);
+        configuration.addMapper(ExportMapper.class);
+        return new SqlSessionFactoryBuilder().build(configuration);
+    }
+}
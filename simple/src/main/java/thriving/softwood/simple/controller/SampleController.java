@@ -1,16 +1,29 @@
 package thriving.softwood.simple.controller;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import thriving.softwood.common.core.result.Result;
+import thriving.softwood.common.web.component.streaming.StreamingResponses;
 import thriving.softwood.simple.api.AncestorAsyncApi;
 import thriving.softwood.simple.component.config.Sample;
+import thriving.softwood.simple.mapper.ExportMapper;
 import thriving.softwood.simple.pojo.vo.AncestorVO;
 import thriving.softwood.simple.pojo.vo.ComplexTraceVO;
 
@@ -36,10 +49,18 @@ public class SampleController {
     // 多线程注解使用示例
     AncestorAsyncApi ancestorAsyncApi;
 
+    // 流式导出
+    StreamingResponses streamingResponses;
+
+    SqlSessionFactory exportSqlSessionFactory;
+
     @Autowired
-    public SampleController(Sample sample, AncestorAsyncApi ancestorAsyncApi) {
+    public SampleController(Sample sample, AncestorAsyncApi ancestorAsyncApi, StreamingResponses streamingResponses,
+        SqlSessionFactory exportSqlSessionFactory) {
         this.sample = sample;
         this.ancestorAsyncApi = ancestorAsyncApi;
+        this.streamingResponses = streamingResponses;
+        this.exportSqlSessionFactory = exportSqlSessionFactory;
     }
 
     @RequestMapping("/sample01")
@@ -59,7 +80,7 @@ public class SampleController {
         ancestorAsyncApi.fetchRemoteConfig("order-timeout-setting")
             .thenAccept(val -> logger.info("回调处理: 最终拿到的配置是 {}", val));
 
-        // 2. 调用 PT 异步任务 (无返回值)
+        // 2. 调用 FJ 异步任务 (@FjAsync，Fork/Join 池，无返回值)
         ancestorAsyncApi.performHeavyCalculation(88);
 
         // 3. 触发一个必然报错的任务
@@ -69,6 +90,19 @@ public class SampleController {
         return Result.success("请求已受理，请查看后台控制台日志。");
     }
 
+    /**
+     * 单飞合并示例 GET /sample/single-flight?sku=A100&callers=8
+     * <p>
+     * 同时发起 callers 次相同查询，日志中只会出现一次「开始查询实时库存」
+     */
+    @RequestMapping("/single-flight")
+    public Result<List<Integer>> singleFlight(@RequestParam(defaultValue = "A100") String sku,
+        @RequestParam(defaultValue = "8") int callers) {
+        List<CompletableFuture<Integer>> futures =
+            IntStream.range(0, callers).mapToObj(i -> ancestorAsyncApi.fetchStockLevel(sku)).toList();
+        return Result.success(futures.stream().map(CompletableFuture::join).toList());
+    }
+
     /**
      * 触发多层级线程调用链 GET /simple/chain?msg=hello
      */
@@ -86,4 +120,40 @@ public class SampleController {
     public ComplexTraceVO triggerComplexChain() {
         return ancestorAsyncApi.startComplexChain();
     }
+
+    /**
+     * 触发结构化并发扇出/扇入调用链 GET /simple/structured-chain?timeoutMs=2000
+     */
+    @RequestMapping("/structured-chain")
+    public ComplexTraceVO triggerStructuredChain(@RequestParam(defaultValue = "2000") long timeoutMs) {
+        return ancestorAsyncApi.startStructuredChain(timeoutMs);
+    }
+
+    /**
+     * 流式导出示例 GET /sample/export?rows=100000&format=ndjson
+     * <p>
+     * 通过 MyBatis Cursor 从 H2 逐行读取，逐行映射为 VO 后写出，内存占用与 rows 无关
+     */
+    @RequestMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "100000") long rows,
+        @RequestParam(defaultValue = "ndjson") String format) {
+        StreamingResponses.Format outputFormat =
+            "array".equalsIgnoreCase(format) ? StreamingResponses.Format.JSON_ARRAY : StreamingResponses.Format.NDJSON;
+        return streamingResponses.stream(outputFormat, () -> openIdCursor(rows),
+            id -> AncestorVO.builder().message("row-" + id).timestamp(System.currentTimeMillis()).build());
+    }
+
+    /**
+     * 在写出线程上打开 SqlSession 与游标，整个流式写出期间保持打开；流关闭 (写完、出错或客户端断开) 时关闭会话，游标随之关闭
+     */
+    private Stream<Long> openIdCursor(long rows) {
+        SqlSession session = exportSqlSessionFactory.openSession();
+        try {
+            Cursor<Long> cursor = session.getMapper(ExportMapper.class).streamIds(rows);
+            return StreamSupport.stream(cursor.spliterator(), false).onClose(session::close);
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
 }
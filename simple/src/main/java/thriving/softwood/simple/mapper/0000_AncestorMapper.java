@@ -254,6 +254,58 @@ package thriving.softwood.simple.mapper;
  *        </include>
  *    </select>
  *
+ *    <!- - ========================================================= - ->
+ *    <!- - 10. Cursor (流式查询 - 大结果集导出)                       - ->
+ *    <!- - ========================================================= - ->
+ *
+ *    <!- -
+ *        场景：导出几十万行数据，返回 List<User> 会把整个结果集堆在内存里。
+ *        Mapper 接口方法返回 org.apache.ibatis.cursor.Cursor<User>，逐行从 JDBC ResultSet 中取数：
+ *            Cursor<User> streamByCondition(UserQuery query);
+ *        fetchSize：
+ *            PostgreSQL 必须在事务内 (autoCommit=false) 且 fetchSize > 0 才会分批拉取；
+ *            MySQL 需要 fetchSize="-2147483648" (Integer.MIN_VALUE) 或 URL 上 useCursorFetch=true。
+ *        Cursor 依赖打开的 SqlSession，必须在同一个事务/线程内遍历并关闭，
+ *        配合 common-web 的 StreamingResponses 逐行映射为 VO 写出 NDJSON，内存占用与结果集大小无关。
+ *    - ->
+ *    <select id="streamByCondition" resultType="User" fetchSize="1000" resultSetType="FORWARD_ONLY">
+ *        SELECT <include refid="Base_Column_List"/>
+ *        FROM t_user
+ *        <where>
+ *            <include refid="Common_Where_Clause"/>
+ *        </where>
+ *        ORDER BY id
+ *    </select>
+ *
+ *    <!- - ========================================================= - ->
+ *    <!- - 11. Keyset 分页 (seek - 深分页代价恒定)                    - ->
+ *    <!- - ========================================================= - ->
+ *
+ *    <!- -
+ *        场景：PageHelper / LIMIT offset, size 翻到第 N 页时，数据库要先扫描并丢弃前 offset 行。
+ *        keyset 分页改为「从上一页最后一行之后继续取」，走 (create_time, id) 联合索引，任意深度的单页代价相同。
+ *        Java 侧 (common-core thriving.softwood.common.core.page)：
+ *            KeysetSeek seek = KeysetSeek.of(Column.desc("create_time"), Column.desc("id"));
+ *            KeysetCursor cursor = KeysetCursor.decode(token, seek);          // 第一页为 null
+ *            List<User> rows = mapper.selectPageAfter(cursor, size + 1);       // 多查一行判断 hasMore
+ *            CursorPage<UserVO> page = CursorPage.of(rows, size, seek,
+ *                u -> List.of(u.getCreateTime(), u.getId())).map(converter::toVO);
+ *        下面的谓词即 seek.predicate("cursor") 生成的内容；@SelectProvider 中可直接拼接该方法的返回值。
+ *        注意：排序列必须非空，最后一列必须唯一；不能与 PageHelper.startPage 同时使用。
+ *    - ->
+ *    <select id="selectPageAfter" resultType="User">
+ *        SELECT <include refid="Base_Column_List"/>
+ *        FROM t_user
+ *        <where>
+ *            <if test="cursor != null">
+ *                ((create_time &lt; #{cursor.values[0]})
+ *                OR (create_time = #{cursor.values[0]} AND id &lt; #{cursor.values[1]}))
+ *            </if>
+ *        </where>
+ *        ORDER BY create_time DESC, id DESC
+ *        LIMIT #{limit}
+ *    </select>
+ *
  *</mapper>
  * @formatter:on
  */
\ No newline at end of file
@@ -0,0 +1,22 @@
+package thriving.softwood.simple.mapper;
+
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
+
+/**
+ * 🌊 流式导出示例 Mapper：返回 {@link Cursor}，逐行从 JDBC ResultSet 中取数
+ * <p>
+ * 使用 H2 的 SYSTEM_RANGE 生成序号，无需建表。Cursor 依赖打开的 SqlSession，用法见 SampleController#export
+ *
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public interface ExportMapper {
+
+    @Select("SELECT X FROM SYSTEM_RANGE(1, #{rows})")
+    @Options(fetchSize = 1000, resultSetType = ResultSetType.FORWARD_ONLY)
+    Cursor<Long> streamIds(@Param("rows") long rows);
+}
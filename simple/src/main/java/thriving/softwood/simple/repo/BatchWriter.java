@@ -0,0 +1,22 @@
+package thriving.softwood.simple.repo;
+
+import java.util.List;
+
+/**
+ * 批量写入器：由 {@link WriteBehindBuffer} 的刷写线程调用，一次写入一批记录
+ *
+ * @param <T> 记录类型
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface BatchWriter<T> {
+
+    /**
+     * 持久化一批记录。正常返回即视为整批已落库 (事务已提交)，抛出异常则整批失败
+     *
+     * @param batch 本批记录，按提交顺序排列，不为空
+     * @throws Exception 写入失败
+     */
+    void write(List<T> batch) throws Exception;
+}
@@ -0,0 +1,68 @@
+package thriving.softwood.simple.repo;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+/**
+ * 🗄️ 基于 JDBC batch 的 {@link BatchWriter}
+ * <p>
+ * 一批记录复用同一个 {@link PreparedStatement}，通过 addBatch/executeBatch 一次往返提交，并在单个事务内完成： 提交成功才算落库，任一行失败则整批回滚。
+ * MySQL 需在 URL 上开启 {@code rewriteBatchedStatements=true} 才会把批量 INSERT 改写为多值语句。
+ *
+ * @param <T> 记录类型
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class JdbcBatchWriter<T> implements BatchWriter<T> {
+
+    /**
+     * 将一条记录绑定到 {@link PreparedStatement} 的占位符上
+     */
+    @FunctionalInterface
+    public interface ParameterBinder<T> {
+
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    private final DataSource dataSource;
+
+    private final String sql;
+
+    private final ParameterBinder<? super T> binder;
+
+    /**
+     * @param dataSource 数据源
+     * @param sql 单行写入语句，例如 {@code INSERT INTO t_user (username, age) VALUES (?, ?)}
+     * @param binder 参数绑定
+     */
+    public JdbcBatchWriter(DataSource dataSource, String sql, ParameterBinder<? super T> binder) {
+        this.dataSource = dataSource;
+        this.sql = sql;
+        this.binder = binder;
+    }
+
+    @Override
+    public void write(List<T> batch) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (T row : batch) {
+                    binder.bind(statement, row);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+}
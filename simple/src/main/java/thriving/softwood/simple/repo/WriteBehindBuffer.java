@@ -0,0 +1,216 @@
+package thriving.softwood.simple.repo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import thriving.softwood.common.framework.component.exception.AsyncRejectedException;
+
+/**
+ * ✍️ 写后缓冲 (write-behind)：把大量虚拟线程的单行写入合并为批量写入
+ * <p>
+ * 每个 @VtAsync 任务各自写一行时，每一行都是一次独立的 JDBC 往返 + 事务提交。本组件在内存中维护一个有界队列，由单个刷写线程按
+ * 「攒满 maxBatchSize 条」或「最早一条已等待 flushInterval」两个条件之一触发，调用 {@link BatchWriter} 一次性写入整批：
+ * <ul>
+ * <li>内存有界：队列容量固定为 capacity，满时 {@link #write(Object)} 阻塞调用方最多 offerTimeout (对虚拟线程只是挂起)， 仍无空位则抛出
+ * {@link TaskRejectedException}，由 common-web 映射为 503 + Retry-After</li>
+ * <li>持久化确认：每次写入返回一个 {@link CompletableFuture}，仅在所在批次提交成功后完成；批次失败则整批以同一异常失败</li>
+ * <li>关闭时先停止接收新写入，再把队列中剩余的记录全部刷完</li>
+ * </ul>
+ * future 在刷写线程上完成，调用方应使用 join() 或 *Async 回调，避免把耗时逻辑挂在刷写线程上。
+ * <p>
+ * 指标 (tag name)：repo.writebehind.pending / .rejected / .batch.size / .flush{result}
+ *
+ * @param <T> 记录类型
+ * @author ThrivingSoftwood
+ * @since 2026-10-18
+ */
+public class WriteBehindBuffer<T> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindBuffer.class);
+
+    private final String name;
+
+    private final BatchWriter<T> writer;
+
+    private final BlockingQueue<Pending<T>> queue;
+
+    private final int maxBatchSize;
+
+    private final long flushIntervalNanos;
+
+    private final Duration offerTimeout;
+
+    private final Thread flusher;
+
+    private final Counter rejected;
+
+    private final DistributionSummary batchSize;
+
+    private final Timer flushSuccess;
+
+    private final Timer flushFailure;
+
+    private volatile boolean running = true;
+
+    /**
+     * @param name 名称，用于线程名与指标 tag
+     * @param writer 批量写入器
+     * @param capacity 队列容量，即最多在内存中滞留的记录数
+     * @param maxBatchSize 单批最大记录数
+     * @param flushInterval 最早一条记录的最长滞留时间
+     * @param offerTimeout 队列满时调用方的最长等待时间
+     * @param registry 指标注册表
+     */
+    public WriteBehindBuffer(String name, BatchWriter<T> writer, int capacity, int maxBatchSize,
+        Duration flushInterval, Duration offerTimeout, MeterRegistry registry) {
+        this.name = name;
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = Math.max(1, Math.min(maxBatchSize, capacity));
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.offerTimeout = offerTimeout;
+
+        Gauge.builder("repo.writebehind.pending", queue, BlockingQueue::size).description("等待刷写的记录数")
+            .tag("name", name).register(registry);
+        this.rejected = Counter.builder("repo.writebehind.rejected").description("因队列已满被拒绝的写入次数")
+            .tag("name", name).register(registry);
+        this.batchSize = DistributionSummary.builder("repo.writebehind.batch.size").description("每批写入的记录数")
+            .tag("name", name).register(registry);
+        this.flushSuccess = Timer.builder("repo.writebehind.flush").description("批量写入耗时").tag("name", name)
+            .tag("result", "success").register(registry);
+        this.flushFailure = Timer.builder("repo.writebehind.flush").description("批量写入耗时").tag("name", name)
+            .tag("result", "failure").register(registry);
+
+        // 刷写线程绝大部分时间阻塞在 JDBC 上，使用虚拟线程即可
+        this.flusher = Thread.ofVirtual().name("write-behind-" + name).start(this::flushLoop);
+    }
+
+    /**
+     * 提交一行写入
+     *
+     * @param row 记录
+     * @return 所在批次提交成功后完成的 future
+     * @throws TaskRejectedException 队列在 offerTimeout 内仍无空位，或缓冲已关闭
+     */
+    public CompletableFuture<Void> write(T row) {
+        Pending<T> pending = new Pending<>(row, new CompletableFuture<>());
+        boolean accepted;
+        try {
+            accepted = running && queue.offer(pending, offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+        if (!accepted) {
+            rejected.increment();
+            throw new TaskRejectedException("Write-behind buffer '" + name + "' is full",
+                new AsyncRejectedException("write-behind-" + name, AsyncRejectedException.Reason.QUEUE_FULL,
+                    offerTimeout));
+        }
+        return pending.future();
+    }
+
+    /**
+     * 停止接收新写入，并等待队列中剩余记录刷写完毕
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        flusher.join();
+        // 与 close() 并发的 write() 可能在刷写线程退出后才入队，这里补刷一次
+        List<Pending<T>> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        if (!leftovers.isEmpty()) {
+            flush(leftovers);
+        }
+        logger.info("✍️ Write-behind buffer [{}] closed.", name);
+    }
+
+    private void flushLoop() {
+        List<Pending<T>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 刷写线程不响应中断退出，只有 close() 才能结束循环；已从队列取出的记录照常刷写，避免丢失已确认入队的记录
+                logger.warn("⚠️ Write-behind buffer [{}] flusher interrupted, keep draining.", name);
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 攒一批记录：等到第一条后，继续收集直到攒满 maxBatchSize 或第一条已等待 flushInterval
+     */
+    private void collect(List<Pending<T>> batch) throws InterruptedException {
+        Pending<T> first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        // 以本批最早一条记录的入队时间为准，保证任何记录的滞留时间都不超过 flushInterval
+        long deadline = first.enqueuedAt() + flushIntervalNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0 || !running) {
+                return;
+            }
+            Pending<T> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<Pending<T>> batch) {
+        List<T> rows = new ArrayList<>(batch.size());
+        for (Pending<T> pending : batch) {
+            rows.add(pending.row());
+        }
+        batchSize.record(rows.size());
+
+        long start = System.nanoTime();
+        try {
+            writer.write(rows);
+            flushSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            for (Pending<T> pending : batch) {
+                pending.future().complete(null);
+            }
+        } catch (Exception e) {
+            flushFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            logger.error("❌ Write-behind buffer [{}] failed to flush {} rows", name, rows.size(), e);
+            for (Pending<T> pending : batch) {
+                pending.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 排队中的一行写入
+     */
+    private record Pending<T>(T row, CompletableFuture<Void> future, long enqueuedAt) {
+
+        private Pending(T row, CompletableFuture<Void> future) {
+            this(row, future, System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package thriving.softwood.simple.repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import thriving.softwood.common.framework.component.exception.AsyncRejectedException;
+
+class WriteBehindBufferTests {
+
+    private static final String INSERT = "INSERT INTO t_user (username, age) VALUES (?, ?)";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private JdbcDataSource dataSource;
+
+    private JdbcBatchWriter<User> writer;
+
+    @BeforeEach
+    void createTable() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:write-behind;DB_CLOSE_DELAY=-1");
+        execute("CREATE TABLE t_user (id BIGINT AUTO_INCREMENT PRIMARY KEY, username VARCHAR(32) NOT NULL UNIQUE, "
+            + "age INT NOT NULL)");
+        writer = new JdbcBatchWriter<>(dataSource, INSERT, (statement, user) -> {
+            statement.setString(1, user.username());
+            statement.setInt(2, user.age());
+        });
+    }
+
+    @AfterEach
+    void dropTable() throws SQLException {
+        execute("DROP TABLE t_user");
+    }
+
+    @Test
+    void fullBatchFlushesWithoutWaitingForTheInterval() throws Exception {
+        try (WriteBehindBuffer<User> buffer = new WriteBehindBuffer<>("size", writer, 100, 10, Duration.ofHours(1),
+            Duration.ofSeconds(1), registry)) {
+            List<CompletableFuture<Void>> futures = writeUsers(buffer, 10);
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+            assertThat(countRows()).isEqualTo(10);
+            assertThat(registry.get("repo.writebehind.batch.size").summary().count()).isEqualTo(1);
+            assertThat(registry.get("repo.writebehind.batch.size").summary().max()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    void partialBatchFlushesOnceTheOldestRowHasWaitedTheInterval() throws Exception {
+        try (WriteBehindBuffer<User> buffer = new WriteBehindBuffer<>("time", writer, 100, 100,
+            Duration.ofMillis(300), Duration.ofSeconds(1), registry)) {
+            long start = System.nanoTime();
+            List<CompletableFuture<Void>> futures = writeUsers(buffer, 3);
+
+            // 未攒满且未到 flushInterval，调用方尚未得到确认
+            assertThat(futures).noneMatch(CompletableFuture::isDone);
+            assertThat(countRows()).isZero();
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+            assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(250).toNanos());
+            assertThat(countRows()).isEqualTo(3);
+            assertThat(registry.get("repo.writebehind.batch.size").summary().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void eachCallerIsCompletedByItsOwnBatch() throws Exception {
+        try (WriteBehindBuffer<User> buffer = new WriteBehindBuffer<>("callers", writer, 100, 2,
+            Duration.ofHours(1), Duration.ofSeconds(1), registry)) {
+            CompletableFuture<Void> first = buffer.write(new User("user-0", 20));
+            CompletableFuture<Void> second = buffer.write(new User("user-1", 21));
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+
+            // 第三条所在批次未攒满，只在 close() 补刷时完成
+            CompletableFuture<Void> third = buffer.write(new User("user-2", 22));
+            assertThat(third).isNotDone();
+            assertThat(countRows()).isEqualTo(2);
+
+            buffer.close();
+
+            assertThat(third).isCompletedWithValue(null);
+            assertThat(countRows()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void failedBatchFailsEveryCallerAndRollsBack() throws Exception {
+        try (WriteBehindBuffer<User> buffer = new WriteBehindBuffer<>("failure", writer, 100, 3,
+            Duration.ofHours(1), Duration.ofSeconds(1), registry)) {
+            CompletableFuture<Void> alice = buffer.write(new User("alice", 20));
+            CompletableFuture<Void> bob = buffer.write(new User("bob", 21));
+            CompletableFuture<Void> duplicate = buffer.write(new User("alice", 22));
+
+            for (CompletableFuture<Void> future : List.of(alice, bob, duplicate)) {
+                assertThatExceptionOfType(CompletionException.class).isThrownBy(future::join)
+                    .withCauseInstanceOf(SQLException.class);
+            }
+            // 前两行虽然合法，但与重复行同处一个事务，一并回滚
+            assertThat(countRows()).isZero();
+            assertThat(registry.get("repo.writebehind.flush").tag("result", "failure").timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void writeIsRejectedWhenTheQueueStaysFull() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BatchWriter<User> blocking = rows -> {
+            writing.countDown();
+            release.await();
+            writer.write(rows);
+        };
+
+        try (WriteBehindBuffer<User> buffer = new WriteBehindBuffer<>("full", blocking, 1, 1, Duration.ofHours(1),
+            Duration.ofMillis(50), registry)) {
+            // 第一条被刷写线程取走并阻塞在写入中，第二条占满容量为 1 的队列
+            CompletableFuture<Void> inFlight = buffer.write(new User("user-0", 20));
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<Void> queued = buffer.write(new User("user-1", 21));
+
+            assertThatExceptionOfType(TaskRejectedException.class)
+                .isThrownBy(() -> buffer.write(new User("user-2", 22)))
+                .havingCause()
+                .isInstanceOfSatisfying(AsyncRejectedException.class,
+                    e -> assertThat(e.getReason()).isEqualTo(AsyncRejectedException.Reason.QUEUE_FULL));
+            assertThat(registry.get("repo.writebehind.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            inFlight.get(5, TimeUnit.SECONDS);
+            queued.get(5, TimeUnit.SECONDS);
+            assertThat(countRows()).isEqualTo(2);
+        }
+    }
+
+    private static List<CompletableFuture<Void>> writeUsers(WriteBehindBuffer<User> buffer, int count) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(buffer.write(new User("user-" + i, 20 + i)));
+        }
+        return futures;
+    }
+
+    private int countRows() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM t_user")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private record User(String username, int age) {}
+}